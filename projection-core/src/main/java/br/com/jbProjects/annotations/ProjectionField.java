@@ -31,4 +31,13 @@ public @interface ProjectionField {
      */
     Class<? extends ProjectionSelectOperatorHandler> selectHandler() default DefaultSelectOperatorHandler.class;
 
+    /**
+     * Whether repeated {@code String} values of this field are deduplicated during mapping.
+     * <p>Useful for low-cardinality columns (state, city, status names): every row holding the
+     * same value references a single canonical instance instead of its own copy.</p>
+     * @return {@code true} to deduplicate the field values. Default is {@code false}
+     * @see br.com.jbProjects.mapper.ProjectionStringDictionary
+     */
+    boolean deduplicate() default false;
+
 }
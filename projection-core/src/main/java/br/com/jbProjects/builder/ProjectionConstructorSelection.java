@@ -0,0 +1,117 @@
+package br.com.jbProjects.builder;
+
+import br.com.jbProjects.metadata.model.FieldMetadata;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Selection;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.lang.reflect.RecordComponent;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Resolves constructor-expression selections for record projections.</p>
+ *
+ * <p>When every selection produced for a record projection is assignable to the matching
+ * component of its canonical constructor, the query can select
+ * {@code CriteriaBuilder.construct(recordClass, ...)} and Hibernate instantiates the records
+ * directly, without an intermediate row array and without the row mapper.
+ *
+ * <p>Compatibility is decided the first time a record is built and remembered per class,
+ * since the selection types only depend on the projection declaration:
+ * <ul>
+ *     <li>Selections must have a Java type assignable to the component type (primitives are boxed)</li>
+ *     <li>Unprojected components receive a {@code null} literal and must not be primitive</li>
+ * </ul>
+ * Records that do not match keep being mapped by their {@link br.com.jbProjects.mapper.ProjectionRowMapper}.
+ *
+ * @see ProjectionTypedQueryBuilder#buildProjection(br.com.jbProjects.processor.query.ProjectionQuery, jakarta.persistence.EntityManager)
+ */
+@Slf4j
+class ProjectionConstructorSelection {
+
+    private static final Map<Class<?>, Boolean> SUPPORTED = new ConcurrentHashMap<>();
+
+    private ProjectionConstructorSelection() {}
+
+    /**
+     * Checks whether the projection class may be selected through a constructor expression.
+     *
+     * @param projectionClass The projection class
+     * @return {@code false} for non-record classes and for records already known to be incompatible
+     */
+    static boolean isCandidate(Class<?> projectionClass) {
+        return projectionClass.isRecord() && !Boolean.FALSE.equals(SUPPORTED.get(projectionClass));
+    }
+
+    /**
+     * Checks whether the last resolution for the projection class produced a constructor expression.
+     *
+     * @param projectionClass The projection class
+     * @return {@code true} if the projection is selected through a constructor expression
+     */
+    static boolean isSupported(Class<?> projectionClass) {
+        return Boolean.TRUE.equals(SUPPORTED.get(projectionClass));
+    }
+
+    /**
+     * Resolves the constructor arguments of the record, in canonical constructor order.
+     *
+     * @param recordClass     The record projection class
+     * @param fields          The projection fields, in the same order as {@code selections}
+     * @param selections      The selections produced for the projection fields
+     * @param criteriaBuilder The criteria builder used to create {@code null} literals
+     * @return The constructor arguments, or {@code null} if the selections do not match the constructor
+     */
+    static Selection<?>[] arguments(Class<?> recordClass, List<FieldMetadata> fields, Selection<?>[] selections, CriteriaBuilder criteriaBuilder) {
+        RecordComponent[] components = recordClass.getRecordComponents();
+        Selection<?>[] arguments = new Selection<?>[components.length];
+
+        for (int i = 0; i < components.length; i++) {
+            RecordComponent component = components[i];
+            Class<?> componentType = ClassUtils.primitiveToWrapper(component.getType());
+            int position = indexOf(fields, component.getName());
+
+            if (position < 0) {
+                if (component.getType().isPrimitive()) {
+                    return unsupported(recordClass, "component '" + component.getName() + "' is primitive and not projected");
+                }
+                arguments[i] = criteriaBuilder.nullLiteral(componentType);
+                continue;
+            }
+
+            Class<?> selectionType = selections[position].getJavaType();
+            if (selectionType == null || !componentType.isAssignableFrom(ClassUtils.primitiveToWrapper(selectionType))) {
+                return unsupported(
+                        recordClass,
+                        "component '" + component.getName() + "' expects " + componentType.getSimpleName()
+                                + " but selection produces " + (selectionType == null ? "unknown type" : selectionType.getSimpleName())
+                );
+            }
+
+            arguments[i] = selections[position];
+        }
+
+        SUPPORTED.put(recordClass, true);
+        return arguments;
+    }
+
+    private static Selection<?>[] unsupported(Class<?> recordClass, String reason) {
+        if (SUPPORTED.put(recordClass, false) == null) {
+            log.debug("Constructor selection disabled for {}: {}", recordClass.getSimpleName(), reason);
+        }
+        return null;
+    }
+
+    private static int indexOf(List<FieldMetadata> fields, String name) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).projectionFieldName().equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
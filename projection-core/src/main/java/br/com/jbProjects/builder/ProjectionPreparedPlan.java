@@ -0,0 +1,100 @@
+package br.com.jbProjects.builder;
+
+import br.com.jbProjects.processor.filter.ProjectionCompoundFilter;
+import br.com.jbProjects.processor.filter.ProjectionFilter;
+import br.com.jbProjects.processor.filter.ProjectionFilterExpression;
+import br.com.jbProjects.processor.filter.ProjectionInListPadding;
+import br.com.jbProjects.processor.filter.ProjectionParameter;
+import br.com.jbProjects.processor.query.PreparedProjectionQuery;
+import br.com.jbProjects.processor.query.ProjectionQuery;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Execution state of a {@link PreparedProjectionQuery} kept by {@link ProjectionQueryPlanCache}.</p>
+ *
+ * <p>The template of the prepared query is read once, and its {@link ProjectionQueryPlan} is
+ * created once per selection, so an execution of the prepared query neither copies the
+ * template nor parameterizes it again: it only binds the argument values.
+ *
+ * <p>Plans are kept for the {@code EntityManagerFactory} the state was created with; a query
+ * executed on another factory is planned on every execution.
+ *
+ * @param <FROM> The source entity type
+ * @param <TO>   The target projection type
+ */
+final class ProjectionPreparedPlan<FROM, TO> {
+
+    private final ProjectionQuery<FROM, TO> template;
+    private final Set<String> inListParameters;
+    private final Object entityManagerFactory;
+    private final Map<String, Optional<ProjectionQueryPlan<FROM, TO>>> plans = new ConcurrentHashMap<>();
+
+    /**
+     * Reads the template of a prepared query.
+     *
+     * @param preparedQuery        The prepared query
+     * @param entityManagerFactory The factory the criteria queries belong to
+     */
+    ProjectionPreparedPlan(PreparedProjectionQuery<FROM, TO> preparedQuery, Object entityManagerFactory) {
+        this.template = preparedQuery.template();
+        this.entityManagerFactory = entityManagerFactory;
+
+        Set<String> names = new HashSet<>();
+        template.getFilters().forEach(filter -> collectInListParameters(filter, names));
+        this.inListParameters = Set.copyOf(names);
+    }
+
+    /**
+     * Returns the template of the prepared query, which must not be modified.
+     *
+     * @return The template
+     */
+    ProjectionQuery<FROM, TO> template() {
+        return template;
+    }
+
+    /**
+     * Checks whether a parameter is the value of an {@code IN} or {@code NOT IN} filter.
+     *
+     * @param name The parameter name
+     * @return {@code true} if the parameter values are padded
+     * @see ProjectionInListPadding
+     */
+    boolean isInListParameter(String name) {
+        return inListParameters.contains(name);
+    }
+
+    /**
+     * Returns the plan of the template for a selection.
+     *
+     * @param entityManagerFactory The factory of the executing EntityManager
+     * @param selection            Identifies how the fields are combined into the query selection
+     * @return The plan, or {@code null} when the template cannot be cached
+     */
+    ProjectionQueryPlan<FROM, TO> plan(Object entityManagerFactory, String selection) {
+        if(entityManagerFactory != this.entityManagerFactory){
+            return ProjectionQueryPlan.of(template, entityManagerFactory, selection);
+        }
+
+        return plans.computeIfAbsent(selection, key -> Optional.ofNullable(ProjectionQueryPlan.of(template, entityManagerFactory, key))).orElse(null);
+    }
+
+    private static void collectInListParameters(ProjectionFilterExpression expression, Set<String> names) {
+        if(expression instanceof ProjectionCompoundFilter compound){
+            compound.filters().forEach(filter -> collectInListParameters(filter, names));
+            return;
+        }
+
+        if(expression instanceof ProjectionFilter filter
+                && filter.value() instanceof ProjectionParameter parameter
+                && ProjectionInListPadding.appliesTo(filter.operator())){
+            names.add(parameter.name());
+        }
+    }
+}
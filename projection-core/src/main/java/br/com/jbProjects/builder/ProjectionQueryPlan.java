@@ -0,0 +1,214 @@
+package br.com.jbProjects.builder;
+
+import br.com.jbProjects.processor.filter.CompoundOperator;
+import br.com.jbProjects.processor.filter.ProjectionCompoundFilter;
+import br.com.jbProjects.processor.filter.ProjectionFilter;
+import br.com.jbProjects.processor.filter.ProjectionFilterExpression;
+import br.com.jbProjects.processor.filter.ProjectionFilterOperatorProvider;
+import br.com.jbProjects.processor.filter.ProjectionParameter;
+import br.com.jbProjects.processor.filter.handler.AnyHandler;
+import br.com.jbProjects.processor.order.ProjectionOrder;
+import br.com.jbProjects.processor.query.ProjectionQuery;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Parameterized form of a {@link ProjectionQuery}, used by {@link ProjectionQueryPlanCache}.</p>
+ *
+ * <p>Every filter value of the original query is replaced by a {@link ProjectionParameter},
+ * numbered in the order the filters are visited, and the values are kept aside to be bound
+ * on execution. Filters whose value already is a named parameter are kept as they are. Two queries differing only by their filter values have equal {@link #key()}s
+ * and can share the same criteria query.
+ *
+ * @param key                The normalized shape of the query
+ * @param parameterizedQuery The query with parameters in place of the filter values
+ * @param values             The filter values, in parameter order
+ * @param <FROM>             The source entity type
+ * @param <TO>               The target projection type
+ */
+record ProjectionQueryPlan<FROM, TO>(
+        Key key,
+        ProjectionQuery<FROM, TO> parameterizedQuery,
+        List<Object> values
+) {
+
+    private static final String PARAMETER_PREFIX = "projectionParameter";
+
+    /**
+     * Creates the plan of a query, if its shape can be cached.
+     *
+     * <p>Queries with specifications, custom filter expressions, operators that do not support
+     * parameters, {@code null} values, empty collections or named parameters using the reserved
+     * {@code projectionParameter} prefix cannot be cached.
+     *
+     * @param projectionQuery      The query to parameterize
+     * @param entityManagerFactory The factory the criteria query belongs to
+     * @param selection            Identifies how the fields are combined into the query selection
+     * @param <FROM>               The source entity type
+     * @param <TO>                 The target projection type
+     * @return The plan, or {@code null} when the query cannot be cached
+     */
+    static <FROM, TO> ProjectionQueryPlan<FROM, TO> of(ProjectionQuery<FROM, TO> projectionQuery, Object entityManagerFactory, String selection) {
+        if(!projectionQuery.getSpecifications().isEmpty()){
+            return null;
+        }
+
+        List<Object> values = new ArrayList<>();
+        List<Object> filterShapes = new ArrayList<>();
+        List<ProjectionFilterExpression> filters = new ArrayList<>();
+        for (ProjectionFilterExpression filter : projectionQuery.getFilters()) {
+            ProjectionFilterExpression parameterized = parameterize(filter, filterShapes, values);
+            if(parameterized == null){
+                return null;
+            }
+            filters.add(parameterized);
+        }
+
+        ProjectionQuery<FROM, TO> parameterizedQuery = ProjectionQuery.fromTo(projectionQuery.fromClass(), projectionQuery.toClass());
+        parameterizedQuery.filter(filters.toArray(ProjectionFilterExpression[]::new));
+        projectionQuery.getOrders().forEach(order -> parameterizedQuery.order(order.path(), order.direction()));
+        if(projectionQuery.isDistinct()){
+            parameterizedQuery.distinct();
+        }
+
+        Key key = new Key(
+                entityManagerFactory,
+                selection,
+                projectionQuery.fromClass(),
+                projectionQuery.toClass(),
+                projectionQuery.isDistinct(),
+                projectionQuery.hasPaging(),
+                List.copyOf(projectionQuery.getOrders()),
+                filterShapes
+        );
+
+        return new ProjectionQueryPlan<>(key, parameterizedQuery, values);
+    }
+
+    /**
+     * Binds the filter values to the parameters of the query.
+     *
+     * <p>Named parameters of the original query are bound separately, from
+     * {@link ProjectionQuery#getParameters()}.
+     *
+     * @param typedQuery A query created from the criteria query of this plan
+     */
+    void bind(TypedQuery<?> typedQuery) {
+        for (int i = 0; i < values.size(); i++) {
+            setParameter(typedQuery, PARAMETER_PREFIX + i, values.get(i));
+        }
+    }
+
+    /**
+     * Binds a value to a parameter, converting collections bound to array parameters.
+     *
+     * @param typedQuery The query whose parameter is bound
+     * @param name       The parameter name
+     * @param value      The value to bind
+     * @see br.com.jbProjects.processor.filter.handler.AnyHandler
+     */
+    static void setParameter(TypedQuery<?> typedQuery, String name, Object value) {
+        if(value instanceof Collection<?> collection){
+            Class<?> parameterType = typedQuery.getParameter(name).getParameterType();
+            if(parameterType != null && parameterType.isArray()){
+                value = AnyHandler.toArray(collection, parameterType.getComponentType());
+            }
+        }
+        typedQuery.setParameter(name, value);
+    }
+
+    private static ProjectionFilterExpression parameterize(ProjectionFilterExpression expression, List<Object> shapes, List<Object> values) {
+        if(expression instanceof ProjectionFilter filter){
+            Object value = filter.value();
+            if(value == null || (value instanceof Collection<?> collection && collection.isEmpty())){
+                return null;
+            }
+
+            if(!ProjectionFilterOperatorProvider.getInstance().get(filter.operator()).supportsParameters()){
+                return null;
+            }
+
+            if(value instanceof ProjectionParameter named){
+                if(named.name().startsWith(PARAMETER_PREFIX)){
+                    return null;
+                }
+                shapes.add(new NamedParameterShape(filter.path(), filter.operator().toUpperCase(), named.name()));
+                return filter;
+            }
+
+            ProjectionParameter parameter = new ProjectionParameter(PARAMETER_PREFIX + values.size());
+            values.add(value);
+            shapes.add(new FilterShape(filter.path(), filter.operator().toUpperCase()));
+            return new ProjectionFilter(filter.path(), filter.operator(), parameter);
+        }
+
+        if(expression instanceof ProjectionCompoundFilter compound){
+            List<Object> childShapes = new ArrayList<>();
+            List<ProjectionFilterExpression> children = new ArrayList<>();
+            for (ProjectionFilterExpression child : compound.filters()) {
+                ProjectionFilterExpression parameterized = parameterize(child, childShapes, values);
+                if(parameterized == null){
+                    return null;
+                }
+                children.add(parameterized);
+            }
+
+            shapes.add(new CompoundShape(compound.operator(), childShapes));
+            return new ProjectionCompoundFilter(compound.operator(), children);
+        }
+
+        return null;
+    }
+
+    /**
+     * Normalized shape of a query.
+     *
+     * @param entityManagerFactory The factory the criteria query belongs to
+     * @param selection            How the fields are combined into the query selection
+     * @param fromClass            The source entity
+     * @param toClass              The target projection
+     * @param distinct             Whether the query is distinct
+     * @param paging               Whether the query is paged
+     * @param orders               The query orders
+     * @param filters              The shapes of the query filters
+     */
+    record Key(
+            Object entityManagerFactory,
+            String selection,
+            Class<?> fromClass,
+            Class<?> toClass,
+            boolean distinct,
+            boolean paging,
+            List<ProjectionOrder> orders,
+            List<Object> filters
+    ) {}
+
+    /**
+     * Shape of a single filter.
+     *
+     * @param path     The filter path
+     * @param operator The normalized operator
+     */
+    private record FilterShape(String path, String operator) {}
+
+    /**
+     * Shape of a filter whose value is a named {@link ProjectionParameter}, kept as is.
+     *
+     * @param path     The filter path
+     * @param operator The normalized operator
+     * @param name     The parameter name
+     */
+    private record NamedParameterShape(String path, String operator, String name) {}
+
+    /**
+     * Shape of a compound filter.
+     *
+     * @param operator The compound operator
+     * @param filters  The shapes of the combined filters
+     */
+    private record CompoundShape(CompoundOperator operator, List<Object> filters) {}
+}
@@ -0,0 +1,191 @@
+package br.com.jbProjects.builder;
+
+import br.com.jbProjects.processor.query.PreparedProjectionQuery;
+import jakarta.persistence.criteria.CriteriaQuery;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Cache of parameterized criteria queries, keyed by the shape of a {@link br.com.jbProjects.processor.query.ProjectionQuery}.</p>
+ *
+ * <p>Building a projection query resolves the selections, joins and predicates of the criteria
+ * tree, and Hibernate interprets that tree again on every execution. Queries that differ only
+ * by their filter values share the same shape:
+ * <ul>
+ *     <li>source entity and projection class</li>
+ *     <li>filter paths, operators and compound structure</li>
+ *     <li>orders, distinct flag and presence of paging</li>
+ * </ul>
+ * For each shape, the criteria query is built once with parameters in place of the filter
+ * values. Later executions reuse it and only bind the values, which also allows Hibernate to
+ * reuse its interpretation of the query.
+ *
+ * <p><b>Cacheable queries:</b>
+ * Queries with {@link br.com.jbProjects.processor.query.ProjectionSpecification}s, custom
+ * {@link br.com.jbProjects.processor.filter.ProjectionFilterExpression}s, operators whose handler
+ * does not {@linkplain br.com.jbProjects.processor.filter.handler.ProjectionFilterOperatorHandler#supportsParameters() support parameters},
+ * {@code null} values or empty collections are built on every execution and counted as
+ * {@linkplain #getBypasses() bypasses}.
+ *
+ * <p><b>Prepared queries:</b>
+ * The plan of a {@link PreparedProjectionQuery} is also kept, so its executions skip
+ * parameterizing the template and only bind their arguments.
+ *
+ * <p>The cache holds at most {@code maxSize} shapes and {@code maxSize} prepared queries; once
+ * full, new shapes are built on every execution. It is thread-safe.
+ *
+ * <p><b>Usage example:</b>
+ * <pre>{@code
+ * ProjectionQueryPlanCache planCache = processor.getPlanCache();
+ * log.info("Plan cache: {} hits, {} misses, {} shapes", planCache.getHits(), planCache.getMisses(), planCache.size());
+ * }</pre>
+ *
+ * @see ProjectionTypedQueryBuilder
+ */
+@Slf4j
+public class ProjectionQueryPlanCache {
+
+    /** Default maximum number of cached shapes. */
+    public static final int DEFAULT_MAX_SIZE = 512;
+
+    private final int maxSize;
+    private final Map<ProjectionQueryPlan.Key, CriteriaQuery<?>> criteriaQueries = new ConcurrentHashMap<>();
+    private final Map<PreparedProjectionQuery<?, ?>, ProjectionPreparedPlan<?, ?>> preparedPlans = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+
+    /**
+     * Creates a cache holding up to {@link #DEFAULT_MAX_SIZE} shapes.
+     */
+    public ProjectionQueryPlanCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a cache holding up to {@code maxSize} shapes.
+     *
+     * @param maxSize Maximum number of cached shapes
+     * @throws IllegalArgumentException if {@code maxSize} is not positive
+     */
+    public ProjectionQueryPlanCache(int maxSize) {
+        if(maxSize <= 0){
+            throw new IllegalArgumentException("Plan cache max size must be greater than zero: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached criteria query of the plan, building it on a miss.
+     *
+     * @param plan    The plan of the query being executed
+     * @param factory Builds the criteria query from {@link ProjectionQueryPlan#parameterizedQuery()}
+     * @param <R>     The query result type
+     * @return The parameterized criteria query
+     */
+    @SuppressWarnings("unchecked")
+    <R> CriteriaQuery<R> criteriaQuery(ProjectionQueryPlan<?, ?> plan, Supplier<CriteriaQuery<R>> factory) {
+        CriteriaQuery<?> cached = criteriaQueries.get(plan.key());
+        if(cached != null){
+            hits.increment();
+            log.debug("ProjectionQuery plan cache hit [to={}]", plan.key().toClass().getSimpleName());
+            return (CriteriaQuery<R>) cached;
+        }
+
+        misses.increment();
+        CriteriaQuery<R> criteriaQuery = factory.get();
+        if(criteriaQueries.size() < maxSize){
+            CriteriaQuery<?> previous = criteriaQueries.putIfAbsent(plan.key(), criteriaQuery);
+            if(previous != null){
+                return (CriteriaQuery<R>) previous;
+            }
+        }
+        log.debug("ProjectionQuery plan cache miss [to={}, cached shapes={}]", plan.key().toClass().getSimpleName(), criteriaQueries.size());
+        return criteriaQuery;
+    }
+
+    /**
+     * Returns the plan of a prepared query, reading its template on first use.
+     *
+     * @param preparedQuery        The prepared query being executed
+     * @param entityManagerFactory The factory of the executing EntityManager
+     * @param <FROM>               The source entity type
+     * @param <TO>                 The target projection type
+     * @return The prepared plan
+     */
+    @SuppressWarnings("unchecked")
+    <FROM, TO> ProjectionPreparedPlan<FROM, TO> preparedPlan(PreparedProjectionQuery<FROM, TO> preparedQuery, Object entityManagerFactory) {
+        ProjectionPreparedPlan<?, ?> cached = preparedPlans.get(preparedQuery);
+        if(cached != null){
+            return (ProjectionPreparedPlan<FROM, TO>) cached;
+        }
+
+        ProjectionPreparedPlan<FROM, TO> preparedPlan = new ProjectionPreparedPlan<>(preparedQuery, entityManagerFactory);
+        if(preparedPlans.size() < maxSize){
+            ProjectionPreparedPlan<?, ?> previous = preparedPlans.putIfAbsent(preparedQuery, preparedPlan);
+            if(previous != null){
+                return (ProjectionPreparedPlan<FROM, TO>) previous;
+            }
+        }
+        return preparedPlan;
+    }
+
+    /**
+     * Records a query that could not be cached.
+     */
+    void bypass() {
+        bypasses.increment();
+    }
+
+    /**
+     * Returns the number of executions that reused a cached criteria query.
+     *
+     * @return The number of hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of executions that had to build the criteria query of a cacheable shape.
+     *
+     * @return The number of misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of executions whose query cannot be cached.
+     *
+     * @return The number of bypasses
+     */
+    public long getBypasses() {
+        return bypasses.sum();
+    }
+
+    /**
+     * Returns the number of cached shapes.
+     *
+     * @return The number of cached criteria queries
+     */
+    public int size() {
+        return criteriaQueries.size();
+    }
+
+    /**
+     * Removes all cached criteria queries and prepared plans, and resets the counters.
+     */
+    public void clear() {
+        criteriaQueries.clear();
+        preparedPlans.clear();
+        hits.reset();
+        misses.reset();
+        bypasses.reset();
+    }
+}
@@ -1,5 +1,15 @@
 package br.com.jbProjects.builder;
 
+import br.com.jbProjects.mapper.ProjectionRowMapper;
+import br.com.jbProjects.mapper.ProjectionStringDictionary;
+import br.com.jbProjects.metadata.cache.ProjectionMetadataCache;
+import br.com.jbProjects.metadata.model.ProjectionMetadata;
+import br.com.jbProjects.processor.filter.ProjectionCompoundFilter;
+import br.com.jbProjects.processor.filter.ProjectionFilter;
+import br.com.jbProjects.processor.filter.ProjectionFilterExpression;
+import br.com.jbProjects.processor.filter.ProjectionInListPadding;
+import br.com.jbProjects.processor.filter.ProjectionParameter;
+import br.com.jbProjects.processor.query.PreparedProjectionQuery;
 import br.com.jbProjects.processor.query.ProjectionQuery;
 import br.com.jbProjects.processor.query.ProjectionSelectInfo;
 import br.com.jbProjects.processor.query.ProjectionSpecification;
@@ -8,9 +18,21 @@ import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.*;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.tree.expression.SqmStar;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * Created by julio.bueno on 18/03/2026.
@@ -28,8 +50,16 @@ import java.util.List;
  *   <li>COUNT queries for pagination metadata</li>
  * </ul>
  *
- * <p><b>Thread Safety:</b> This class is stateless and thread-safe. It can be safely
- * shared across multiple threads or used as a singleton.
+ * <p><b>Plan cache:</b> Criteria queries are cached by query shape in a
+ * {@link ProjectionQueryPlanCache}: queries differing only by their filter values reuse the
+ * same parameterized criteria query and only bind the values on each execution.
+ *
+ * <p><b>IN list padding:</b> When created with a {@link ProjectionInListPadding}, the values of
+ * {@code IN} and {@code NOT IN} filters and collection parameters are padded before the query
+ * is built, so lists of similar sizes share the same SQL statement.
+ *
+ * <p><b>Thread Safety:</b> This class only holds the plan cache, which is thread-safe, and the
+ * immutable padding configuration. It can be safely shared across multiple threads or used as a singleton.
  *
  * <p><b>Usage Example:</b>
  * <pre>{@code
@@ -63,13 +93,55 @@ import java.util.List;
 @Slf4j
 public class ProjectionTypedQueryBuilder {
 
+    private final ProjectionQueryPlanCache planCache;
+    private final ProjectionInListPadding inListPadding;
+
+    /**
+     * Constructs a new ProjectionTypedQueryBuilder with a default {@link ProjectionQueryPlanCache}.
+     *
+     * <p>This builder can be reused for multiple query construction operations.
+     */
+    public ProjectionTypedQueryBuilder() {
+        this(new ProjectionQueryPlanCache());
+    }
+
     /**
-     * Constructs a new ProjectionTypedQueryBuilder.
+     * Constructs a new ProjectionTypedQueryBuilder with the given plan cache.
      *
-     * <p>This builder is stateless and can be reused for multiple query
-     * construction operations.
+     * @param planCache The plan cache, or {@code null} to build every query from scratch
      */
-    public ProjectionTypedQueryBuilder() {}
+    public ProjectionTypedQueryBuilder(ProjectionQueryPlanCache planCache) {
+        this(planCache, null);
+    }
+
+    /**
+     * Constructs a new ProjectionTypedQueryBuilder with the given plan cache and IN list padding.
+     *
+     * @param planCache The plan cache, or {@code null} to build every query from scratch
+     * @param inListPadding The IN list padding configuration, or {@code null} to bind lists as they are
+     */
+    public ProjectionTypedQueryBuilder(ProjectionQueryPlanCache planCache, ProjectionInListPadding inListPadding) {
+        this.planCache = planCache;
+        this.inListPadding = inListPadding;
+    }
+
+    /**
+     * Returns the plan cache of this builder.
+     *
+     * @return The plan cache, or {@code null} when caching is disabled
+     */
+    public ProjectionQueryPlanCache getPlanCache() {
+        return planCache;
+    }
+
+    /**
+     * Returns the IN list padding configuration of this builder.
+     *
+     * @return The padding configuration, or {@code null} when lists are not padded
+     */
+    public ProjectionInListPadding getInListPadding() {
+        return inListPadding;
+    }
 
     /**
      * Builds a JPA TypedQuery from the given ProjectionQuery.
@@ -107,12 +179,262 @@ public class ProjectionTypedQueryBuilder {
      * @return TypedQuery ready for execution
      * @throws IllegalArgumentException if projectionQuery or entityManager is null
      *
-     * @see #addSelects(ProjectionQuery, CriteriaBuilder, CriteriaQuery, Root)
+     * @see #addSelects(ProjectionQuery, CriteriaBuilder, CriteriaQuery, Root, BiFunction)
      * @see #applyFilters(ProjectionQuery, CriteriaBuilder, CriteriaQuery, Root)
      * @see #applyOrders(ProjectionQuery, CriteriaBuilder, CriteriaQuery, Root)
      * @see #applyPaging(ProjectionQuery, TypedQuery)
      */
     public <FROM, TO> TypedQuery<Tuple> build(ProjectionQuery<FROM, TO> projectionQuery, EntityManager entityManager){
+        return build(projectionQuery, entityManager, "tuple", Tuple.class, CriteriaBuilder::tuple);
+    }
+
+    /**
+     * Builds a JPA TypedQuery from the given ProjectionQuery returning positional rows.
+     *
+     * <p>The query is built exactly as in {@link #build(ProjectionQuery, EntityManager)},
+     * but each row is returned as an {@code Object[]} whose elements follow the order of
+     * {@link br.com.jbProjects.metadata.model.ProjectionMetadata#fields()}. This allows
+     * rows to be mapped by position, without alias lookups on a {@link Tuple}.
+     *
+     * <p><b>Usage Example:</b>
+     * <pre>{@code
+     * ProjectionMetadata metadata = ProjectionMetadataCache.get(CustomerDTO.class);
+     * List<Object[]> rows = builder.buildRows(query, entityManager).getResultList();
+     * CustomerDTO first = metadata.rowMapper(CustomerDTO.class).map(rows.get(0));
+     * }</pre>
+     *
+     * @param projectionQuery The projection query definition containing filters, orders, etc.
+     * @param entityManager The EntityManager to create the query from
+     * @param <FROM> The source entity type
+     * @param <TO> The target projection type
+     * @return TypedQuery returning one positional {@code Object[]} per row
+     *
+     * @see br.com.jbProjects.mapper.ProjectionRowMapper
+     */
+    public <FROM, TO> TypedQuery<Object[]> buildRows(ProjectionQuery<FROM, TO> projectionQuery, EntityManager entityManager){
+        return build(projectionQuery, entityManager, "rows", Object[].class, CriteriaBuilder::array);
+    }
+
+    /**
+     * Builds a JPA TypedQuery returning positional rows followed by the total number of rows.
+     *
+     * <p>The query is built as in {@link #buildRows(ProjectionQuery, EntityManager)}, with one
+     * more selection after the projection fields: {@code COUNT(*) OVER()}, the number of rows
+     * matching the filters before paging. Every row holds the same count, so the total of a
+     * paged query is read from its first row without a separate count query.
+     * <pre>
+     * SELECT c1_0.id, c1_0.name, count(*) over () FROM customer c1_0 WHERE ... OFFSET ? ROWS FETCH FIRST ? ROWS ONLY
+     * </pre>
+     *
+     * <p>The count only matches {@link #buildCountQuery(ProjectionQuery, EntityManager)} for queries
+     * that are neither distinct nor grouped, and requires a dialect supporting window functions
+     * (see {@link #supportsWindowCount(ProjectionQuery, EntityManager)}).
+     *
+     * <p><b>Hibernate-Specific:</b>
+     * The window function is created by Hibernate's criteria builder.
+     *
+     * @param projectionQuery The projection query definition containing filters, orders, etc.
+     * @param entityManager The EntityManager to create the query from
+     * @param <FROM> The source entity type
+     * @param <TO> The target projection type
+     * @return TypedQuery returning one positional {@code Object[]} per row, whose last element is the {@code Long} count
+     */
+    public <FROM, TO> TypedQuery<Object[]> buildRowsWithCount(ProjectionQuery<FROM, TO> projectionQuery, EntityManager entityManager){
+        return build(projectionQuery, entityManager, "rowsWithCount", Object[].class, (criteriaBuilder, selections) -> {
+            HibernateCriteriaBuilder hibernateCriteriaBuilder = (HibernateCriteriaBuilder) criteriaBuilder;
+
+            Selection<?>[] rowSelections = Arrays.copyOf(selections, selections.length + 1);
+            rowSelections[selections.length] = hibernateCriteriaBuilder.count(
+                    new SqmStar((NodeBuilder) criteriaBuilder),
+                    hibernateCriteriaBuilder.createWindow()
+            );
+            return criteriaBuilder.array(rowSelections);
+        });
+    }
+
+    /**
+     * Checks whether the total of a query can be read from {@code COUNT(*) OVER()}.
+     *
+     * @param projectionQuery The projection query definition
+     * @param entityManager The EntityManager the query is executed on
+     * @return {@code true} if the query is neither distinct nor grouped, and the dialect supports window functions
+     * @see #buildRowsWithCount(ProjectionQuery, EntityManager)
+     */
+    public boolean supportsWindowCount(ProjectionQuery<?, ?> projectionQuery, EntityManager entityManager){
+        if(projectionQuery.isDistinct() || ProjectionMetadataCache.get(projectionQuery.toClass()).hasAggregate()){
+            return false;
+        }
+
+        if(!(entityManager.getCriteriaBuilder() instanceof NodeBuilder nodeBuilder)){
+            return false;
+        }
+
+        return nodeBuilder.getSessionFactory().getJdbcServices().getDialect().supportsWindowFunctions();
+    }
+
+    /**
+     * Builds a JPA TypedQuery from the given ProjectionQuery returning projection instances.
+     *
+     * <p>The query is built as in {@link #buildRows(ProjectionQuery, EntityManager)} and the
+     * {@link ProjectionRowMapper} of the projection is registered as a
+     * Hibernate {@link org.hibernate.query.TupleTransformer}. Each row is mapped inside Hibernate's
+     * result loop, straight from the JDBC values to the projection instance, so neither
+     * {@link Tuple} instances nor an intermediate list of rows are kept in memory.
+     *
+     * <p><b>Record projections:</b> when the selection types match the canonical constructor
+     * of a record projection, the query selects a constructor expression instead
+     * ({@code CriteriaBuilder.construct}) and Hibernate instantiates the records directly.
+     * Records whose selections do not match (e.g. an {@code AvgHandler} producing {@code Double}
+     * for an {@code Integer} component) automatically fall back to the row mapper.
+     * <pre>
+     * SELECT new CustomerDTO(c1_0.id, c1_0.name, null) FROM Customer c1_0
+     * </pre>
+     *
+     * <p><b>Usage Example:</b>
+     * <pre>{@code
+     * List<CustomerDTO> customers = builder.buildProjection(query, entityManager).getResultList();
+     * }</pre>
+     *
+     * <p><b>Hibernate-Specific:</b>
+     * This method requires Hibernate as the JPA provider. The query is unwrapped to
+     * {@link org.hibernate.query.Query}, and the unwrap fails with a
+     * {@link jakarta.persistence.PersistenceException} with other providers.
+     *
+     * @param projectionQuery The projection query definition containing filters, orders, etc.
+     * @param entityManager The EntityManager to create the query from
+     * @param <FROM> The source entity type
+     * @param <TO> The target projection type
+     * @return TypedQuery returning one projection instance per row
+     *
+     * @see br.com.jbProjects.metadata.model.ProjectionMetadata#rowMapper(Class)
+     */
+    public <FROM, TO> TypedQuery<TO> buildProjection(ProjectionQuery<FROM, TO> projectionQuery, EntityManager entityManager){
+        return buildProjection(projectionQuery, entityManager, new ProjectionStringDictionary());
+    }
+
+    /**
+     * Builds a JPA TypedQuery from the given ProjectionQuery returning projection instances,
+     * deduplicating string values through the given dictionary.
+     *
+     * <p>Works as {@link #buildProjection(ProjectionQuery, EntityManager)}. When the query
+     * {@linkplain ProjectionQuery#deduplicateStrings() deduplicates strings} or the projection
+     * has fields annotated with {@code @ProjectionField(deduplicate = true)}, the values of those
+     * positions are canonicalised by {@code dictionary} before each row is mapped. Since
+     * constructor expressions are instantiated by Hibernate itself, deduplicating queries
+     * always map rows through the row mapper.
+     *
+     * <p>The dictionary is filled while the query results are read, so its counters can be
+     * inspected once the execution has finished.
+     *
+     * @param projectionQuery The projection query definition containing filters, orders, etc.
+     * @param entityManager The EntityManager to create the query from
+     * @param dictionary The dictionary of this execution
+     * @param <FROM> The source entity type
+     * @param <TO> The target projection type
+     * @return TypedQuery returning one projection instance per row
+     *
+     * @see ProjectionStringDictionary
+     */
+    public <FROM, TO> TypedQuery<TO> buildProjection(ProjectionQuery<FROM, TO> projectionQuery, EntityManager entityManager, ProjectionStringDictionary dictionary){
+        return buildProjection(projectionQuery, null, null, entityManager, dictionary);
+    }
+
+    /**
+     * Builds a JPA TypedQuery from a prepared query returning projection instances, binding
+     * the given parameter values.
+     *
+     * <p>Works as {@link #buildProjection(ProjectionQuery, EntityManager, ProjectionStringDictionary)}
+     * with the template of the prepared query. The plan of the template is kept by the
+     * {@link ProjectionQueryPlanCache}, so the template is neither copied nor parameterized
+     * again: each execution only binds {@code arguments}. Without a plan cache, the arguments
+     * are bound to a copy of the template.
+     *
+     * <p><b>Usage Example:</b>
+     * <pre>{@code
+     * List<CustomerDTO> active = builder.buildProjection(BY_STATUS, Map.of("status", "ACTIVE"), entityManager, new ProjectionStringDictionary())
+     *     .getResultList();
+     * }</pre>
+     *
+     * @param preparedQuery The prepared projection query
+     * @param arguments Values of the query parameters, by name
+     * @param entityManager The EntityManager to create the query from
+     * @param dictionary The dictionary of this execution
+     * @param <FROM> The source entity type
+     * @param <TO> The target projection type
+     * @return TypedQuery returning one projection instance per row
+     * @throws IllegalArgumentException if a parameter has no value, or a value does not match any parameter
+     *
+     * @see br.com.jbProjects.processor.query.PreparedProjectionQuery
+     */
+    public <FROM, TO> TypedQuery<TO> buildProjection(PreparedProjectionQuery<FROM, TO> preparedQuery, Map<String, ?> arguments, EntityManager entityManager, ProjectionStringDictionary dictionary){
+        if(planCache == null){
+            return buildProjection(preparedQuery.bind(arguments), entityManager, dictionary);
+        }
+
+        preparedQuery.checkArguments(arguments);
+        ProjectionPreparedPlan<FROM, TO> preparedPlan = planCache.preparedPlan(preparedQuery, entityManager.getEntityManagerFactory());
+        return buildProjection(preparedPlan.template(), preparedPlan, arguments, entityManager, dictionary);
+    }
+
+    private <FROM, TO> TypedQuery<TO> buildProjection(
+            ProjectionQuery<FROM, TO> projectionQuery,
+            ProjectionPreparedPlan<FROM, TO> preparedPlan,
+            Map<String, ?> arguments,
+            EntityManager entityManager,
+            ProjectionStringDictionary dictionary
+    ){
+        Class<TO> projectionClass = projectionQuery.toClass();
+        ProjectionMetadata metadata = ProjectionMetadataCache.get(projectionClass);
+
+        int[] deduplicatedPositions = ProjectionStringDictionary.positions(metadata.fields(), projectionQuery.isDeduplicateStrings());
+        if(deduplicatedPositions.length > 0){
+            ProjectionRowMapper<TO> rowMapper = ProjectionStringDictionary.withDictionary(metadata.rowMapper(projectionClass), dictionary, deduplicatedPositions);
+            return withRowMapper(build(projectionQuery, preparedPlan, arguments, entityManager, "rows", Object[].class, CriteriaBuilder::array), rowMapper);
+        }
+
+        if(!ProjectionConstructorSelection.isCandidate(projectionClass)){
+            return withRowMapper(build(projectionQuery, preparedPlan, arguments, entityManager, "rows", Object[].class, CriteriaBuilder::array), metadata.rowMapper(projectionClass));
+        }
+
+        TypedQuery<Object> typedQuery = build(projectionQuery, preparedPlan, arguments, entityManager, "projection", Object.class, (criteriaBuilder, selections) -> {
+            Selection<?>[] constructorArguments = ProjectionConstructorSelection.arguments(projectionClass, metadata.fields(), selections, criteriaBuilder);
+            return constructorArguments != null ? criteriaBuilder.construct(projectionClass, constructorArguments) : criteriaBuilder.array(selections);
+        });
+
+        if(ProjectionConstructorSelection.isSupported(projectionClass)){
+            @SuppressWarnings("unchecked")
+            TypedQuery<TO> constructorQuery = (TypedQuery<TO>) (TypedQuery<?>) typedQuery;
+            return constructorQuery;
+        }
+
+        return withRowMapper(typedQuery, metadata.rowMapper(projectionClass));
+    }
+
+    private <TO> TypedQuery<TO> withRowMapper(TypedQuery<?> rowsQuery, ProjectionRowMapper<TO> rowMapper){
+        @SuppressWarnings("unchecked")
+        org.hibernate.query.Query<Object> hibernateQuery = rowsQuery.unwrap(org.hibernate.query.Query.class);
+        return hibernateQuery.setTupleTransformer((tuple, aliases) -> rowMapper.map(tuple));
+    }
+
+    private <FROM, TO, R> TypedQuery<R> build(
+            ProjectionQuery<FROM, TO> projectionQuery,
+            EntityManager entityManager,
+            String selection,
+            Class<R> resultClass,
+            BiFunction<CriteriaBuilder, Selection<?>[], Selection<? extends R>> selectionFactory
+    ){
+        return build(projectionQuery, null, null, entityManager, selection, resultClass, selectionFactory);
+    }
+
+    private <FROM, TO, R> TypedQuery<R> build(
+            ProjectionQuery<FROM, TO> projectionQuery,
+            ProjectionPreparedPlan<FROM, TO> preparedPlan,
+            Map<String, ?> arguments,
+            EntityManager entityManager,
+            String selection,
+            Class<R> resultClass,
+            BiFunction<CriteriaBuilder, Selection<?>[], Selection<? extends R>> selectionFactory
+    ){
         log.info(
                 "Creating Query [from={}, to={}, distinct={}, paging={}]",
                 projectionQuery.fromClass().getSimpleName(),
@@ -121,21 +443,226 @@ public class ProjectionTypedQueryBuilder {
                 projectionQuery.hasPaging()
         );
 
-        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
-        Root<FROM> from = criteriaQuery.from(projectionQuery.fromClass());
+        Function<ProjectionQuery<FROM, TO>, CriteriaQuery<R>> criteriaFactory = query -> {
+            CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+            CriteriaQuery<R> criteriaQuery = criteriaBuilder.createQuery(resultClass);
+            Root<FROM> from = criteriaQuery.from(query.fromClass());
+
+            criteriaQuery.distinct(query.isDistinct());
+            addSelects(query, criteriaBuilder, criteriaQuery, from, selectionFactory);
+            applyFilters(query, criteriaBuilder, criteriaQuery, from);
+            applyOrders(query, criteriaBuilder, criteriaQuery, from);
+            return criteriaQuery;
+        };
 
-        criteriaQuery.distinct(projectionQuery.isDistinct());
-        addSelects(projectionQuery, criteriaBuilder, criteriaQuery, from);
-        applyFilters(projectionQuery, criteriaBuilder, criteriaQuery, from);
-        applyOrders(projectionQuery, criteriaBuilder, criteriaQuery, from);
+        TypedQuery<R> typedQuery = preparedPlan != null
+                ? createPreparedTypedQuery(preparedPlan, arguments, entityManager, selection, criteriaFactory)
+                : createTypedQuery(projectionQuery, entityManager, selection, criteriaFactory);
 
-        TypedQuery<Tuple> typedQuery = entityManager.createQuery(criteriaQuery);
         applyComment(typedQuery, projectionQuery);
         applyPaging(projectionQuery, typedQuery);
         return typedQuery;
     }
 
+    /**
+     * Creates the TypedQuery of a projection query, reusing a cached criteria query when possible.
+     *
+     * <p>When the query shape is cacheable, {@code criteriaFactory} receives the parameterized
+     * query of its {@link ProjectionQueryPlan} and is only invoked on a cache miss; the filter
+     * values are then bound to the returned query. Otherwise, the criteria query is built from
+     * {@code projectionQuery} itself. In both cases, the values of named parameters are bound
+     * from {@link ProjectionQuery#getParameters()}.
+     *
+     * @param projectionQuery The projection query definition
+     * @param entityManager The EntityManager to create the query from
+     * @param selection Identifies how the fields are combined into the query selection
+     * @param criteriaFactory Builds the criteria query of a projection query
+     * @param <FROM> The source entity type
+     * @param <TO> The target projection type
+     * @param <R> The query result type
+     * @return TypedQuery ready for paging and execution
+     */
+    private <FROM, TO, R> TypedQuery<R> createTypedQuery(
+            ProjectionQuery<FROM, TO> projectionQuery,
+            EntityManager entityManager,
+            String selection,
+            Function<ProjectionQuery<FROM, TO>, CriteriaQuery<R>> criteriaFactory
+    ){
+        projectionQuery = padInLists(projectionQuery);
+        ProjectionQueryPlan<FROM, TO> plan = planCache == null ? null : ProjectionQueryPlan.of(projectionQuery, entityManager.getEntityManagerFactory(), selection);
+        if(plan == null){
+            if(planCache != null){
+                planCache.bypass();
+            }
+            return bindParameters(projectionQuery, entityManager.createQuery(criteriaFactory.apply(projectionQuery)));
+        }
+
+        CriteriaQuery<R> criteriaQuery = planCache.criteriaQuery(plan, () -> criteriaFactory.apply(plan.parameterizedQuery()));
+        TypedQuery<R> typedQuery = createSharedCriteriaQuery(entityManager, criteriaQuery);
+        plan.bind(typedQuery);
+        return bindParameters(projectionQuery, typedQuery);
+    }
+
+    /**
+     * Creates the TypedQuery of a prepared query, binding its arguments.
+     *
+     * <p>The plan of the template is read from {@code preparedPlan}, so the template is neither
+     * copied nor parameterized again. The values of {@code IN} and {@code NOT IN} parameters are
+     * padded; the literal values of the template are constant and kept as they are.
+     *
+     * @param preparedPlan The plan of the prepared query
+     * @param arguments Values of the query parameters, by name
+     * @param entityManager The EntityManager to create the query from
+     * @param selection Identifies how the fields are combined into the query selection
+     * @param criteriaFactory Builds the criteria query of a projection query
+     * @param <FROM> The source entity type
+     * @param <TO> The target projection type
+     * @param <R> The query result type
+     * @return TypedQuery ready for paging and execution
+     */
+    private <FROM, TO, R> TypedQuery<R> createPreparedTypedQuery(
+            ProjectionPreparedPlan<FROM, TO> preparedPlan,
+            Map<String, ?> arguments,
+            EntityManager entityManager,
+            String selection,
+            Function<ProjectionQuery<FROM, TO>, CriteriaQuery<R>> criteriaFactory
+    ){
+        ProjectionQueryPlan<FROM, TO> plan = preparedPlan.plan(entityManager.getEntityManagerFactory(), selection);
+
+        TypedQuery<R> typedQuery;
+        if(plan == null){
+            planCache.bypass();
+            typedQuery = entityManager.createQuery(criteriaFactory.apply(preparedPlan.template()));
+        }else{
+            typedQuery = createSharedCriteriaQuery(entityManager, planCache.criteriaQuery(plan, () -> criteriaFactory.apply(plan.parameterizedQuery())));
+            plan.bind(typedQuery);
+        }
+
+        arguments.forEach((name, value) -> {
+            boolean padded = inListPadding != null && value instanceof Collection<?> && preparedPlan.isInListParameter(name);
+            ProjectionQueryPlan.setParameter(typedQuery, name, padded ? inListPadding.pad((Collection<?>) value) : value);
+        });
+        return typedQuery;
+    }
+
+    /**
+     * Pads the values of the IN lists of a projection query.
+     *
+     * <p>Filter values and named parameter values that need padding are replaced in a copy of
+     * the query; when none does, the query itself is returned. Only the named parameters
+     * referenced by {@code IN} and {@code NOT IN} filters are padded: collections bound to
+     * other operators, such as {@code ANY} arrays, or read by custom select handlers, are
+     * bound as they are.
+     *
+     * @param projectionQuery The projection query definition
+     * @param <FROM> The source entity type
+     * @param <TO> The target projection type
+     * @return The query with padded IN lists
+     */
+    private <FROM, TO> ProjectionQuery<FROM, TO> padInLists(ProjectionQuery<FROM, TO> projectionQuery){
+        if(inListPadding == null){
+            return projectionQuery;
+        }
+
+        List<ProjectionFilterExpression> filters = new ArrayList<>(projectionQuery.getFilters().size());
+        Set<String> inListParameters = new HashSet<>();
+        boolean padded = false;
+        for (ProjectionFilterExpression filter : projectionQuery.getFilters()) {
+            ProjectionFilterExpression paddedFilter = padInLists(filter, inListParameters);
+            padded |= paddedFilter != filter;
+            filters.add(paddedFilter);
+        }
+
+        Map<String, Object> parameters = new HashMap<>(projectionQuery.getParameters());
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            if(inListParameters.contains(parameter.getKey()) && parameter.getValue() instanceof Collection<?> values){
+                Collection<?> paddedValues = inListPadding.pad(values);
+                padded |= paddedValues != values;
+                parameter.setValue(paddedValues);
+            }
+        }
+
+        if(!padded){
+            return projectionQuery;
+        }
+
+        log.trace("Padding IN lists [from={}, to={}]", projectionQuery.fromClass().getSimpleName(), projectionQuery.toClass().getSimpleName());
+        ProjectionQuery<FROM, TO> paddedQuery = projectionQuery.copy();
+        paddedQuery.getFilters().clear();
+        paddedQuery.getFilters().addAll(filters);
+        paddedQuery.getParameters().putAll(parameters);
+        return paddedQuery;
+    }
+
+    private ProjectionFilterExpression padInLists(ProjectionFilterExpression expression, Set<String> inListParameters){
+        if(expression instanceof ProjectionFilter filter && ProjectionInListPadding.appliesTo(filter.operator())){
+            if(filter.value() instanceof ProjectionParameter parameter){
+                inListParameters.add(parameter.name());
+            }else if(filter.value() instanceof Collection<?> values){
+                Collection<?> paddedValues = inListPadding.pad(values);
+                return paddedValues == values ? filter : new ProjectionFilter(filter.path(), filter.operator(), paddedValues);
+            }
+            return filter;
+        }
+
+        if(expression instanceof ProjectionCompoundFilter compound){
+            List<ProjectionFilterExpression> children = new ArrayList<>(compound.filters().size());
+            boolean padded = false;
+            for (ProjectionFilterExpression child : compound.filters()) {
+                ProjectionFilterExpression paddedChild = padInLists(child, inListParameters);
+                padded |= paddedChild != child;
+                children.add(paddedChild);
+            }
+            return padded ? new ProjectionCompoundFilter(compound.operator(), children) : compound;
+        }
+
+        return expression;
+    }
+
+    /**
+     * Binds the named parameter values of a projection query.
+     *
+     * @param projectionQuery The projection query holding the values
+     * @param typedQuery The query whose parameters are bound
+     * @param <R> The query result type
+     * @return The same TypedQuery, for chaining
+     * @throws IllegalArgumentException if a value is bound to a parameter the query does not use
+     */
+    private <R> TypedQuery<R> bindParameters(ProjectionQuery<?, ?> projectionQuery, TypedQuery<R> typedQuery){
+        projectionQuery.getParameters().forEach((name, value) -> ProjectionQueryPlan.setParameter(typedQuery, name, value));
+        return typedQuery;
+    }
+
+    /**
+     * Creates a TypedQuery from a cached criteria query.
+     *
+     * <p>Cached criteria queries are never modified after being built, so Hibernate does not need
+     * to copy them (see {@code hibernate.criteria.copy_tree}). Creating the query without the copy
+     * lets Hibernate reuse its interpretation of the criteria tree across executions. With other
+     * JPA providers the query is created normally.
+     *
+     * @param entityManager The EntityManager to create the query from
+     * @param criteriaQuery The cached criteria query
+     * @param <R> The query result type
+     * @return TypedQuery created from the criteria query
+     */
+    private <R> TypedQuery<R> createSharedCriteriaQuery(EntityManager entityManager, CriteriaQuery<R> criteriaQuery){
+        SharedSessionContractImplementor session;
+        try{
+            session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        }catch (Exception e){
+            return entityManager.createQuery(criteriaQuery);
+        }
+
+        boolean copyTree = session.isCriteriaCopyTreeEnabled();
+        session.setCriteriaCopyTreeEnabled(false);
+        try{
+            return entityManager.createQuery(criteriaQuery);
+        }finally {
+            session.setCriteriaCopyTreeEnabled(copyTree);
+        }
+    }
+
     /**
      * Builds a COUNT query for pagination metadata.
      *
@@ -195,20 +722,21 @@ public class ProjectionTypedQueryBuilder {
                 projectionCount.isDistinct()
         );
 
-        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery(Long.class);
-        Root<FROM> from = criteriaQuery.from(projectionCount.fromClass());
-
-        addSelects(projectionCount, criteriaBuilder, criteriaQuery, from);
-        applyFilters(projectionCount, criteriaBuilder, criteriaQuery, from);
+        return createTypedQuery(projectionCount, entityManager, "count", query -> {
+            CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+            CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery(Long.class);
+            Root<FROM> from = criteriaQuery.from(query.fromClass());
 
-        criteriaQuery.multiselect(List.of());
-        criteriaQuery.groupBy(List.of());
+            addSelects(query, criteriaBuilder, criteriaQuery, from);
+            applyFilters(query, criteriaBuilder, criteriaQuery, from);
 
-        Expression<Long> countExpression = projectionCount.isDistinct() ? criteriaBuilder.countDistinct(from) : criteriaBuilder.count(from);
-        criteriaQuery.select(countExpression);
+            criteriaQuery.multiselect(List.of());
+            criteriaQuery.groupBy(List.of());
 
-        return entityManager.createQuery(criteriaQuery);
+            Expression<Long> countExpression = query.isDistinct() ? criteriaBuilder.countDistinct(from) : criteriaBuilder.count(from);
+            criteriaQuery.select(countExpression);
+            return criteriaQuery;
+        });
     }
 
     /**
@@ -250,6 +778,34 @@ public class ProjectionTypedQueryBuilder {
         criteriaQuery.groupBy(selectInfo.getGroupByFields());
     }
 
+    /**
+     * Adds field selections to the criteria query, combining them into a single selection.
+     *
+     * <p>Works as {@link #addSelects(ProjectionQuery, CriteriaBuilder, CriteriaQuery, Root)}, but the
+     * field selections are passed to {@code selectionFactory} to build the query selection
+     * (a tuple, a positional array or a constructor expression).
+     *
+     * @param projectionQuery The projection query definition
+     * @param criteriaBuilder JPA CriteriaBuilder
+     * @param criteriaQuery The criteria query being built
+     * @param from The root entity
+     * @param selectionFactory Combines the field selections into the query selection
+     * @param <FROM> The source entity type
+     * @param <TO> The target projection type
+     * @param <R> The query result type
+     */
+    private <FROM, TO, R> void addSelects(
+            ProjectionQuery<FROM, TO> projectionQuery,
+            CriteriaBuilder criteriaBuilder,
+            CriteriaQuery<R> criteriaQuery,
+            Root<?> from,
+            BiFunction<CriteriaBuilder, Selection<?>[], Selection<? extends R>> selectionFactory
+    ) {
+        ProjectionSelectInfo selectInfo = new ProjectionSelectInfo(projectionQuery, criteriaBuilder, from);
+        criteriaQuery.select(selectionFactory.apply(criteriaBuilder, selectInfo.getSelections()));
+        criteriaQuery.groupBy(selectInfo.getGroupByFields());
+    }
+
     /**
      * Applies all filters and specifications to the criteria query.
      *
@@ -315,7 +871,7 @@ public class ProjectionTypedQueryBuilder {
      * @see br.com.jbProjects.processor.order.ProjectionOrder
      * @see br.com.jbProjects.processor.order.OrderDirection
      */
-    private <TO, FROM> void applyOrders(ProjectionQuery<FROM, TO> projectionQuery, CriteriaBuilder criteriaBuilder, CriteriaQuery<Tuple> criteriaQuery, Root<FROM> from) {
+    private <TO, FROM> void applyOrders(ProjectionQuery<FROM, TO> projectionQuery, CriteriaBuilder criteriaBuilder, CriteriaQuery<?> criteriaQuery, Root<FROM> from) {
         List<Order> orders = projectionQuery
                 .getOrders()
                 .stream()
@@ -394,7 +950,7 @@ public class ProjectionTypedQueryBuilder {
      *
      * @see br.com.jbProjects.processor.query.ProjectionPaging
      */
-    private <FROM, TO> void applyPaging(ProjectionQuery<FROM, TO> projectionQuery, TypedQuery<Tuple> typedQuery) {
+    private <FROM, TO> void applyPaging(ProjectionQuery<FROM, TO> projectionQuery, TypedQuery<?> typedQuery) {
         if(projectionQuery.hasPaging()){
             int first = projectionQuery.getPaging().first();
             int size = projectionQuery.getPaging().size();
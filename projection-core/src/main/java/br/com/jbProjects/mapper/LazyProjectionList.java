@@ -0,0 +1,76 @@
+package br.com.jbProjects.mapper;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Read-only projection list backed by the raw positional rows of a query.</p>
+ *
+ * <p>Rows are only mapped to projection instances when an element is accessed, so
+ * {@link #size()}, {@link #isEmpty()} or reading the first elements of a large result
+ * do not pay for mapping every row.
+ *
+ * <p><b>Element caching:</b>
+ * <ul>
+ *     <li>With caching enabled, each row is mapped at most once and the same instance is
+ *     returned by subsequent {@link #get(int)} calls.</li>
+ *     <li>Without caching, a new instance is mapped on every access and only the raw rows are
+ *     retained.</li>
+ * </ul>
+ *
+ * <p>The list is unmodifiable. Concurrent reads are safe, but with caching enabled two threads
+ * reading the same index for the first time may each map their own instance.
+ *
+ * <p><b>Usage example:</b>
+ * <pre>{@code
+ * List<CustomerDTO> customers = processor.executeLazy(query, true);
+ * if (!customers.isEmpty()) {
+ *     CustomerDTO first = customers.get(0); // only this row is mapped
+ * }
+ * }</pre>
+ *
+ * @param <T> The projection type
+ *
+ * @see br.com.jbProjects.processor.ProjectionProcessor#executeLazy(br.com.jbProjects.processor.query.ProjectionQuery, boolean)
+ */
+public class LazyProjectionList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final List<Object[]> rows;
+    private final ProjectionRowMapper<T> rowMapper;
+    private final Object[] elements;
+
+    /**
+     * Creates a lazy list over the given rows.
+     *
+     * @param rows           Positional rows ordered as the projection fields
+     * @param rowMapper      Mapper used to create the projection instances
+     * @param cacheElements  {@code true} to keep mapped instances for subsequent accesses
+     */
+    public LazyProjectionList(List<Object[]> rows, ProjectionRowMapper<T> rowMapper, boolean cacheElements) {
+        this.rows = rows;
+        this.rowMapper = rowMapper;
+        this.elements = cacheElements ? new Object[rows.size()] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if(elements == null){
+            return rowMapper.map(rows.get(index));
+        }
+
+        Object element = elements[index];
+        if(element == null){
+            element = rowMapper.map(rows.get(index));
+            elements[index] = element;
+        }
+        return (T) element;
+    }
+
+    @Override
+    public int size() {
+        return rows.size();
+    }
+}
@@ -1,17 +1,18 @@
 package br.com.jbProjects.mapper;
 
-import br.com.jbProjects.util.ProjectionUtils;
+import br.com.jbProjects.metadata.cache.ProjectionMetadataCache;
+import br.com.jbProjects.metadata.model.FieldMetadata;
+import br.com.jbProjects.metadata.model.ProjectionMetadata;
 import jakarta.persistence.Tuple;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.RecordComponent;
-import java.util.Arrays;
 import java.util.List;
 
 /**
  * Created by julio.bueno on 21/11/2025.
  * <p>Class responsible for mapping JPA Tuples to projection objects (classes or records).</p>
+ *
+ * <p>The mapping itself is delegated to the {@link ProjectionRowMapper} compiled once
+ * per projection class and cached with its {@link ProjectionMetadata}.</p>
  */
 public class ProjectionMappers {
 
@@ -26,93 +27,32 @@ public class ProjectionMappers {
      * @return                      An instance of the projection object populated with data from the Tuples.
      */
     public static <T> T tupleToObject(Tuple tuple, Class<T> projectionObject){
-        if(projectionObject.isRecord()){
-            return tupleToRecord(tuple, projectionObject);
-        }
-
-        return tupleToClass(tuple, projectionObject);
+        ProjectionMetadata metadata = ProjectionMetadataCache.get(projectionObject);
+        return tupleToObject(tuple, metadata.fields(), metadata.rowMapper(projectionObject));
     }
 
     /**
-     * Maps a JPA Tuples to a projection class instance.
+     * Maps a JPA Tuples to a projection object using already resolved metadata.
      *
      * @param tuple                 JPA Tuples to be mapped.
-     * @param projectionClass       Class of the projection object.
+     * @param fields                Projection fields, used to read each tuple element by alias.
+     * @param rowMapper             Compiled mapper of the projection.
      * @param <T>                   Type of the projection object.
-     * @return                      An instance of the projection class populated with data from the Tuples.
+     * @return                      An instance of the projection object populated with data from the Tuples.
      */
-    private static <T> T tupleToClass(Tuple tuple, Class<T> projectionClass){
-        try{
-            T projectionInstance = projectionClass.getDeclaredConstructor().newInstance();
-            List<Field> fields = ProjectionUtils.getProjectionFieldsAnnotations(projectionClass);
-
-            for (var field : fields) {
-                field.setAccessible(true);
-                Object value = tuple.get(field.getName());
-                field.set(projectionInstance, value);
-            }
-
-            return projectionInstance;
-        } catch (Exception e) {
-            throw new RuntimeException("Error creating projection instance", e);
-        }
+    public static <T> T tupleToObject(Tuple tuple, List<FieldMetadata> fields, ProjectionRowMapper<T> rowMapper){
+        return rowMapper.map(tupleToRow(tuple, fields));
     }
 
-    /**
-     * Maps a JPA Tuples to a projection record instance.
-     *
-     * @param tuple                 JPA Tuples to be mapped.
-     * @param projectionClass       Class of the projection record.
-     * @param <T>                   Type of the projection record.
-     * @return                      An instance of the projection record populated with data from the Tuples.
-     */
-    private static <T> T tupleToRecord(Tuple tuple, Class<T> projectionClass){
+    private static Object[] tupleToRow(Tuple tuple, List<FieldMetadata> fields){
         try{
-            RecordComponent[] components = projectionClass.getRecordComponents();
-            Constructor<T> constructor = projectionClass.getDeclaredConstructor(
-                    Arrays.stream(components).map(RecordComponent::getType).toArray(Class[]::new)
-            );
-            Object[] args = Arrays.stream(components)
-                    .map(rc -> {
-                        try{
-                            return tuple.get(rc.getName());
-                        }catch (IllegalArgumentException e){
-                            return null;
-                        }
-                    })
-                    .toArray();
-
-            try{
-                return constructor.newInstance(args);
-            }catch (IllegalArgumentException e){
-                List<String> expectedTypes = Arrays.stream(projectionClass.getRecordComponents())
-                        .map(rc -> rc.getType().getSimpleName())
-                        .toList();
-
-                List<String> resultTypes = Arrays.stream(args)
-                        .map(obj -> obj == null ? "null" : obj.getClass().getSimpleName())
-                        .toList();
-
-                throw new RuntimeException(
-                        """
-                        Error mapping query result to projection record: %s
-        
-                        Expected constructor types:
-                          %s
-        
-                        Query result types:
-                          %s
-                        """.formatted(
-                                projectionClass.getSimpleName(),
-                                expectedTypes,
-                                resultTypes
-                        ),
-                        e
-                );
+            Object[] row = new Object[fields.size()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = tuple.get(fields.get(i).projectionFieldName());
             }
-        }
-        catch (Exception e){
-            throw new RuntimeException("Error creating projection record instance", e);
+            return row;
+        } catch (Exception e){
+            throw new RuntimeException("Error reading query result tuple", e);
         }
     }
 }
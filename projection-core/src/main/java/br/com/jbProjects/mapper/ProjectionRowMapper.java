@@ -0,0 +1,28 @@
+package br.com.jbProjects.mapper;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Compiled mapper that turns a single query row into a projection instance.</p>
+ *
+ * <p>A {@code ProjectionRowMapper} is built once per projection class by
+ * {@link ProjectionRowMapperFactory} and cached together with the
+ * {@link br.com.jbProjects.metadata.model.ProjectionMetadata}, so mapping a row
+ * does not perform any reflective lookup (constructor resolution, field scanning
+ * or {@code setAccessible} calls).
+ *
+ * <p>The row values are positional and must follow the order of
+ * {@link br.com.jbProjects.metadata.model.ProjectionMetadata#fields()}.
+ *
+ * @param <T> The projection type produced by this mapper
+ */
+@FunctionalInterface
+public interface ProjectionRowMapper<T> {
+
+    /**
+     * Creates a projection instance from the given row values.
+     *
+     * @param row Row values ordered as the projection fields metadata
+     * @return A new projection instance populated with the row values
+     */
+    T map(Object[] row);
+}
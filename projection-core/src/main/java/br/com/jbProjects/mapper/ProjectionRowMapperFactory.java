@@ -0,0 +1,255 @@
+package br.com.jbProjects.mapper;
+
+import br.com.jbProjects.metadata.model.FieldMetadata;
+import org.apache.commons.lang3.reflect.FieldUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Factory responsible for compiling {@link ProjectionRowMapper} instances for projection classes.</p>
+ *
+ * <p>All reflective work (constructor resolution, field lookup and accessibility
+ * checks) is performed once, when the mapper is created. The resulting mapper only
+ * invokes pre-adapted {@link MethodHandle}s, which makes it suitable for the
+ * per-row hot path of {@link br.com.jbProjects.processor.ProjectionProcessor}.
+ *
+ * <ul>
+ *     <li><b>Records:</b> the canonical constructor is invoked with the projected
+ *     values; components not annotated with
+ *     {@link br.com.jbProjects.annotations.ProjectionField} receive {@code null}.</li>
+ *     <li><b>Classes:</b> the no-args constructor is invoked and each projected
+ *     field is assigned through a field setter handle.</li>
+ * </ul>
+ *
+ * <p>This factory is stateless. Mappers are cached by
+ * {@link br.com.jbProjects.metadata.cache.ProjectionMetadataCache} as part of the
+ * projection metadata.
+ */
+public class ProjectionRowMapperFactory {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ProjectionRowMapperFactory() {}
+
+    /**
+     * Compiles a row mapper for the given projection class.
+     *
+     * @param projectionClass The projection class (class or record)
+     * @param fields          The projection fields, in the order the row values are provided
+     * @param <T>             The projection type
+     * @return A compiled mapper for the projection class
+     * @throws IllegalArgumentException if the projection class cannot be instantiated by the mapper
+     */
+    public static <T> ProjectionRowMapper<T> of(Class<T> projectionClass, List<FieldMetadata> fields) {
+        try{
+            if(projectionClass.isRecord()){
+                return recordMapper(projectionClass, fields);
+            }
+
+            return classMapper(projectionClass, fields);
+        } catch (ReflectiveOperationException e){
+            throw new IllegalArgumentException("Unable to compile row mapper for projection " + projectionClass.getName(), e);
+        }
+    }
+
+    /**
+     * Wraps a row mapper so that row values are converted before being mapped.
+     *
+     * <p>Only the positions with a conversion are visited on each row, and values are
+     * converted in place in the row array. When no field requires a conversion, the
+     * mapper is returned unchanged.
+     *
+     * @param rowMapper  The mapper receiving the converted rows
+     * @param converters One converter per row position
+     * @param <T>        The projection type
+     * @return A mapper applying the converters before delegating to {@code rowMapper}
+     *
+     * @see ProjectionValueConverters
+     */
+    public static <T> ProjectionRowMapper<T> withConverters(ProjectionRowMapper<T> rowMapper, List<ProjectionValueConverter> converters) {
+        int[] positions = IntStream.range(0, converters.size())
+                .filter(i -> converters.get(i) != ProjectionValueConverter.IDENTITY)
+                .toArray();
+
+        if(positions.length == 0){
+            return rowMapper;
+        }
+
+        ProjectionValueConverter[] activeConverters = Arrays.stream(positions)
+                .mapToObj(converters::get)
+                .toArray(ProjectionValueConverter[]::new);
+
+        return new ConvertingRowMapper<>(rowMapper, positions, activeConverters);
+    }
+
+    private static <T> ProjectionRowMapper<T> recordMapper(Class<T> projectionClass, List<FieldMetadata> fields) throws ReflectiveOperationException {
+        RecordComponent[] components = projectionClass.getRecordComponents();
+        Class<?>[] componentTypes = Arrays.stream(components).map(RecordComponent::getType).toArray(Class[]::new);
+
+        Constructor<T> constructor = projectionClass.getDeclaredConstructor(componentTypes);
+        constructor.setAccessible(true);
+
+        MethodHandle constructorHandle = LOOKUP
+                .unreflectConstructor(constructor)
+                .asSpreader(Object[].class, components.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+
+        int[] positions = new int[components.length];
+        for (int i = 0; i < components.length; i++) {
+            positions[i] = indexOf(fields, components[i].getName());
+        }
+
+        return new RecordRowMapper<>(projectionClass, constructorHandle, positions);
+    }
+
+    private static <T> ProjectionRowMapper<T> classMapper(Class<T> projectionClass, List<FieldMetadata> fields) throws ReflectiveOperationException {
+        Constructor<T> constructor = projectionClass.getDeclaredConstructor();
+        constructor.setAccessible(true);
+
+        MethodHandle constructorHandle = LOOKUP
+                .unreflectConstructor(constructor)
+                .asType(MethodType.methodType(Object.class));
+
+        MethodHandle[] setters = new MethodHandle[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = FieldUtils.getField(projectionClass, fields.get(i).projectionFieldName(), true);
+            setters[i] = LOOKUP
+                    .unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        }
+
+        return new ClassRowMapper<>(constructorHandle, setters);
+    }
+
+    private static int indexOf(List<FieldMetadata> fields, String projectionFieldName) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).projectionFieldName().equals(projectionFieldName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Row mapper for record projections, backed by the canonical constructor.
+     *
+     * @param projectionClass   The projection record
+     * @param constructorHandle Spread canonical constructor handle
+     * @param positions         Row position for each record component, or {@code -1} when not projected
+     * @param <T>               The projection type
+     */
+    private record RecordRowMapper<T>(
+            Class<T> projectionClass,
+            MethodHandle constructorHandle,
+            int[] positions
+    ) implements ProjectionRowMapper<T> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T map(Object[] row) {
+            Object[] args = new Object[positions.length];
+            for (int i = 0; i < positions.length; i++) {
+                int position = positions[i];
+                args[i] = position < 0 ? null : row[position];
+            }
+
+            try{
+                return (T) (Object) constructorHandle.invokeExact(args);
+            } catch (ClassCastException | NullPointerException e){
+                throw new RuntimeException("Error creating projection record instance", mismatchException(args, e));
+            } catch (Throwable e){
+                throw new RuntimeException("Error creating projection record instance", e);
+            }
+        }
+
+        private RuntimeException mismatchException(Object[] args, RuntimeException cause) {
+            List<String> expectedTypes = Arrays.stream(projectionClass.getRecordComponents())
+                    .map(rc -> rc.getType().getSimpleName())
+                    .toList();
+
+            List<String> resultTypes = Arrays.stream(args)
+                    .map(obj -> obj == null ? "null" : obj.getClass().getSimpleName())
+                    .toList();
+
+            return new RuntimeException(
+                    """
+                    Error mapping query result to projection record: %s
+
+                    Expected constructor types:
+                      %s
+
+                    Query result types:
+                      %s
+                    """.formatted(
+                            projectionClass.getSimpleName(),
+                            expectedTypes,
+                            resultTypes
+                    ),
+                    cause
+            );
+        }
+    }
+
+    /**
+     * Row mapper that converts row values before delegating to another mapper.
+     *
+     * @param delegate   The mapper receiving the converted row
+     * @param positions  Row positions that require conversion
+     * @param converters Converter for each entry of {@code positions}
+     * @param <T>        The projection type
+     */
+    private record ConvertingRowMapper<T>(
+            ProjectionRowMapper<T> delegate,
+            int[] positions,
+            ProjectionValueConverter[] converters
+    ) implements ProjectionRowMapper<T> {
+
+        @Override
+        public T map(Object[] row) {
+            for (int i = 0; i < positions.length; i++) {
+                int position = positions[i];
+                row[position] = converters[i].convert(row[position]);
+            }
+            return delegate.map(row);
+        }
+    }
+
+    /**
+     * Row mapper for class projections, backed by the no-args constructor and field setters.
+     *
+     * @param constructorHandle No-args constructor handle
+     * @param setters           Field setter handles, in row order
+     * @param <T>               The projection type
+     */
+    private record ClassRowMapper<T>(
+            MethodHandle constructorHandle,
+            MethodHandle[] setters
+    ) implements ProjectionRowMapper<T> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T map(Object[] row) {
+            try{
+                Object projectionInstance = constructorHandle.invokeExact();
+                for (int i = 0; i < setters.length; i++) {
+                    setters[i].invokeExact(projectionInstance, row[i]);
+                }
+                return (T) projectionInstance;
+            } catch (Throwable e){
+                throw new RuntimeException("Error creating projection instance", e);
+            }
+        }
+    }
+}
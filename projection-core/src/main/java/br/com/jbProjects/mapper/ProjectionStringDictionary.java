@@ -0,0 +1,137 @@
+package br.com.jbProjects.mapper;
+
+import br.com.jbProjects.metadata.model.FieldMetadata;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Per-execution dictionary that canonicalises repeated {@code String} values of a result.</p>
+ *
+ * <p>JDBC drivers create a new {@code String} instance for every value read, so a projection
+ * holding a low-cardinality column (state, city or status names) keeps one copy of the same
+ * text per row. While rows are mapped, the dictionary replaces each value by the first
+ * instance seen with the same content, so a result with 500k rows and 27 distinct state
+ * names references only 27 strings.
+ *
+ * <p><b>Deduplicated positions:</b>
+ * <ul>
+ *     <li>Fields annotated with {@code @ProjectionField(deduplicate = true)} are always deduplicated.</li>
+ *     <li>{@link br.com.jbProjects.processor.query.ProjectionQuery#deduplicateStrings()} deduplicates
+ *     every {@code String} value of the execution.</li>
+ * </ul>
+ *
+ * <p>The dictionary lives only for a single execution, so values are released with the result.
+ * It is not thread-safe.
+ *
+ * <p><b>Usage example:</b>
+ * <pre>{@code
+ * ProjectionStringDictionary dictionary = new ProjectionStringDictionary();
+ * int[] positions = ProjectionStringDictionary.positions(metadata.fields(), false);
+ *
+ * dictionary.canonicalize(row, positions);
+ * CustomerDTO dto = rowMapper.map(row);
+ * }</pre>
+ *
+ * @see br.com.jbProjects.annotations.ProjectionField#deduplicate()
+ * @see br.com.jbProjects.processor.ProjectionProcessorStats
+ */
+public class ProjectionStringDictionary {
+
+    private final Map<String, String> values = new HashMap<>();
+    private long lookups;
+    private long deduplicated;
+
+    /**
+     * Resolves the row positions whose values are deduplicated.
+     *
+     * @param fields     The projection fields, in row order
+     * @param allStrings {@code true} to deduplicate every position, {@code false} for the annotated fields only
+     * @return The row positions to deduplicate, possibly empty
+     */
+    public static int[] positions(List<FieldMetadata> fields, boolean allStrings) {
+        return IntStream.range(0, fields.size())
+                .filter(i -> allStrings || fields.get(i).deduplicate())
+                .toArray();
+    }
+
+    /**
+     * Wraps a row mapper so that string values are canonicalised before being mapped.
+     *
+     * @param rowMapper  The mapper receiving the canonicalised rows
+     * @param dictionary The execution dictionary
+     * @param positions  The row positions to deduplicate
+     * @param <T>        The projection type
+     * @return A deduplicating mapper, or {@code rowMapper} when there is no position to deduplicate
+     */
+    public static <T> ProjectionRowMapper<T> withDictionary(ProjectionRowMapper<T> rowMapper, ProjectionStringDictionary dictionary, int[] positions) {
+        if(positions.length == 0){
+            return rowMapper;
+        }
+
+        return row -> rowMapper.map(dictionary.canonicalize(row, positions));
+    }
+
+    /**
+     * Replaces, in place, the {@code String} values of the given positions by their canonical instance.
+     *
+     * @param row       The positional row
+     * @param positions The row positions to deduplicate
+     * @return The same row, for chaining
+     */
+    public Object[] canonicalize(Object[] row, int[] positions) {
+        for (int position : positions) {
+            if(row[position] instanceof String value){
+                row[position] = canonicalize(value);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Returns the canonical instance of the given value.
+     *
+     * @param value The value read from the database
+     * @return The first instance seen with the same content
+     */
+    public String canonicalize(String value) {
+        lookups++;
+        String canonical = values.putIfAbsent(value, value);
+        if(canonical == null){
+            return value;
+        }
+
+        deduplicated++;
+        return canonical;
+    }
+
+    /**
+     * Returns the number of values looked up in the dictionary.
+     *
+     * @return The number of canonicalised values
+     */
+    public long lookups() {
+        return lookups;
+    }
+
+    /**
+     * Returns the number of values replaced by an already known instance.
+     *
+     * @return The number of duplicated instances avoided
+     */
+    public long deduplicated() {
+        return deduplicated;
+    }
+
+    /**
+     * Returns the number of distinct values kept by the dictionary.
+     *
+     * @return The number of canonical instances
+     */
+    public int size() {
+        return values.size();
+    }
+}
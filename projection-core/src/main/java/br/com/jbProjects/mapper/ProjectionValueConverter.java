@@ -0,0 +1,36 @@
+package br.com.jbProjects.mapper;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Converts a single query result value to the type declared by a projection field.</p>
+ *
+ * <p>Converters are resolved once per projection field by {@link ProjectionValueConverters}
+ * and cached with the {@link br.com.jbProjects.metadata.model.ProjectionMetadata}. On the
+ * per-row hot path they only perform {@code instanceof} checks and the conversion itself,
+ * never throwing for values they cannot convert: such values are returned unchanged and
+ * reported by the row mapper.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * ProjectionValueConverter converter = ProjectionValueConverters.of(Integer.class);
+ * Object value = converter.convert(10L); // 10 (Integer)
+ * }</pre>
+ *
+ * @see ProjectionValueConverters
+ */
+@FunctionalInterface
+public interface ProjectionValueConverter {
+
+    /**
+     * Converter that returns every value unchanged.
+     */
+    ProjectionValueConverter IDENTITY = value -> value;
+
+    /**
+     * Converts the given query result value.
+     *
+     * @param value The value returned by the query, possibly {@code null}
+     * @return The converted value, or {@code value} itself when no conversion applies
+     */
+    Object convert(Object value);
+}
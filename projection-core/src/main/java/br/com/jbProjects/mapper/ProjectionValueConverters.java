@@ -0,0 +1,202 @@
+package br.com.jbProjects.mapper;
+
+import br.com.jbProjects.metadata.model.FieldMetadata;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.*;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Resolves {@link ProjectionValueConverter} instances for projection field types.</p>
+ *
+ * <p>Query result types do not always match the declared projection types: a
+ * {@code COUNT} returns {@code Long}, an {@code AVG} returns {@code Double}, enums may be
+ * stored as strings and dates are often returned as {@code java.sql} types. The converters
+ * resolved here bridge those differences without exceptions on the hot path.
+ *
+ * <p><b>Supported conversions:</b>
+ * <ul>
+ *     <li><b>Numbers:</b> any {@link Number} to {@code Byte}, {@code Short}, {@code Integer},
+ *     {@code Long}, {@code Float}, {@code Double}, {@link BigInteger} or {@link BigDecimal}
+ *     (widening and narrowing, including primitives). Integral types are converted only when
+ *     the value fits them exactly: a fraction or an out-of-range value is returned unchanged,
+ *     so the mismatch is reported instead of being silently truncated</li>
+ *     <li><b>Booleans:</b> the numbers {@code 0} and {@code 1} to {@code false} and {@code true};
+ *     other numbers are returned unchanged</li>
+ *     <li><b>Enums:</b> {@code String} by constant name, numbers by ordinal when they are exactly
+ *     the ordinal of a constant</li>
+ *     <li><b>Temporal:</b> {@link java.sql.Date}, {@link java.sql.Time}, {@link java.sql.Timestamp}
+ *     and {@link Date} to {@link LocalDate}, {@link LocalTime}, {@link LocalDateTime} or {@link Instant}</li>
+ * </ul>
+ *
+ * <p>Values that are {@code null}, already of the target type, or of a type without a known
+ * conversion are returned unchanged.
+ *
+ * @see ProjectionValueConverter
+ * @see br.com.jbProjects.metadata.model.ProjectionMetadata#converters()
+ */
+public class ProjectionValueConverters {
+
+    private static final Map<Class<?>, Function<Number, Object>> NUMERIC = Map.of(
+            Byte.class, number -> toIntegral(number, Byte.MIN_VALUE, Byte.MAX_VALUE, value -> (byte) value),
+            Short.class, number -> toIntegral(number, Short.MIN_VALUE, Short.MAX_VALUE, value -> (short) value),
+            Integer.class, number -> toIntegral(number, Integer.MIN_VALUE, Integer.MAX_VALUE, Math::toIntExact),
+            Long.class, number -> toIntegral(number, Long.MIN_VALUE, Long.MAX_VALUE, value -> value),
+            Float.class, Number::floatValue,
+            Double.class, Number::doubleValue,
+            BigInteger.class, ProjectionValueConverters::toBigInteger,
+            BigDecimal.class, ProjectionValueConverters::toBigDecimal
+    );
+
+    private static final Map<Class<?>, Function<Date, Object>> TEMPORAL = Map.of(
+            LocalDate.class, ProjectionValueConverters::toLocalDate,
+            LocalTime.class, ProjectionValueConverters::toLocalTime,
+            LocalDateTime.class, ProjectionValueConverters::toLocalDateTime,
+            Instant.class, date -> Instant.ofEpochMilli(date.getTime())
+    );
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ProjectionValueConverters() {}
+
+    /**
+     * Resolves the converters of the given projection fields.
+     *
+     * @param projectionClass The projection class declaring the fields
+     * @param fields          The projection fields
+     * @return One converter per field, in the same order; fields without conversion get {@link ProjectionValueConverter#IDENTITY}
+     */
+    public static List<ProjectionValueConverter> of(Class<?> projectionClass, List<FieldMetadata> fields) {
+        return fields
+                .stream()
+                .map(field -> {
+                    Field declaredField = FieldUtils.getField(projectionClass, field.projectionFieldName(), true);
+                    return declaredField == null ? ProjectionValueConverter.IDENTITY : of(declaredField.getType());
+                })
+                .toList();
+    }
+
+    /**
+     * Resolves the converter for the given target type.
+     *
+     * @param targetType The declared type of the projection field
+     * @return The converter for the type, or {@link ProjectionValueConverter#IDENTITY} if no conversion is supported
+     */
+    public static ProjectionValueConverter of(Class<?> targetType) {
+        Class<?> type = ClassUtils.primitiveToWrapper(targetType);
+
+        Function<Number, Object> numeric = NUMERIC.get(type);
+        if(numeric != null){
+            return value -> value instanceof Number number && !type.isInstance(value) ? numeric.apply(number) : value;
+        }
+
+        if(type == Boolean.class){
+            return value -> value instanceof Number number ? toIntegral(number, 0, 1, bit -> bit == 1) : value;
+        }
+
+        if(type.isEnum()){
+            return enumConverter(type);
+        }
+
+        Function<Date, Object> temporal = TEMPORAL.get(type);
+        if(temporal != null){
+            return value -> value instanceof Date date ? temporal.apply(date) : value;
+        }
+
+        return ProjectionValueConverter.IDENTITY;
+    }
+
+    private static ProjectionValueConverter enumConverter(Class<?> enumType) {
+        Object[] constants = enumType.getEnumConstants();
+        Map<String, Object> constantsByName = Arrays.stream(constants)
+                .collect(Collectors.toUnmodifiableMap(constant -> ((Enum<?>) constant).name(), Function.identity()));
+
+        return value -> {
+            if(value instanceof String name){
+                return constantsByName.getOrDefault(name, value);
+            }
+            if(value instanceof Number ordinal){
+                return toIntegral(ordinal, 0, constants.length - 1, index -> constants[(int) index]);
+            }
+            return value;
+        };
+    }
+
+    private static Object toIntegral(Number number, long min, long max, LongFunction<Object> narrow) {
+        long value;
+        if(isIntegral(number)){
+            value = number.longValue();
+        }else{
+            try{
+                value = toBigDecimal(number).longValueExact();
+            }catch (ArithmeticException | NumberFormatException e){
+                return number;
+            }
+        }
+        return value >= min && value <= max ? narrow.apply(value) : number;
+    }
+
+    private static Object toBigInteger(Number number) {
+        if(isIntegral(number)){
+            return BigInteger.valueOf(number.longValue());
+        }
+        try{
+            return toBigDecimal(number).toBigIntegerExact();
+        }catch (ArithmeticException | NumberFormatException e){
+            return number;
+        }
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if(number instanceof BigDecimal decimal){
+            return decimal;
+        }
+        if(number instanceof BigInteger integer){
+            return new BigDecimal(integer);
+        }
+        if(number instanceof Double || number instanceof Float){
+            return BigDecimal.valueOf(number.doubleValue());
+        }
+        return BigDecimal.valueOf(number.longValue());
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        if(date instanceof java.sql.Date sqlDate){
+            return sqlDate.toLocalDate();
+        }
+        return toLocalDateTime(date).toLocalDate();
+    }
+
+    private static LocalTime toLocalTime(Date date) {
+        if(date instanceof java.sql.Time sqlTime){
+            return sqlTime.toLocalTime();
+        }
+        return toLocalDateTime(date).toLocalTime();
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        if(date instanceof java.sql.Timestamp timestamp){
+            return timestamp.toLocalDateTime();
+        }
+        if(date instanceof java.sql.Date sqlDate){
+            return sqlDate.toLocalDate().atStartOfDay();
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), ZoneId.systemDefault());
+    }
+}
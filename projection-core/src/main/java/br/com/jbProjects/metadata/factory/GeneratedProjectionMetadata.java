@@ -0,0 +1,77 @@
+package br.com.jbProjects.metadata.factory;
+
+import br.com.jbProjects.mapper.ProjectionRowMapper;
+import br.com.jbProjects.metadata.model.ProjectionStructure;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Contract implemented by projection metadata generated at compile time.</p>
+ *
+ * <p>The {@code projection-processor} module ships an annotation processor that reads
+ * {@link br.com.jbProjects.annotations.Projection}, {@link br.com.jbProjects.annotations.ProjectionField}
+ * and {@link br.com.jbProjects.annotations.ProjectionJoin} and emits one implementation of this
+ * interface per projection class. The generated class lives in the same package as the projection
+ * and is named after it (see {@link #generatedClassName(String)}).
+ *
+ * <p>When such a class is present, {@link ProjectionMetadataFactory} uses it instead of resolving the
+ * projection structure and compiling the row mapper through reflection.
+ *
+ * <p><b>Example of generated class:</b>
+ * <pre>{@code
+ * public final class CustomerDTO_ProjectionMetadata implements GeneratedProjectionMetadata {
+ *     public Class<?> entityClass() { return Customer.class; }
+ *     public ProjectionStructure structure() { ... }
+ *     public ProjectionRowMapper<CustomerDTO> rowMapper() {
+ *         return row -> new CustomerDTO((Long) row[0], (String) row[1]);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @see ProjectionMetadataFactory
+ */
+public interface GeneratedProjectionMetadata {
+
+    /**
+     * Suffix appended to the projection class name to form the generated class name.
+     */
+    String CLASS_SUFFIX = "_ProjectionMetadata";
+
+    /**
+     * Returns the entity class the projection maps from.
+     *
+     * @return The entity class declared in {@code @Projection(of = ...)}
+     */
+    Class<?> entityClass();
+
+    /**
+     * Returns the projection structure with aliases already resolved.
+     *
+     * @return The resolved joins, fields and alias map of the projection
+     */
+    ProjectionStructure structure();
+
+    /**
+     * Returns the generated row mapper of the projection.
+     *
+     * @return The generated mapper, or {@code null} when the projection members are not
+     *         accessible from generated code and the mapper must be compiled at runtime
+     */
+    ProjectionRowMapper<?> rowMapper();
+
+    /**
+     * Resolves the binary name of the generated metadata class for a projection.
+     *
+     * <p>Nested projections have their enclosing class names joined with {@code '_'},
+     * so {@code com.acme.Reports$CustomerRow} maps to
+     * {@code com.acme.Reports_CustomerRow_ProjectionMetadata}.
+     *
+     * @param projectionBinaryName The binary name of the projection class
+     * @return The binary name of the generated metadata class
+     */
+    static String generatedClassName(String projectionBinaryName) {
+        int packageEnd = projectionBinaryName.lastIndexOf('.');
+        String packagePrefix = projectionBinaryName.substring(0, packageEnd + 1);
+        String simpleName = projectionBinaryName.substring(packageEnd + 1).replace('$', '_');
+        return packagePrefix + simpleName + CLASS_SUFFIX;
+    }
+}
@@ -1,11 +1,20 @@
 package br.com.jbProjects.metadata.factory;
 
 import br.com.jbProjects.annotations.Projection;
+import br.com.jbProjects.mapper.ProjectionRowMapper;
+import br.com.jbProjects.mapper.ProjectionRowMapperFactory;
+import br.com.jbProjects.mapper.ProjectionValueConverter;
+import br.com.jbProjects.mapper.ProjectionValueConverters;
+import br.com.jbProjects.metadata.model.FieldMetadata;
 import br.com.jbProjects.metadata.model.ProjectionMetadata;
+import br.com.jbProjects.metadata.model.ProjectionPathTable;
 import br.com.jbProjects.metadata.model.ProjectionStructure;
 import br.com.jbProjects.metadata.resolver.ProjectionStructureResolver;
+import br.com.jbProjects.processor.selectOperator.ProjectionSelectOperatorProvider;
 import br.com.jbProjects.validations.ProjectionValidations;
 
+import java.util.List;
+
 /**
  * Created by julio.bueno on 18/02/2026.
  * <p>Factory responsible for creating {@link ProjectionMetadata} instances from projection classes.</p>
@@ -20,9 +29,15 @@ import br.com.jbProjects.validations.ProjectionValidations;
  *     <li>Validates that the projection class is properly annotated</li>
  *     <li>Extracts the {@link Projection} annotation</li>
  *     <li>Resolves the projection structure (fields and joins)</li>
+ *     <li>Compiles the row mapper used to instantiate the projection</li>
+ *     <li>Resolves the value converters between query result types and field types</li>
  *     <li>Composes all information into an immutable {@link ProjectionMetadata} object</li>
  * </ol>
  *
+ * <p>When the {@code projection-processor} annotation processor generated a
+ * {@link GeneratedProjectionMetadata} class for the projection, the structure and
+ * row mapper are taken from it and no reflection is performed over the projection.
+ *
  * <p>This factory is stateless and all methods are static, making it safe for
  * concurrent use without synchronization. The actual caching of metadata is
  * handled by {@link br.com.jbProjects.metadata.cache.ProjectionMetadataCache}.
@@ -60,10 +75,18 @@ public class ProjectionMetadataFactory {
      *     <li>Resolves all projection fields with their configurations</li>
      *     <li>Resolves all declared joins with their types</li>
      *     <li>Processes alias mappings for nested property access</li>
+     *     <li>Compiles the {@link br.com.jbProjects.mapper.ProjectionRowMapper} for the projection</li>
+     *     <li>Resolves the {@link br.com.jbProjects.mapper.ProjectionValueConverter}s of the projection fields</li>
+     *     <li>Resolves the registered select handler of each field and the GROUP BY fields</li>
+     *     <li>Precomputes the segments of the declared paths in a {@link ProjectionPathTable}</li>
      * </ul>
      *
-     * <p><b>Note:</b> This method uses reflection and is relatively expensive
-     * (~200µs). It should be called through {@link br.com.jbProjects.metadata.cache.ProjectionMetadataCache}
+     * <p>If a {@link GeneratedProjectionMetadata} class exists for the projection, it is
+     * used as the source of the structure and row mapper, and only the value converters
+     * are resolved through reflection.
+     *
+     * <p><b>Note:</b> Without generated metadata this method uses reflection and is relatively
+     * expensive (~200µs). It should be called through {@link br.com.jbProjects.metadata.cache.ProjectionMetadataCache}
      * to benefit from caching.
      *
      * @param projectionClass The projection class to extract metadata from
@@ -71,18 +94,86 @@ public class ProjectionMetadataFactory {
      * @throws IllegalArgumentException if the projection class is not properly annotated or does not meet the required structure
      */
     public static ProjectionMetadata of(Class<?> projectionClass) {
+        GeneratedProjectionMetadata generated = findGenerated(projectionClass);
+        if(generated != null){
+            return compose(projectionClass, generated.entityClass(), generated.structure(), generated.rowMapper());
+        }
+
         ProjectionValidations.validateProjectionClass(projectionClass);
 
         Projection projection = projectionClass.getAnnotation(Projection.class);
 
         ProjectionStructure structure = ProjectionStructureResolver.resolve(projectionClass);
 
+        return compose(projectionClass, projection.of(), structure, null);
+    }
+
+    private static ProjectionMetadata compose(Class<?> projectionClass, Class<?> entityClass, ProjectionStructure structure, ProjectionRowMapper<?> rowMapper) {
+        List<FieldMetadata> fields = resolveHandlers(structure.fields());
+        List<ProjectionValueConverter> converters = ProjectionValueConverters.of(projectionClass, fields);
+        ProjectionRowMapper<?> mapper = rowMapper != null ? rowMapper : ProjectionRowMapperFactory.of(projectionClass, fields);
+
+        boolean hasAggregate = fields.stream().anyMatch(FieldMetadata::aggregate);
+        List<FieldMetadata> groupByFields = hasAggregate
+                ? fields.stream().filter(field -> !field.aggregate()).toList()
+                : List.of();
+
         return new ProjectionMetadata(
                 projectionClass,
-                projection.of(),
+                entityClass,
                 structure.joins(),
-                structure.fields(),
-                structure.aliasMap()
+                fields,
+                structure.aliasMap(),
+                ProjectionRowMapperFactory.withConverters(mapper, converters),
+                converters,
+                ProjectionPathTable.of(structure.joins(), fields, structure.aliasMap()),
+                hasAggregate,
+                groupByFields
         );
     }
+
+    /**
+     * Resolves the registered select handler instance of each field.
+     *
+     * @param fields The fields of the projection
+     * @return The fields holding their handler instances
+     * @throws IllegalArgumentException if a select handler is not registered
+     */
+    private static List<FieldMetadata> resolveHandlers(List<FieldMetadata> fields) {
+        ProjectionSelectOperatorProvider provider = ProjectionSelectOperatorProvider.getInstance();
+        return fields
+                .stream()
+                .map(field -> field.withHandler(provider.get(field.selectHandler())))
+                .toList();
+    }
+
+    /**
+     * Looks up the compile-time generated metadata of the projection class.
+     *
+     * @param projectionClass The projection class
+     * @return The generated metadata instance, or {@code null} if none was generated
+     */
+    private static GeneratedProjectionMetadata findGenerated(Class<?> projectionClass) {
+        if(projectionClass == null){
+            return null;
+        }
+
+        try{
+            Class<?> generatedClass = Class.forName(
+                    GeneratedProjectionMetadata.generatedClassName(projectionClass.getName()),
+                    true,
+                    projectionClass.getClassLoader()
+            );
+
+            if(!GeneratedProjectionMetadata.class.isAssignableFrom(generatedClass)){
+                return null;
+            }
+
+            return (GeneratedProjectionMetadata) generatedClass.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e){
+            return null;
+        } catch (ReflectiveOperationException e){
+            throw new IllegalArgumentException("Unable to load generated metadata for projection " + projectionClass.getName(), e);
+        }
+    }
 }
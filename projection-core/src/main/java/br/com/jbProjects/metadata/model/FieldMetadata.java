@@ -2,6 +2,8 @@ package br.com.jbProjects.metadata.model;
 
 import br.com.jbProjects.processor.selectOperator.handler.ProjectionSelectOperatorHandler;
 
+import java.util.Objects;
+
 /**
  * Created by julio.bueno on 18/02/2026.
  * <p>Immutable metadata container for a single projection field.</p>
@@ -27,6 +29,10 @@ import br.com.jbProjects.processor.selectOperator.handler.ProjectionSelectOperat
  * <p><b>Select Handler:</b>
  * The handler determines how the field is selected in the SQL query:
  *
+ * <p><b>Deduplication:</b>
+ * When {@code deduplicate} is set, repeated {@code String} values of the field are
+ * canonicalised through the execution {@link br.com.jbProjects.mapper.ProjectionStringDictionary}.
+ *
  * <p><b>Usage example:</b>
  * <pre>{@code
  * // Given a projection field:
@@ -37,17 +43,21 @@ import br.com.jbProjects.processor.selectOperator.handler.ProjectionSelectOperat
  * FieldMetadata fieldMeta = new FieldMetadata(
  *     "cityName",                        // projectionFieldName
  *     "address.city.name",               // value (resolved path)
- *     DefaultSelectOperatorHandler.class // selectHandler
+ *     DefaultSelectOperatorHandler.class, // selectHandler
+ *     false                               // deduplicate
  * );
  *
- * // Used to build the query:
- * Expression<?> expr = handler.apply(pathResolver, cb, root, fieldMeta.value());
+ * // Used to build the query, once the handler instance is resolved:
+ * Expression<?> expr = fieldMeta.handler().apply(pathResolver, cb, root, fieldMeta.value());
  * Selection<?> selection = expr.alias(fieldMeta.projectionFieldName());
  * }</pre>
  *
  * @param projectionFieldName The name of the field in the projection class
  * @param value The resolved path to the entity property (with aliases substituted)
  * @param selectHandler The handler class responsible for generating the selection expression
+ * @param deduplicate Whether repeated string values of the field are deduplicated during mapping
+ * @param handler The registered instance of {@code selectHandler}, resolved when the
+ *                {@link ProjectionMetadata} is created, or {@code null} before that
  *
  * @see ProjectionMetadata
  * @see br.com.jbProjects.annotations.ProjectionField
@@ -56,6 +66,75 @@ import br.com.jbProjects.processor.selectOperator.handler.ProjectionSelectOperat
 public record FieldMetadata(
         String projectionFieldName,
         String value,
-        Class<? extends ProjectionSelectOperatorHandler> selectHandler
+        Class<? extends ProjectionSelectOperatorHandler> selectHandler,
+        boolean deduplicate,
+        ProjectionSelectOperatorHandler handler
 ) {
+
+    /**
+     * Creates field metadata whose handler instance is not resolved yet.
+     *
+     * @param projectionFieldName The name of the field in the projection class
+     * @param value The resolved path to the entity property
+     * @param selectHandler The handler class responsible for generating the selection expression
+     * @param deduplicate Whether repeated string values of the field are deduplicated during mapping
+     */
+    public FieldMetadata(String projectionFieldName, String value, Class<? extends ProjectionSelectOperatorHandler> selectHandler, boolean deduplicate) {
+        this(projectionFieldName, value, selectHandler, deduplicate, null);
+    }
+
+    /**
+     * Creates field metadata without deduplication.
+     *
+     * @param projectionFieldName The name of the field in the projection class
+     * @param value The resolved path to the entity property
+     * @param selectHandler The handler class responsible for generating the selection expression
+     */
+    public FieldMetadata(String projectionFieldName, String value, Class<? extends ProjectionSelectOperatorHandler> selectHandler) {
+        this(projectionFieldName, value, selectHandler, false);
+    }
+
+    /**
+     * Returns a copy of this field metadata holding the given handler instance.
+     *
+     * @param handler The registered instance of {@code selectHandler}
+     * @return The field metadata with its handler resolved
+     */
+    public FieldMetadata withHandler(ProjectionSelectOperatorHandler handler) {
+        return new FieldMetadata(projectionFieldName, value, selectHandler, deduplicate, handler);
+    }
+
+    /**
+     * Checks whether the field is selected by an aggregate handler.
+     *
+     * @return {@code true} if the resolved handler is an aggregate function
+     * @throws IllegalStateException if the handler instance is not resolved
+     */
+    public boolean aggregate() {
+        if(handler == null){
+            throw new IllegalStateException("Select handler not resolved for field: " + projectionFieldName);
+        }
+        return handler.aggregate();
+    }
+
+    /**
+     * Compares the declared components of two field metadata. The handler instance is
+     * derived from {@code selectHandler} and does not take part in the comparison.
+     *
+     * @param other The object to compare to
+     * @return {@code true} if both describe the same field
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof FieldMetadata field
+                && Objects.equals(projectionFieldName, field.projectionFieldName)
+                && Objects.equals(value, field.value)
+                && Objects.equals(selectHandler, field.selectHandler)
+                && deduplicate == field.deduplicate;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(projectionFieldName, value, selectHandler, deduplicate);
+    }
 }
@@ -0,0 +1,141 @@
+package br.com.jbProjects.metadata.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Tree of the joins needed to navigate the paths declared by a projection.</p>
+ *
+ * <p>Each join of the plan is a node identified by its index, holding the index of its parent
+ * join ({@link #ROOT} for joins from the root entity) and the attribute it navigates. Joins
+ * shared by several paths, e.g. {@code mainAddress} in {@code mainAddress.city.name} and
+ * {@code mainAddress.street}, are a single node.
+ *
+ * <p>A query keeps the joins it creates in an array indexed by node, so every path reaching the
+ * same node reuses the same {@link jakarta.persistence.criteria.Join} without building keys.
+ *
+ * <p><b>Usage example:</b>
+ * <pre>{@code
+ * JoinPlan plan = ProjectionMetadataCache.get(CustomerDTO.class).paths().joinPlan();
+ *
+ * int mainAddress = plan.child(JoinPlan.ROOT, "mainAddress");
+ * int city = plan.child(mainAddress, "city");
+ * plan.attribute(city); // "city"
+ * plan.parent(city);    // mainAddress
+ * }</pre>
+ *
+ * <p><b>Thread Safety:</b>
+ * Instances are immutable after construction and safe for concurrent use.
+ *
+ * @see ResolvedPath#joinNodes()
+ * @see br.com.jbProjects.processor.joinResolver.DefaultPathResolver
+ */
+public final class JoinPlan {
+
+    /**
+     * Parent index of the joins created from the root entity.
+     */
+    public static final int ROOT = -1;
+
+    private final int[] parents;
+    private final String[] attributes;
+    private final List<Map<String, Integer>> children;
+
+    private JoinPlan(int[] parents, String[] attributes, List<Map<String, Integer>> children) {
+        this.parents = parents;
+        this.attributes = attributes;
+        this.children = children;
+    }
+
+    /**
+     * Returns the index of the join navigating {@code attribute} from the given parent.
+     *
+     * @param parent    The parent join index, or {@link #ROOT}
+     * @param attribute The attribute navigated by the join
+     * @return The join index, or {@code -1} when the join is not part of the plan
+     */
+    public int child(int parent, String attribute) {
+        if(parent < ROOT || parent >= parents.length){
+            return -1;
+        }
+
+        Integer child = children.get(parent + 1).get(attribute);
+        return child != null ? child : -1;
+    }
+
+    /**
+     * Returns the parent of a join.
+     *
+     * @param node The join index
+     * @return The parent join index, or {@link #ROOT}
+     */
+    public int parent(int node) {
+        return parents[node];
+    }
+
+    /**
+     * Returns the attribute navigated by a join.
+     *
+     * @param node The join index
+     * @return The attribute name
+     */
+    public String attribute(int node) {
+        return attributes[node];
+    }
+
+    /**
+     * Returns the number of joins in the plan.
+     *
+     * @return The number of joins
+     */
+    public int size() {
+        return parents.length;
+    }
+
+    /**
+     * Builder of a {@link JoinPlan}, adding the joins of one path at a time.
+     */
+    static final class Builder {
+
+        private final List<Integer> parents = new ArrayList<>();
+        private final List<String> attributes = new ArrayList<>();
+        private final List<Map<String, Integer>> children = new ArrayList<>(List.of(new HashMap<>()));
+
+        /**
+         * Adds the joins navigating every segment of a path but the last one.
+         *
+         * @param segments The segments of an alias-resolved path
+         * @return The join index of each added segment
+         */
+        int[] add(String[] segments) {
+            int[] nodes = new int[segments.length - 1];
+            int parent = ROOT;
+            for (int i = 0; i < nodes.length; i++) {
+                Map<String, Integer> siblings = children.get(parent + 1);
+                Integer node = siblings.get(segments[i]);
+                if(node == null){
+                    node = parents.size();
+                    parents.add(parent);
+                    attributes.add(segments[i]);
+                    children.add(new HashMap<>());
+                    siblings.put(segments[i], node);
+                }
+
+                nodes[i] = node;
+                parent = node;
+            }
+            return nodes;
+        }
+
+        JoinPlan build() {
+            return new JoinPlan(
+                    parents.stream().mapToInt(Integer::intValue).toArray(),
+                    attributes.toArray(String[]::new),
+                    children.stream().map(Map::copyOf).toList()
+            );
+        }
+    }
+}
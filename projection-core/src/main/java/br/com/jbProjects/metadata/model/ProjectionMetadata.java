@@ -1,5 +1,8 @@
 package br.com.jbProjects.metadata.model;
 
+import br.com.jbProjects.mapper.ProjectionRowMapper;
+import br.com.jbProjects.mapper.ProjectionValueConverter;
+
 import java.util.List;
 import java.util.Map;
 
@@ -40,27 +43,65 @@ import java.util.Map;
  *     System.out.println("Handler: " + field.selectHandler().getSimpleName());
  * }
  *
+ * // Check aggregation
+ * if (metadata.hasAggregate()) {
+ *     metadata.groupByFields().forEach(field -> System.out.println("Group by: " + field.value()));
+ * }
+ *
  * // Check configured joins
  * for (JoinMetadata join : metadata.joins()) {
  *     System.out.println("Join: " + join.path() + " (" + join.type() + ")");
  * }
+ *
+ * // Map a row whose values follow the fields order
+ * CustomerDTO dto = metadata.rowMapper(CustomerDTO.class).map(row);
+ *
+ * // Look up the precomputed segments of a declared path
+ * String[] segments = metadata.paths().resolve("mainAddress.city.name").segments();
  * }</pre>
  *
  * @param projectionClass The projection class (DTO) that defines the structure
  * @param entityClass The JPA entity class this projection maps from
  * @param joins List of configured joins for this projection
- * @param fields List of fields to be selected in the projection
+ * @param fields List of fields to be selected in the projection, with their select handlers resolved
  * @param aliasMap Map of aliases to their corresponding paths for resolving field paths
+ * @param rowMapper Compiled mapper that creates projection instances from positional row values,
+ *                  applying {@code converters} before instantiation
+ * @param converters Value converter of each field, in the same order as {@code fields}
+ * @param paths Precomputed segments of the field paths, join paths and aliases
+ * @param hasAggregate Whether any field is selected by an aggregate handler
+ * @param groupByFields Fields included in the GROUP BY clause: the non-aggregate fields when
+ *                      {@code hasAggregate} is set, otherwise none
  *
  * @see FieldMetadata
  * @see JoinMetadata
  * @see ProjectionStructure
+ * @see ProjectionRowMapper
+ * @see ProjectionValueConverter
+ * @see ProjectionPathTable
  */
 public record ProjectionMetadata(
         Class<?> projectionClass,
         Class<?> entityClass,
         List<JoinMetadata> joins,
         List<FieldMetadata> fields,
-        Map<String, String> aliasMap
+        Map<String, String> aliasMap,
+        ProjectionRowMapper<?> rowMapper,
+        List<ProjectionValueConverter> converters,
+        ProjectionPathTable paths,
+        boolean hasAggregate,
+        List<FieldMetadata> groupByFields
 ) {
+
+    /**
+     * Returns the compiled row mapper typed to the given projection class.
+     *
+     * @param projectionClass The projection class described by this metadata
+     * @param <T> The projection type
+     * @return The compiled row mapper for the projection
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ProjectionRowMapper<T> rowMapper(Class<T> projectionClass) {
+        return (ProjectionRowMapper<T>) rowMapper;
+    }
 }
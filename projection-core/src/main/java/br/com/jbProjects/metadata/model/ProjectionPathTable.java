@@ -0,0 +1,126 @@
+package br.com.jbProjects.metadata.model;
+
+import br.com.jbProjects.metadata.resolver.ProjectionAliasResolver;
+import jakarta.persistence.criteria.JoinType;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Precomputed {@link ResolvedPath}s of the paths declared by a projection.</p>
+ *
+ * <p>Every path known when the metadata is created — field paths, join paths and their prefixes,
+ * and aliases — is resolved once and stored by its declared form. Resolving such a path when a
+ * query is built is then a single map lookup, with no alias substitution, splitting or joining
+ * of strings.
+ *
+ * <p>Other paths, e.g. filters or orders on attributes not projected, are resolved on each call,
+ * following the same rules.
+ *
+ * <p>The joins navigated by the declared paths form the projection {@link JoinPlan}; each
+ * declared {@link ResolvedPath} holds the indexes of its joins in it.
+ *
+ * <p><b>Usage example:</b>
+ * <pre>{@code
+ * ProjectionPathTable paths = ProjectionMetadataCache.get(CustomerDTO.class).paths();
+ *
+ * ResolvedPath cityName = paths.resolve("addr.city.name");
+ * cityName.segments(); // ["address", "city", "name"]
+ * }</pre>
+ *
+ * <p><b>Thread Safety:</b>
+ * Instances are immutable after construction and safe for concurrent use.
+ *
+ * @see ResolvedPath
+ * @see br.com.jbProjects.processor.joinResolver.DefaultPathResolver
+ */
+public final class ProjectionPathTable {
+
+    private final Map<String, ResolvedPath> paths;
+    private final Map<String, JoinType> joinTypes;
+    private final ProjectionAliasResolver aliasResolver;
+    private final JoinPlan joinPlan;
+
+    private ProjectionPathTable(Map<String, ResolvedPath> paths, Map<String, JoinType> joinTypes, ProjectionAliasResolver aliasResolver, JoinPlan joinPlan) {
+        this.paths = paths;
+        this.joinTypes = joinTypes;
+        this.aliasResolver = aliasResolver;
+        this.joinPlan = joinPlan;
+    }
+
+    /**
+     * Creates the path table of a projection.
+     *
+     * @param joins    The resolved joins of the projection
+     * @param fields   The fields of the projection
+     * @param aliasMap Map of aliases to their corresponding paths
+     * @return The path table
+     */
+    public static ProjectionPathTable of(List<JoinMetadata> joins, List<FieldMetadata> fields, Map<String, String> aliasMap) {
+        ProjectionAliasResolver aliasResolver = ProjectionAliasResolver.of(aliasMap);
+        Map<String, JoinType> joinTypes = joins
+                .stream()
+                .collect(Collectors.toUnmodifiableMap(JoinMetadata::path, JoinMetadata::type));
+
+        Map<String, ResolvedPath> paths = new LinkedHashMap<>();
+        fields.forEach(field -> addPath(paths, field.value(), aliasResolver, joinTypes));
+        joins.forEach(join -> addPath(paths, join.path(), aliasResolver, joinTypes));
+        aliasMap.keySet().forEach(alias -> addPath(paths, alias, aliasResolver, joinTypes));
+
+        JoinPlan.Builder joinPlan = new JoinPlan.Builder();
+        paths.replaceAll((declared, resolved) -> resolved.withJoinNodes(joinPlan.add(resolved.segments())));
+
+        return new ProjectionPathTable(Map.copyOf(paths), joinTypes, aliasResolver, joinPlan.build());
+    }
+
+    private static void addPath(Map<String, ResolvedPath> paths, String path, ProjectionAliasResolver aliasResolver, Map<String, JoinType> joinTypes) {
+        paths.computeIfAbsent(path, declared -> ResolvedPath.of(aliasResolver.resolve(declared), joinTypes));
+
+        int dot = path.lastIndexOf('.');
+        if(dot > 0){
+            addPath(paths, path.substring(0, dot), aliasResolver, joinTypes);
+        }
+    }
+
+    /**
+     * Resolves a path, looking it up in the table when it is declared by the projection.
+     *
+     * @param path The path, possibly starting with an alias
+     * @return The resolved path
+     */
+    public ResolvedPath resolve(String path) {
+        ResolvedPath resolved = paths.get(path);
+        return resolved != null ? resolved : ResolvedPath.of(aliasResolver.resolve(path), joinTypes);
+    }
+
+    /**
+     * Checks whether a path was precomputed.
+     *
+     * @param path The path, possibly starting with an alias
+     * @return {@code true} if the path is declared by the projection
+     */
+    public boolean contains(String path) {
+        return paths.containsKey(path);
+    }
+
+    /**
+     * Returns the plan of the joins navigated by the declared paths.
+     *
+     * @return The join plan
+     */
+    public JoinPlan joinPlan() {
+        return joinPlan;
+    }
+
+    /**
+     * Returns the type of each declared join.
+     *
+     * @return An unmodifiable map of join types, by resolved join path
+     */
+    public Map<String, JoinType> joinTypes() {
+        return joinTypes;
+    }
+}
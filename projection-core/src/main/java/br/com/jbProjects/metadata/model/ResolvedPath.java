@@ -0,0 +1,112 @@
+package br.com.jbProjects.metadata.model;
+
+import jakarta.persistence.criteria.JoinType;
+
+import java.util.Map;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>A projection path split into its segments, with aliases resolved and join information precomputed.</p>
+ *
+ * <p>{@code ResolvedPath} holds everything
+ * {@link br.com.jbProjects.processor.joinResolver.DefaultPathResolver} needs to navigate a path
+ * from the root entity, so no string splitting or concatenation happens when a query is built.
+ *
+ * <p><b>Usage example:</b>
+ * <pre>{@code
+ * // @ProjectionJoin(path = "secondaryAddress", type = JoinType.LEFT)
+ * ResolvedPath path = ResolvedPath.of("secondaryAddress.city.name", Map.of("secondaryAddress", JoinType.LEFT));
+ *
+ * path.segments();           // ["secondaryAddress", "city", "name"]
+ * path.joinType();           // LEFT
+ * path.lastJoinDeclared();   // false, "secondaryAddress.city" is not declared
+ * }</pre>
+ *
+ * @param path             The path with all aliases resolved
+ * @param segments         The attributes of the path, in navigation order
+ * @param joinType         Type of the joins created to navigate the path, taken from the
+ *                         longest declared join prefixing the path ({@code INNER} when none)
+ * @param lastJoinDeclared Whether the path up to its second-to-last segment is a declared join,
+ *                         which prevents its identifier from being read from the foreign key
+ * @param joinNodes        Index in the projection {@link JoinPlan} of the join navigating each
+ *                         segment but the last one, or {@code null} for paths not declared by
+ *                         the projection
+ */
+public record ResolvedPath(
+        String path,
+        String[] segments,
+        JoinType joinType,
+        boolean lastJoinDeclared,
+        int[] joinNodes
+) {
+
+    /**
+     * Splits an alias-resolved path and computes its join information.
+     *
+     * @param path       The path with all aliases resolved
+     * @param joinTypes  Type of each declared join, by resolved join path
+     * @return The resolved path
+     */
+    public static ResolvedPath of(String path, Map<String, JoinType> joinTypes) {
+        String[] segments = path.split("\\.");
+
+        boolean lastJoinDeclared = false;
+        if(segments.length > 1){
+            lastJoinDeclared = joinTypes.containsKey(path.substring(0, path.lastIndexOf('.')));
+        }
+
+        return new ResolvedPath(path, segments, joinType(path, joinTypes), lastJoinDeclared, null);
+    }
+
+    /**
+     * Returns a copy of this path holding its join indexes.
+     *
+     * @param joinNodes Index in the {@link JoinPlan} of the join navigating each segment but the last one
+     * @return The planned path
+     */
+    public ResolvedPath withJoinNodes(int[] joinNodes) {
+        return new ResolvedPath(path, segments, joinType, lastJoinDeclared, joinNodes);
+    }
+
+    /**
+     * Returns the type of the longest declared join prefixing the path.
+     *
+     * @param path      The path with all aliases resolved
+     * @param joinTypes Type of each declared join, by resolved join path
+     * @return The join type, or {@code INNER} when no declared join prefixes the path
+     */
+    public static JoinType joinType(String path, Map<String, JoinType> joinTypes) {
+        if(joinTypes.containsKey(path)) {
+            return joinTypes.get(path);
+        }
+
+        int dot = path.lastIndexOf(".");
+        while(dot > 0) {
+            path = path.substring(0, dot);
+            if(joinTypes.containsKey(path)) {
+                return joinTypes.get(path);
+            }
+            dot = path.lastIndexOf(".");
+        }
+
+        return JoinType.INNER;
+    }
+
+    /**
+     * Checks whether the path is a single attribute of the root entity.
+     *
+     * @return {@code true} if the path has a single segment
+     */
+    public boolean isSimple() {
+        return segments.length == 1;
+    }
+
+    /**
+     * Checks whether the joins of the path are part of the projection {@link JoinPlan}.
+     *
+     * @return {@code true} if {@link #joinNodes()} is available
+     */
+    public boolean isPlanned() {
+        return joinNodes != null;
+    }
+}
@@ -3,7 +3,6 @@ package br.com.jbProjects.metadata.resolver;
 import br.com.jbProjects.annotations.ProjectionJoin;
 import br.com.jbProjects.validations.ProjectionValidations;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -62,8 +61,9 @@ import java.util.stream.Collectors;
  *
  * <p><b>Performance:</b>
  * Resolution is performed during metadata extraction (at application startup),
- * not during query execution. This ensures zero runtime overhead from alias
- * resolution.
+ * not during query execution. Declared paths are kept already resolved by
+ * {@link br.com.jbProjects.metadata.model.ProjectionPathTable}, so only paths
+ * unknown to the projection are resolved at runtime.
  *
  * @see ProjectionStructureResolver
  * @see br.com.jbProjects.annotations.ProjectionJoin
@@ -209,20 +209,15 @@ public class ProjectionAliasResolver {
      * @return The path with the first alias substituted, or original if no alias found
      */
     private String resolveSingleAlias(String fullPath) {
-        String[] parts = fullPath.split("\\.");
-        String first = parts[0];
-
-        if (!aliasMap.containsKey(first)) {
-            return fullPath;
-        }
+        int dot = fullPath.indexOf('.');
+        String first = dot < 0 ? fullPath : fullPath.substring(0, dot);
 
         String mapped = aliasMap.get(first);
-
-        if (parts.length == 1) {
-            return mapped;
+        if (mapped == null) {
+            return fullPath;
         }
 
-        return mapped + "." + String.join(".", Arrays.copyOfRange(parts, 1, parts.length));
+        return dot < 0 ? mapped : mapped + fullPath.substring(dot);
     }
 
     /**
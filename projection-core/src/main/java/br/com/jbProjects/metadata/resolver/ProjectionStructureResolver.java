@@ -151,7 +151,8 @@ public class ProjectionStructureResolver {
                     return new FieldMetadata(
                             field.getName(),
                             aliasResolver.resolve(ProjectionUtils.getFieldColumnName(field)),
-                            projectionField.selectHandler()
+                            projectionField.selectHandler(),
+                            projectionField.deduplicate()
                     );
                 })
                 .toList();
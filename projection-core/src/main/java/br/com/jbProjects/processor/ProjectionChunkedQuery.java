@@ -0,0 +1,332 @@
+package br.com.jbProjects.processor;
+
+import br.com.jbProjects.metadata.cache.ProjectionMetadataCache;
+import br.com.jbProjects.metadata.model.FieldMetadata;
+import br.com.jbProjects.metadata.model.ProjectionMetadata;
+import br.com.jbProjects.processor.filter.ProjectionCompoundFilter;
+import br.com.jbProjects.processor.filter.ProjectionFilter;
+import br.com.jbProjects.processor.filter.ProjectionFilterExpression;
+import br.com.jbProjects.processor.filter.ProjectionFilterOperator;
+import br.com.jbProjects.processor.filter.ProjectionParameter;
+import br.com.jbProjects.processor.order.OrderDirection;
+import br.com.jbProjects.processor.order.ProjectionOrder;
+import br.com.jbProjects.processor.query.ProjectionPaging;
+import br.com.jbProjects.processor.query.ProjectionQuery;
+import br.com.jbProjects.processor.selectOperator.handler.DefaultSelectOperatorHandler;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Split form of a {@link ProjectionQuery} whose top-level {@code IN} filter is too large.</p>
+ *
+ * <p>The values of the largest top-level {@code IN} filter, given directly or bound to its
+ * parameter, are deduplicated and split into chunks of {@link ProjectionInListChunking#chunkSize()}
+ * values, and one query is created per chunk. Since each row matches a single chunk, the result of the original query is the
+ * concatenation of the chunk results, which is then:
+ * <ul>
+ *     <li>sorted by the query orders, whose paths must be projected by plain fields</li>
+ *     <li>deduplicated, for distinct queries</li>
+ *     <li>sliced by the query paging; each chunk query fetches the first {@code first + size} rows</li>
+ * </ul>
+ *
+ * <p><b>Order:</b> the merged rows are sorted in memory, and each chunk is trimmed in the order
+ * of the database, so a query is only split when both orders are provably the same: every order
+ * path is a non-optional number, date or time of the metamodel. Text, whose order depends on the
+ * collation, and nullable paths, whose position depends on the dialect, are not merged. A paged
+ * query must be ordered, since the rows of an unordered page are not determined.
+ *
+ * <p><b>Count:</b> the count of a split query is the sum of the chunk counts, so a count is only
+ * split when no row is counted by two chunks: the query is not distinct, and the {@code IN} path
+ * only crosses to-one associations.
+ *
+ * <p>Projections with aggregate fields cannot be merged and are never split. Queries that cannot
+ * be split are executed as a whole, with a warning.
+ *
+ * @param chunkQueries  One query per chunk of values, fetching rows from the start
+ * @param orderPositions Positions of the order fields in the projection rows
+ * @param descending    Whether each order is descending
+ * @param distinct      Whether the merged rows are deduplicated
+ * @param paging        The paging of the original query, or {@code null}
+ * @param <FROM>        The source entity type
+ * @param <TO>          The target projection type
+ */
+@Slf4j
+record ProjectionChunkedQuery<FROM, TO>(
+        List<ProjectionQuery<FROM, TO>> chunkQueries,
+        int[] orderPositions,
+        boolean[] descending,
+        boolean distinct,
+        ProjectionPaging paging
+) {
+
+    /** Types whose natural order in memory is the order of their values in any database. */
+    private static final Set<Class<?>> ORDERED_TYPES = Set.of(
+            byte.class, short.class, int.class, long.class,
+            Byte.class, Short.class, Integer.class, Long.class, BigInteger.class, BigDecimal.class,
+            LocalDate.class, LocalTime.class, LocalDateTime.class, Instant.class
+    );
+
+    /**
+     * Splits a query executed for its rows, if it has a top-level {@code IN} filter larger than
+     * a chunk and its merged rows are provably the rows of the whole query.
+     *
+     * @param projectionQuery The query to split
+     * @param chunking        The chunking configuration
+     * @param metamodel       The metamodel of the queried entities
+     * @param <FROM>          The source entity type
+     * @param <TO>            The target projection type
+     * @return The chunked query, or {@code null} when the query is executed as a whole
+     */
+    static <FROM, TO> ProjectionChunkedQuery<FROM, TO> of(ProjectionQuery<FROM, TO> projectionQuery, ProjectionInListChunking chunking, Metamodel metamodel) {
+        return split(projectionQuery, chunking, metamodel, false);
+    }
+
+    /**
+     * Splits a query executed for its count, if it has a top-level {@code IN} filter larger than
+     * a chunk and the sum of the chunk counts is provably the count of the whole query.
+     *
+     * @param projectionQuery The query to split
+     * @param chunking        The chunking configuration
+     * @param metamodel       The metamodel of the queried entities
+     * @param <FROM>          The source entity type
+     * @param <TO>            The target projection type
+     * @return The chunked query, or {@code null} when the query is counted as a whole
+     */
+    static <FROM, TO> ProjectionChunkedQuery<FROM, TO> ofCount(ProjectionQuery<FROM, TO> projectionQuery, ProjectionInListChunking chunking, Metamodel metamodel) {
+        return split(projectionQuery, chunking, metamodel, true);
+    }
+
+    private static <FROM, TO> ProjectionChunkedQuery<FROM, TO> split(ProjectionQuery<FROM, TO> projectionQuery, ProjectionInListChunking chunking, Metamodel metamodel, boolean count) {
+        int filterIndex = -1;
+        Collection<?> values = List.of();
+        List<ProjectionFilterExpression> filters = projectionQuery.getFilters();
+        for (int i = 0; i < filters.size(); i++) {
+            if(filters.get(i) instanceof ProjectionFilter filter
+                    && ProjectionFilterOperator.IN.name().equalsIgnoreCase(filter.operator())
+                    && inListValues(projectionQuery, filter) instanceof Collection<?> collection
+                    && chunking.appliesTo(collection.size())
+                    && collection.size() > values.size()){
+                filterIndex = i;
+                values = collection;
+            }
+        }
+
+        if(filterIndex < 0){
+            return null;
+        }
+
+        ProjectionMetadata metadata = ProjectionMetadataCache.get(projectionQuery.toClass());
+        List<FieldMetadata> fields = metadata.fields();
+        if(metadata.hasAggregate()){
+            log.warn("IN filter with {} values not split: projection {} has aggregate fields", values.size(), projectionQuery.toClass().getSimpleName());
+            return null;
+        }
+
+        ProjectionFilter inFilter = (ProjectionFilter) filters.get(filterIndex);
+        List<ProjectionOrder> orders = count ? List.of() : projectionQuery.getOrders();
+        if(count){
+            if(projectionQuery.isDistinct()){
+                log.warn("IN filter with {} values not split for count: query is distinct", values.size());
+                return null;
+            }
+            if(!isToOne(metamodel, projectionQuery, inFilter.path())){
+                log.warn("IN filter with {} values not split for count: path {} may join a to-many association", values.size(), inFilter.path());
+                return null;
+            }
+        }else if(projectionQuery.hasPaging() && orders.isEmpty()){
+            log.warn("IN filter with {} values not split: paged query has no orders", values.size());
+            return null;
+        }
+
+        int[] orderPositions = new int[orders.size()];
+        boolean[] descending = new boolean[orders.size()];
+        for (int i = 0; i < orders.size(); i++) {
+            orderPositions[i] = fieldPosition(fields, orders.get(i).path());
+            descending[i] = orders.get(i).direction() == OrderDirection.DESC;
+            if(orderPositions[i] < 0){
+                log.warn("IN filter with {} values not split: order path {} is not projected", values.size(), orders.get(i).path());
+                return null;
+            }
+            if(!isOrderedAsInDatabase(metamodel, projectionQuery, orders.get(i).path())){
+                log.warn("IN filter with {} values not split: order path {} may not sort in memory as in the database", values.size(), orders.get(i).path());
+                return null;
+            }
+        }
+
+        List<?> distinctValues = List.copyOf(new LinkedHashSet<>(values));
+        List<ProjectionQuery<FROM, TO>> chunkQueries = new ArrayList<>();
+        for (int start = 0; start < distinctValues.size(); start += chunking.chunkSize()) {
+            List<?> chunk = distinctValues.subList(start, Math.min(start + chunking.chunkSize(), distinctValues.size()));
+
+            ProjectionQuery<FROM, TO> chunkQuery = projectionQuery.copy();
+            if(inFilter.value() instanceof ProjectionParameter parameter){
+                chunkQuery.parameter(parameter.name(), chunk);
+            }else{
+                chunkQuery.getFilters().set(filterIndex, new ProjectionFilter(inFilter.path(), inFilter.operator(), chunk));
+            }
+            if(!count && projectionQuery.hasPaging()){
+                ProjectionPaging paging = projectionQuery.getPaging();
+                chunkQuery.paging(0, paging.first() + paging.size());
+            }
+            chunkQueries.add(chunkQuery);
+        }
+
+        log.debug("IN filter on {} split into {} chunks of up to {} values", inFilter.path(), chunkQueries.size(), chunking.chunkSize());
+        return new ProjectionChunkedQuery<>(chunkQueries, orderPositions, descending, projectionQuery.isDistinct(), count ? null : projectionQuery.getPaging());
+    }
+
+    /**
+     * Merges the rows of the chunk queries into the rows of the original query.
+     *
+     * @param chunkRows The rows of each chunk query, in chunk order
+     * @return The sorted, deduplicated and paged rows
+     */
+    List<Object[]> merge(List<List<Object[]>> chunkRows) {
+        List<Object[]> rows = new ArrayList<>();
+        chunkRows.forEach(rows::addAll);
+
+        if(orderPositions.length > 0){
+            rows.sort(this::compare);
+        }
+
+        if(distinct){
+            Set<List<Object>> seen = new HashSet<>();
+            rows.removeIf(row -> !seen.add(Arrays.asList(row)));
+        }
+
+        if(paging != null){
+            int from = Math.min(paging.first(), rows.size());
+            int to = Math.min(paging.first() + paging.size(), rows.size());
+            return new ArrayList<>(rows.subList(from, to));
+        }
+        return rows;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compare(Object[] left, Object[] right) {
+        for (int i = 0; i < orderPositions.length; i++) {
+            Comparable leftValue = (Comparable) left[orderPositions[i]];
+            Comparable rightValue = (Comparable) right[orderPositions[i]];
+
+            int comparison;
+            if(leftValue == null || rightValue == null){
+                comparison = leftValue == rightValue ? 0 : (leftValue == null ? -1 : 1);
+            }else{
+                comparison = leftValue.compareTo(rightValue);
+            }
+
+            if(comparison != 0){
+                return descending[i] ? -comparison : comparison;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the values of an {@code IN} filter, read from the query parameters when the filter
+     * holds a parameter; a parameter shared with other filters is never split.
+     */
+    private static Object inListValues(ProjectionQuery<?, ?> projectionQuery, ProjectionFilter filter) {
+        if(filter.value() instanceof ProjectionParameter parameter){
+            return parameterUses(projectionQuery.getFilters(), parameter.name()) == 1 ? projectionQuery.getParameters().get(parameter.name()) : null;
+        }
+        return filter.value();
+    }
+
+    private static int parameterUses(List<ProjectionFilterExpression> filters, String name) {
+        int uses = 0;
+        for (ProjectionFilterExpression expression : filters) {
+            if(expression instanceof ProjectionCompoundFilter compound){
+                uses += parameterUses(compound.filters(), name);
+            }else if(expression instanceof ProjectionFilter filter
+                    && filter.value() instanceof ProjectionParameter parameter
+                    && parameter.name().equals(name)){
+                uses++;
+            }
+        }
+        return uses;
+    }
+
+    /**
+     * Checks whether the values of a path are never {@code null} and sort in memory as in the
+     * database, which holds for non-optional numbers, dates and times whatever the dialect.
+     */
+    private static boolean isOrderedAsInDatabase(Metamodel metamodel, ProjectionQuery<?, ?> projectionQuery, String path) {
+        List<Attribute<?, ?>> attributes = attributes(metamodel, projectionQuery, path);
+        if(attributes == null
+                || !attributes.stream().allMatch(attribute -> attribute instanceof SingularAttribute<?, ?> singular && !singular.isOptional())){
+            return false;
+        }
+        return ORDERED_TYPES.contains(attributes.get(attributes.size() - 1).getJavaType());
+    }
+
+    /**
+     * Checks whether a path only crosses to-one associations, so each row of the query matches
+     * a single value of an {@code IN} filter on it.
+     */
+    private static boolean isToOne(Metamodel metamodel, ProjectionQuery<?, ?> projectionQuery, String path) {
+        List<Attribute<?, ?>> attributes = attributes(metamodel, projectionQuery, path);
+        return attributes != null && attributes.stream().noneMatch(Attribute::isCollection);
+    }
+
+    /**
+     * Returns the attributes along a path of the root entity.
+     *
+     * @param metamodel       The metamodel of the queried entities
+     * @param projectionQuery The query whose projection declares the path
+     * @param path            The path, possibly through join aliases
+     * @return The attributes of the path segments, or {@code null} when the path is not known to the metamodel
+     */
+    static List<Attribute<?, ?>> attributes(Metamodel metamodel, ProjectionQuery<?, ?> projectionQuery, String path) {
+        String[] segments = ProjectionMetadataCache.get(projectionQuery.toClass()).paths().resolve(path).segments();
+        List<Attribute<?, ?>> attributes = new ArrayList<>(segments.length);
+        try{
+            ManagedType<?> managedType = metamodel.managedType(projectionQuery.fromClass());
+            for (String segment : segments) {
+                if(managedType == null){
+                    return null;
+                }
+
+                Attribute<?, ?> attribute = managedType.getAttribute(segment);
+                attributes.add(attribute);
+
+                Type<?> type = attribute instanceof PluralAttribute<?, ?, ?> plural ? plural.getElementType() : ((SingularAttribute<?, ?>) attribute).getType();
+                managedType = type instanceof ManagedType<?> next ? next : null;
+            }
+        }catch (IllegalArgumentException e){
+            return null;
+        }
+        return attributes;
+    }
+
+    /**
+     * Returns the position of the plain field projecting a path.
+     *
+     * @param fields The fields of the projection
+     * @param path   The projected path
+     * @return The field position, or {@code -1} when no plain field projects the path
+     */
+    static int fieldPosition(List<FieldMetadata> fields, String path) {
+        for (int i = 0; i < fields.size(); i++) {
+            FieldMetadata field = fields.get(i);
+            if(field.value().equals(path) && field.selectHandler() == DefaultSelectOperatorHandler.class){
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.jbProjects.processor;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>How {@link ProjectionProcessor#executePageable} obtains the total number of elements of a page.</p>
+ *
+ * <ul>
+ *     <li>{@link #COUNT_QUERY}: a separate {@code COUNT} query is executed after the page query,
+ *     unless the page proves the total by itself (default)</li>
+ *     <li>{@link #WINDOW_FUNCTION}: the page query also selects {@code COUNT(*) OVER()}, and the
+ *     total is read from its first row, so a single query is executed</li>
+ * </ul>
+ *
+ * <p>{@code WINDOW_FUNCTION} falls back to {@code COUNT_QUERY} when the window count would not
+ * match the count query, or is not available:
+ * <ul>
+ *     <li>distinct queries, since the window is computed before duplicates are removed</li>
+ *     <li>projections with aggregate fields, since the window counts groups, not rows</li>
+ *     <li>queries executed in chunks by {@link ProjectionInListChunking}</li>
+ *     <li>dialects without window functions</li>
+ * </ul>
+ * A page past the last element has no row to read the total from; it is counted by a separate query.
+ *
+ * <p><b>Usage example:</b>
+ * <pre>{@code
+ * ProjectionProcessor processor = new ProjectionProcessor(
+ *     entityManager,
+ *     ProjectionProcessorOptions.defaults().withCountStrategy(ProjectionCountStrategy.WINDOW_FUNCTION)
+ * );
+ * }</pre>
+ *
+ * @see ProjectionProcessorOptions#withCountStrategy(ProjectionCountStrategy)
+ */
+public enum ProjectionCountStrategy {
+
+    /** Counts the elements with a separate {@code COUNT} query. */
+    COUNT_QUERY,
+
+    /** Reads the count from {@code COUNT(*) OVER()} selected by the page query. */
+    WINDOW_FUNCTION
+}
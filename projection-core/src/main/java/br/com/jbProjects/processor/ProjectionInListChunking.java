@@ -0,0 +1,97 @@
+package br.com.jbProjects.processor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Configuration for splitting queries with huge {@code IN} filters into chunked executions.</p>
+ *
+ * <p>An {@code IN} filter with tens of thousands of values reaches the parameter limits of most
+ * databases and takes a long time to parse. When a {@link ProjectionProcessor} is created with a
+ * {@code ProjectionInListChunking}, a top-level {@code IN} filter with more than
+ * {@code chunkSize} values is split: the query is executed once per chunk of values and the
+ * results are merged, honouring the orders, the distinct flag and the paging of the query.
+ * Queries whose merged rows or summed counts could differ from those of the whole query, such as
+ * queries ordered by text, are executed as a whole.
+ *
+ * <p>Every execution of the processor is split: lists, pages, slices, lazy lists, columnar
+ * results, keyset pages and prepared queries.
+ *
+ * <p>Chunks are executed one after the other on the processor's {@code EntityManager}. When an
+ * {@code executor} is given, they are executed concurrently on it instead, each one with its own
+ * {@code EntityManager} created from the same factory; such executions do not see changes not
+ * yet committed by the caller's transaction.
+ *
+ * <p><b>Usage example:</b>
+ * <pre>{@code
+ * // Sequential chunks of 1000 values
+ * ProjectionProcessor processor = new ProjectionProcessor(
+ *     entityManager,
+ *     ProjectionProcessorOptions.defaults().withInListChunking(ProjectionInListChunking.of(1000))
+ * );
+ *
+ * // Concurrent chunks
+ * ProjectionInListChunking.concurrent(1000, Executors.newFixedThreadPool(4));
+ * }</pre>
+ *
+ * @param chunkSize Maximum number of values of each chunk
+ * @param executor  Executor of concurrent chunks, or {@code null} to execute them sequentially
+ *
+ * @see ProjectionProcessorOptions
+ */
+public record ProjectionInListChunking(int chunkSize, Executor executor) {
+
+    /**
+     * Validates the configuration.
+     *
+     * @throws IllegalArgumentException if the chunk size is not positive
+     */
+    public ProjectionInListChunking {
+        if(chunkSize <= 0){
+            throw new IllegalArgumentException("IN list chunk size must be greater than zero: " + chunkSize);
+        }
+    }
+
+    /**
+     * Creates a configuration that executes the chunks sequentially.
+     *
+     * @param chunkSize Maximum number of values of each chunk
+     * @return The chunking configuration
+     */
+    public static ProjectionInListChunking of(int chunkSize) {
+        return new ProjectionInListChunking(chunkSize, null);
+    }
+
+    /**
+     * Creates a configuration that executes the chunks concurrently.
+     *
+     * @param chunkSize Maximum number of values of each chunk
+     * @param executor  Executor of the chunks
+     * @return The chunking configuration
+     */
+    public static ProjectionInListChunking concurrent(int chunkSize, Executor executor) {
+        if(executor == null){
+            throw new IllegalArgumentException("Executor must not be null for concurrent chunks");
+        }
+        return new ProjectionInListChunking(chunkSize, executor);
+    }
+
+    /**
+     * Checks whether an {@code IN} list with the given number of values is split.
+     *
+     * @param size The number of values
+     * @return {@code true} if the list has more values than a chunk
+     */
+    public boolean appliesTo(int size) {
+        return size > chunkSize;
+    }
+
+    /**
+     * Checks whether the chunks are executed concurrently.
+     *
+     * @return {@code true} if an executor is configured
+     */
+    public boolean isConcurrent() {
+        return executor != null;
+    }
+}
@@ -0,0 +1,196 @@
+package br.com.jbProjects.processor;
+
+import br.com.jbProjects.metadata.cache.ProjectionMetadataCache;
+import br.com.jbProjects.metadata.model.FieldMetadata;
+import br.com.jbProjects.metadata.model.ProjectionMetadata;
+import br.com.jbProjects.processor.filter.ProjectionFilterExpression;
+import br.com.jbProjects.processor.filter.ProjectionFilters;
+import br.com.jbProjects.processor.joinResolver.MetamodelIdentifierResolver;
+import br.com.jbProjects.processor.order.OrderDirection;
+import br.com.jbProjects.processor.order.ProjectionOrder;
+import br.com.jbProjects.processor.pageable.ProjectionCursor;
+import br.com.jbProjects.processor.query.ProjectionPaging;
+import br.com.jbProjects.processor.query.ProjectionQuery;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.Metamodel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Seek form of a {@link ProjectionQuery} paginated by keyset.</p>
+ *
+ * <p>The query orders are completed with the identifier attributes of the root entity, which
+ * makes the order of the rows unique. A page starts right after the row of the cursor: for
+ * orders {@code k1 .. kn} and cursor values {@code v1 .. vn}, the seek query filters the rows
+ * coming after {@code (v1 .. vn)} in the order of the query,
+ * <pre>{@code
+ * k1 >= v1 AND (k1 > v1 OR (k1 = v1 AND k2 > v2) OR ... OR (k1 = v1 AND ... AND kn > vn))
+ * }</pre>
+ * with {@code <} and {@code <=} for descending orders. This is the row value comparison
+ * {@code (k1 .. kn) > (v1 .. vn)}, which JPA criteria cannot express, extended to mixed
+ * directions; the leading {@code k1 >= v1} lets the database seek an index on {@code k1}.
+ *
+ * <p>The seek query fetches one row beyond the page size, telling whether a next page exists.
+ * The values of the cursor of the next page are read from the last row of the page, so every
+ * order path must be projected by a plain field. The cursor also holds a fingerprint of the
+ * order paths and directions, and is rejected by a query ordered differently. Enums are read
+ * from the cursor by name, and converted to the type of their order path in the metamodel.
+ *
+ * <p>Projections with aggregate fields are grouped, and their rows cannot be located by the
+ * values of a single row; they are rejected.
+ *
+ * @param seekQuery     The query fetching the page rows, from the start, with the extra row
+ * @param keyPositions  Positions of the order fields in the projection rows
+ * @param fingerprint   Fingerprint of the order paths and directions of the seek query
+ * @param <FROM>        The source entity type
+ * @param <TO>          The target projection type
+ */
+record ProjectionKeysetQuery<FROM, TO>(
+        ProjectionQuery<FROM, TO> seekQuery,
+        int[] keyPositions,
+        int fingerprint
+) {
+
+    /**
+     * Creates the seek query of a keyset page.
+     *
+     * @param projectionQuery    The query, with its paging size
+     * @param cursor             The cursor of the page, or {@code null} for the first page
+     * @param identifierResolver Resolver of the identifier attributes of the root entity
+     * @param metamodel          The metamodel of the queried entities
+     * @param <FROM>             The source entity type
+     * @param <TO>               The target projection type
+     * @return The keyset query
+     * @throws IllegalStateException    if the projection has aggregate fields, the entity has no identifier, or an order path is not projected
+     * @throws IllegalArgumentException if the cursor does not match the query orders
+     */
+    static <FROM, TO> ProjectionKeysetQuery<FROM, TO> of(ProjectionQuery<FROM, TO> projectionQuery, ProjectionCursor cursor, MetamodelIdentifierResolver identifierResolver, Metamodel metamodel) {
+        ProjectionMetadata metadata = ProjectionMetadataCache.get(projectionQuery.toClass());
+        if(metadata.hasAggregate()){
+            throw new IllegalStateException("Keyset pagination does not support projections with aggregate fields: " + projectionQuery.toClass().getSimpleName());
+        }
+
+        ProjectionQuery<FROM, TO> seekQuery = projectionQuery.copy();
+
+        Set<String> identifiers = identifierResolver.identifiers(projectionQuery.fromClass());
+        if(identifiers.isEmpty()){
+            throw new IllegalStateException("Keyset pagination requires an entity with an identifier: " + projectionQuery.fromClass().getName());
+        }
+
+        List<String> orderedPaths = seekQuery.getOrders().stream().map(ProjectionOrder::path).toList();
+        identifiers.stream()
+                .sorted()
+                .filter(identifier -> !orderedPaths.contains(identifier))
+                .forEach(identifier -> seekQuery.order(identifier, OrderDirection.ASC));
+
+        List<FieldMetadata> fields = metadata.fields();
+        List<ProjectionOrder> orders = seekQuery.getOrders();
+        int[] keyPositions = new int[orders.size()];
+        for (int i = 0; i < orders.size(); i++) {
+            keyPositions[i] = ProjectionChunkedQuery.fieldPosition(fields, orders.get(i).path());
+            if(keyPositions[i] < 0){
+                throw new IllegalStateException("Keyset pagination requires order path " + orders.get(i).path() + " to be projected by a plain field of " + projectionQuery.toClass().getSimpleName());
+            }
+        }
+
+        int fingerprint = fingerprint(orders);
+        if(cursor != null){
+            if(cursor.fingerprint() != ProjectionCursor.UNBOUND && cursor.fingerprint() != fingerprint){
+                throw new IllegalArgumentException("ProjectionCursor was created by a query with different orders");
+            }
+            if(cursor.values().size() != orders.size()){
+                throw new IllegalArgumentException("ProjectionCursor has " + cursor.values().size() + " values, expected " + orders.size());
+            }
+            seekQuery.filter(seek(orders, values(metamodel, projectionQuery, orders, cursor.values())));
+        }
+
+        ProjectionPaging paging = projectionQuery.getPaging();
+        seekQuery.paging(0, paging.size() + 1);
+
+        return new ProjectionKeysetQuery<>(seekQuery, keyPositions, fingerprint);
+    }
+
+    /**
+     * Reads the cursor of the row following the given one.
+     *
+     * @param row The last row of a page
+     * @return The cursor of the next page
+     * @throws IllegalStateException if an order path is {@code null} in the row
+     */
+    ProjectionCursor cursor(Object[] row) {
+        List<Object> values = new ArrayList<>(keyPositions.length);
+        for (int i = 0; i < keyPositions.length; i++) {
+            Object value = row[keyPositions[i]];
+            if(value == null){
+                throw new IllegalStateException("Keyset pagination requires non-null order values, but order path " + seekQuery.getOrders().get(i).path() + " is null");
+            }
+            values.add(value);
+        }
+        return new ProjectionCursor(values, fingerprint);
+    }
+
+    /**
+     * Computes the fingerprint of the orders of a query, from their paths and direction names
+     * only, so it is stable across JVMs. It is never {@link ProjectionCursor#UNBOUND}.
+     */
+    private static int fingerprint(List<ProjectionOrder> orders) {
+        int fingerprint = orders.stream().map(order -> order.path() + " " + order.direction().name()).toList().hashCode();
+        return fingerprint == ProjectionCursor.UNBOUND ? 1 : fingerprint;
+    }
+
+    /**
+     * Converts the enum names read from a cursor to the enum types of their order paths.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static List<Object> values(Metamodel metamodel, ProjectionQuery<?, ?> projectionQuery, List<ProjectionOrder> orders, List<Object> values) {
+        List<Object> converted = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            if(value instanceof String name){
+                List<Attribute<?, ?>> attributes = ProjectionChunkedQuery.attributes(metamodel, projectionQuery, orders.get(i).path());
+                Class<?> type = attributes == null ? null : attributes.get(attributes.size() - 1).getJavaType();
+                if(type != null && type.isEnum()){
+                    try{
+                        value = Enum.valueOf((Class<Enum>) type, name);
+                    }catch (IllegalArgumentException e){
+                        throw new IllegalArgumentException("ProjectionCursor value " + name + " is not a constant of " + type.getSimpleName(), e);
+                    }
+                }
+            }
+            converted.add(value);
+        }
+        return converted;
+    }
+
+    private static ProjectionFilterExpression seek(List<ProjectionOrder> orders, List<Object> values) {
+        List<ProjectionFilterExpression> alternatives = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            ProjectionFilterExpression[] conditions = new ProjectionFilterExpression[i + 1];
+            for (int j = 0; j < i; j++) {
+                conditions[j] = ProjectionFilters.equal(orders.get(j).path(), values.get(j));
+            }
+            conditions[i] = after(orders.get(i), values.get(i));
+            alternatives.add(i == 0 ? conditions[0] : ProjectionFilters.and(conditions));
+        }
+
+        if(alternatives.size() == 1){
+            return alternatives.get(0);
+        }
+
+        ProjectionOrder first = orders.get(0);
+        ProjectionFilterExpression range = first.direction() == OrderDirection.DESC
+                ? ProjectionFilters.lessThanOrEqual(first.path(), values.get(0))
+                : ProjectionFilters.greaterThanOrEqual(first.path(), values.get(0));
+
+        return ProjectionFilters.and(range, ProjectionFilters.or(alternatives.toArray(ProjectionFilterExpression[]::new)));
+    }
+
+    private static ProjectionFilterExpression after(ProjectionOrder order, Object value) {
+        return order.direction() == OrderDirection.DESC
+                ? ProjectionFilters.lessThan(order.path(), value)
+                : ProjectionFilters.greaterThan(order.path(), value);
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.jbProjects.processor;
+
+import br.com.jbProjects.mapper.ProjectionRowMapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Configuration for mapping large results on multiple threads.</p>
+ *
+ * <p>By default, rows are mapped one by one inside Hibernate's result loop. When a
+ * {@link ProjectionProcessor} is created with a {@code ProjectionParallelMapping}, results with at
+ * least {@code threshold} rows are first fetched positionally and then mapped on {@code pool},
+ * splitting the rows among its workers. The order of the results is always preserved.
+ *
+ * <p>Unpaged queries, such as large exports, are fetched positionally and decided by the number
+ * of rows fetched. Paged queries whose page size is below the threshold cannot reach it, so they
+ * keep the in-loop mapping. Results below the threshold are mapped sequentially, since splitting
+ * small results costs more than it saves.
+ *
+ * <p><b>Usage example:</b>
+ * <pre>{@code
+ * // Common pool, results with 10k rows or more
+ * ProjectionProcessor processor = new ProjectionProcessor(entityManager, ProjectionParallelMapping.of(10_000));
+ *
+ * // Dedicated pool
+ * ForkJoinPool reportPool = new ForkJoinPool(16);
+ * ProjectionProcessor reportProcessor = new ProjectionProcessor(
+ *     entityManager,
+ *     new ProjectionParallelMapping(10_000, reportPool)
+ * );
+ * }</pre>
+ *
+ * @param threshold Minimum number of rows mapped in parallel
+ * @param pool      Pool whose workers map the rows
+ *
+ * @see ProjectionProcessor#execute(br.com.jbProjects.processor.query.ProjectionQuery)
+ */
+public record ProjectionParallelMapping(int threshold, ForkJoinPool pool) {
+
+    /**
+     * Validates the configuration.
+     *
+     * @throws IllegalArgumentException if the threshold is not positive
+     * @throws NullPointerException if the pool is {@code null}
+     */
+    public ProjectionParallelMapping {
+        if(threshold <= 0){
+            throw new IllegalArgumentException("Parallel mapping threshold must be greater than zero: " + threshold);
+        }
+        Objects.requireNonNull(pool, "ForkJoinPool must not be null");
+    }
+
+    /**
+     * Creates a configuration that maps on the {@linkplain ForkJoinPool#commonPool() common pool}.
+     *
+     * @param threshold Minimum number of rows mapped in parallel
+     * @return The parallel mapping configuration
+     */
+    public static ProjectionParallelMapping of(int threshold) {
+        return new ProjectionParallelMapping(threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Checks whether a result with the given number of rows is mapped in parallel.
+     *
+     * @param rowCount The number of rows
+     * @return {@code true} if the row count reaches the threshold
+     */
+    public boolean appliesTo(int rowCount) {
+        return rowCount >= threshold;
+    }
+
+    /**
+     * Maps the rows on the pool, preserving their order.
+     *
+     * <p>Each row is handled by a single worker, so row mappers that convert values in place
+     * remain safe. Exceptions thrown by the mapper are rethrown to the caller.
+     *
+     * @param rows      Positional rows ordered as the projection fields
+     * @param rowMapper Mapper used to create the projection instances
+     * @param <T>       The projection type
+     * @return The mapped projections, in row order
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> map(List<Object[]> rows, ProjectionRowMapper<T> rowMapper) {
+        Object[] results = new Object[rows.size()];
+        pool.submit(() -> IntStream.range(0, results.length)
+                .parallel()
+                .forEach(i -> results[i] = rowMapper.map(rows.get(i)))
+        ).join();
+        return new ArrayList<>((List<T>) Arrays.asList(results));
+    }
+}
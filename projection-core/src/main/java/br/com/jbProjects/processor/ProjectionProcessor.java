@@ -1,18 +1,38 @@
 package br.com.jbProjects.processor;
 
 import br.com.jbProjects.annotations.Projection;
+import br.com.jbProjects.builder.ProjectionQueryPlanCache;
 import br.com.jbProjects.builder.ProjectionTypedQueryBuilder;
-import br.com.jbProjects.mapper.ProjectionMappers;
+import br.com.jbProjects.mapper.LazyProjectionList;
+import br.com.jbProjects.mapper.ProjectionRowMapper;
+import br.com.jbProjects.mapper.ProjectionStringDictionary;
+import br.com.jbProjects.metadata.cache.ProjectionMetadataCache;
+import br.com.jbProjects.metadata.model.ProjectionMetadata;
+import br.com.jbProjects.processor.columnar.ProjectionColumns;
+import br.com.jbProjects.processor.columnar.ProjectionColumnsBuilder;
+import br.com.jbProjects.processor.joinResolver.MetamodelIdentifierResolver;
+import br.com.jbProjects.processor.pageable.ProjectionCursor;
+import br.com.jbProjects.processor.pageable.ProjectionKeysetPage;
 import br.com.jbProjects.processor.pageable.ProjectionPage;
+import br.com.jbProjects.processor.pageable.ProjectionSlice;
+import br.com.jbProjects.processor.query.PreparedProjectionQuery;
+import br.com.jbProjects.processor.query.ProjectionPaging;
 import br.com.jbProjects.processor.query.ProjectionQuery;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.Tuple;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.TypedQuery;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Created by julio.bueno on 21/11/2025.
@@ -20,7 +40,7 @@ import java.util.stream.Collectors;
  * <p>
  * The {@code ProjectionProcessor} is responsible for transforming a {@link ProjectionQuery}
  * into a list of results of the target projection class. It handles filtering,
- * specifications, ordering, pagination, and mapping from database tuples to DTOs.
+ * specifications, ordering, pagination, and mapping from database rows to DTOs.
  *
  * <p>It can be used in two main ways:
  * <ul>
@@ -45,13 +65,35 @@ import java.util.stream.Collectors;
  * }</pre>
  *
  * <p>All internal query transformations, such as selecting fields, resolving paths,
- * applying filters, and mapping tuples, are handled transparently by this class.
+ * applying filters, and mapping rows, are handled transparently by this class.
+ * Rows are fetched positionally (one {@code Object[]} per row, following the projection
+ * fields order) and mapped by the compiled {@link ProjectionRowMapper} of the projection
+ * inside Hibernate's result loop, so no intermediate list of rows is materialized.
+ *
+ * <p>When created with a {@link ProjectionParallelMapping}, results reaching its threshold
+ * are fetched positionally and mapped on multiple threads, preserving their order. Unpaged
+ * queries are decided by the number of rows fetched; paged queries whose page size is below
+ * the threshold cannot reach it, and keep the in-loop mapping.
+ *
+ * <p>When created with a {@link br.com.jbProjects.processor.filter.ProjectionInListPadding}, the values of {@code IN} and
+ * {@code NOT IN} filters are padded to power-of-two sizes, limiting the number of distinct
+ * SQL statements produced by lists of varying sizes.
+ *
+ * <p>When created with a {@link ProjectionInListChunking}, queries with a huge top-level
+ * {@code IN} filter are executed in chunks and their results merged.
+ *
+ * @see ProjectionProcessorOptions
  */
 @Slf4j
 public class ProjectionProcessor {
 
-    private final ProjectionTypedQueryBuilder queryBuilder = new ProjectionTypedQueryBuilder();
+    private final ProjectionTypedQueryBuilder queryBuilder;
+    private final ProjectionProcessorStats stats = new ProjectionProcessorStats();
     private final EntityManager entityManager;
+    private final ProjectionParallelMapping parallelMapping;
+    private final ProjectionInListChunking inListChunking;
+    private final ProjectionCountStrategy countStrategy;
+    private final Executor countExecutor;
 
     /**
      * Constructs a ProjectionProcessor with the given EntityManager.
@@ -59,7 +101,33 @@ public class ProjectionProcessor {
      * @param entityManager The EntityManager used for executing queries.
      */
     public ProjectionProcessor(EntityManager entityManager){
-        this.entityManager = Objects.requireNonNull(entityManager, "EntityManager must not be null");;
+        this(entityManager, ProjectionProcessorOptions.defaults());
+    }
+
+    /**
+     * Constructs a ProjectionProcessor that maps large results in parallel.
+     *
+     * @param entityManager   The EntityManager used for executing queries.
+     * @param parallelMapping The parallel mapping configuration, or {@code null} to always map sequentially.
+     */
+    public ProjectionProcessor(EntityManager entityManager, ProjectionParallelMapping parallelMapping){
+        this(entityManager, ProjectionProcessorOptions.defaults().withParallelMapping(parallelMapping));
+    }
+
+    /**
+     * Constructs a ProjectionProcessor with the given execution strategies.
+     *
+     * @param entityManager The EntityManager used for executing queries.
+     * @param options       The execution strategies of the processor.
+     * @see ProjectionProcessorOptions
+     */
+    public ProjectionProcessor(EntityManager entityManager, ProjectionProcessorOptions options){
+        this.entityManager = Objects.requireNonNull(entityManager, "EntityManager must not be null");
+        this.parallelMapping = options.parallelMapping();
+        this.inListChunking = options.inListChunking();
+        this.countStrategy = options.countStrategy();
+        this.countExecutor = options.countExecutor();
+        this.queryBuilder = new ProjectionTypedQueryBuilder(new ProjectionQueryPlanCache(), options.inListPadding());
     }
 
     /**
@@ -82,26 +150,278 @@ public class ProjectionProcessor {
      * @param <FROM>          The source entity type.
      * @param <TO>            The target projection type.
      * @return A list of results mapped to the target projection class.
+     * @see ProjectionParallelMapping
+     * @see ProjectionInListChunking
      */
     public <FROM, TO> List<TO> execute(ProjectionQuery<FROM, TO> projectionQuery){
-        TypedQuery<Tuple> typedQuery = queryBuilder.build(projectionQuery, entityManager);
+        ProjectionChunkedQuery<FROM, TO> chunkedQuery = chunk(projectionQuery);
+        if(chunkedQuery != null){
+            return executeChunked(projectionQuery, chunkedQuery);
+        }
+
+        if(parallelMapping != null && (!projectionQuery.hasPaging() || parallelMapping.appliesTo(projectionQuery.getPaging().size()))){
+            return executeParallel(projectionQuery);
+        }
 
+        ProjectionStringDictionary dictionary = new ProjectionStringDictionary();
+        return executeProjection(queryBuilder.buildProjection(projectionQuery, entityManager, dictionary), dictionary);
+    }
+
+    private <TO> List<TO> executeProjection(TypedQuery<TO> typedQuery, ProjectionStringDictionary dictionary){
         long start = System.nanoTime();
-        List<Tuple> tuples = typedQuery.getResultList();
+        List<TO> items = typedQuery.getResultList();
         long elapsed = (System.nanoTime() - start) / 1_000_000;
 
+        stats.record(items.size(), dictionary);
         log.info(
                 "ProjectionQuery executed in {} ms ({} results)",
                 elapsed,
-                tuples.size()
+                items.size()
         );
+        logDictionary(dictionary);
+
+        return items;
+    }
+
+    /**
+     * Executes a prepared projection query, binding the given parameter values.
+     *
+     * <p>The template of the prepared query is planned once by the plan cache, and each
+     * execution only binds {@code arguments}. When the processor splits IN lists with a
+     * {@link ProjectionInListChunking}, or maps results with a {@link ProjectionParallelMapping}
+     * and the template is unpaged or paged with a size reaching its threshold, the arguments are
+     * bound to a new query executed as {@link #execute(ProjectionQuery)} does.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * List<CustomerDTO> active = processor.execute(BY_STATUS, Map.of("status", "ACTIVE"));
+     * }</pre>
+     *
+     * @param preparedQuery The prepared projection query.
+     * @param arguments     Values of the query parameters, by name.
+     * @param <FROM>        The source entity type.
+     * @param <TO>          The target projection type.
+     * @return A list of results mapped to the target projection class.
+     * @throws IllegalArgumentException if a parameter has no value, or a value does not match any parameter.
+     * @see PreparedProjectionQuery
+     */
+    public <FROM, TO> List<TO> execute(PreparedProjectionQuery<FROM, TO> preparedQuery, Map<String, ?> arguments){
+        ProjectionPaging paging = preparedQuery.paging();
+        if(inListChunking != null || (parallelMapping != null && (paging == null || parallelMapping.appliesTo(paging.size())))){
+            return execute(preparedQuery.bind(arguments));
+        }
+
+        ProjectionStringDictionary dictionary = new ProjectionStringDictionary();
+        return executeProjection(queryBuilder.buildProjection(preparedQuery, arguments, entityManager, dictionary), dictionary);
+    }
+
+    private <FROM, TO> List<TO> executeParallel(ProjectionQuery<FROM, TO> projectionQuery){
+        TypedQuery<Object[]> typedQuery = queryBuilder.buildRows(projectionQuery, entityManager);
+
+        long start = System.nanoTime();
+        return mapRows(projectionQuery, typedQuery.getResultList(), start);
+    }
+
+    private <FROM, TO> List<TO> executeChunked(ProjectionQuery<FROM, TO> projectionQuery, ProjectionChunkedQuery<FROM, TO> chunkedQuery){
+        long start = System.nanoTime();
+        return mapRows(projectionQuery, fetchChunks(chunkedQuery), start);
+    }
+
+    /**
+     * Fetches the rows of a query positionally, in chunks when its IN list is split by the
+     * {@link ProjectionInListChunking} of the processor.
+     */
+    private <FROM, TO> List<Object[]> fetchRows(ProjectionQuery<FROM, TO> projectionQuery){
+        ProjectionChunkedQuery<FROM, TO> chunkedQuery = chunk(projectionQuery);
+        if(chunkedQuery == null){
+            return queryBuilder.buildRows(projectionQuery, entityManager).getResultList();
+        }
+        return fetchChunks(chunkedQuery);
+    }
+
+    private <FROM, TO> List<Object[]> fetchChunks(ProjectionChunkedQuery<FROM, TO> chunkedQuery){
+        List<Object[]> rows = chunkedQuery.merge(executeChunks(chunkedQuery.chunkQueries(), entityManager, (chunkQuery, chunkEntityManager) ->
+                queryBuilder.buildRows(chunkQuery, chunkEntityManager).getResultList()
+        ));
+
+        log.info("ProjectionQuery executed in {} chunks", chunkedQuery.chunkQueries().size());
+        return rows;
+    }
+
+    private <FROM, TO> List<TO> mapRows(ProjectionQuery<FROM, TO> projectionQuery, List<Object[]> rows, long start){
+        ProjectionMetadata metadata = ProjectionMetadataCache.get(projectionQuery.toClass());
+
+        ProjectionStringDictionary dictionary = new ProjectionStringDictionary();
+        int[] deduplicatedPositions = ProjectionStringDictionary.positions(metadata.fields(), projectionQuery.isDeduplicateStrings());
+        if(deduplicatedPositions.length > 0){
+            rows.forEach(row -> dictionary.canonicalize(row, deduplicatedPositions));
+        }
+
+        ProjectionRowMapper<TO> rowMapper = metadata.rowMapper(projectionQuery.toClass());
+        boolean parallel = parallelMapping != null && parallelMapping.appliesTo(rows.size());
+        List<TO> items = parallel
+                ? parallelMapping.map(rows, rowMapper)
+                : rows.stream().map(rowMapper::map).collect(Collectors.toCollection(ArrayList::new));
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        stats.record(items.size(), dictionary);
+        if(parallel){
+            stats.recordParallelMapping();
+        }
+        log.info(
+                "ProjectionQuery executed in {} ms ({} results, parallel mapping={})",
+                elapsed,
+                items.size(),
+                parallel
+        );
+        logDictionary(dictionary);
+
+        return items;
+    }
+
+    /**
+     * Executes a projection query and returns a list that maps rows on access.
+     *
+     * <p>The query rows are fetched positionally and kept as they are; each projection
+     * instance is only created when the corresponding element is read. This is useful for
+     * callers that only check {@code size()}/{@code isEmpty()} or read the first elements
+     * of a large result.
+     *
+     * <p>Strings are deduplicated as rows are mapped, by a dictionary shared by the list; the
+     * dictionary statistics are recorded when the query is executed, not on each access.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * List<CustomerDTO> customers = processor.executeLazy(query, true);
+     * CustomerDTO first = customers.get(0); // maps a single row
+     * }</pre>
+     *
+     * @param projectionQuery The projection query containing all configurations.
+     * @param cacheElements   {@code true} to keep each mapped instance, so it is created at most once.
+     * @param <FROM>          The source entity type.
+     * @param <TO>            The target projection type.
+     * @return An unmodifiable list backed by the query rows.
+     * @see LazyProjectionList
+     */
+    public <FROM, TO> List<TO> executeLazy(ProjectionQuery<FROM, TO> projectionQuery, boolean cacheElements){
+        long start = System.nanoTime();
+        List<Object[]> rows = fetchRows(projectionQuery);
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        log.info(
+                "ProjectionQuery lazy executed in {} ms ({} results)",
+                elapsed,
+                rows.size()
+        );
+
+        ProjectionStringDictionary dictionary = new ProjectionStringDictionary();
+        stats.record(rows.size(), dictionary);
+
+        ProjectionMetadata metadata = ProjectionMetadataCache.get(projectionQuery.toClass());
+        int[] deduplicatedPositions = ProjectionStringDictionary.positions(metadata.fields(), projectionQuery.isDeduplicateStrings());
+        ProjectionRowMapper<TO> rowMapper = ProjectionStringDictionary.withDictionary(metadata.rowMapper(projectionQuery.toClass()), dictionary, deduplicatedPositions);
+        if(deduplicatedPositions.length > 0){
+            ProjectionRowMapper<TO> deduplicatingMapper = rowMapper;
+            rowMapper = row -> {
+                synchronized (dictionary){
+                    return deduplicatingMapper.map(row);
+                }
+            };
+        }
+
+        return new LazyProjectionList<>(rows, rowMapper, cacheElements);
+    }
+
+    /**
+     * Executes a projection query and returns the result in columnar form.
+     *
+     * <p>Rows are streamed from the database and written straight into one array per
+     * projection field. Numeric fields ({@code long}, {@code int}, {@code double} and
+     * their narrower or boxed variants) are stored in primitive arrays, so no projection
+     * instance and no boxed number is kept per row. Queries split by a
+     * {@link ProjectionInListChunking} are merged before they are written.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * ProjectionColumns<CustomerCountByAge> columns = processor.executeColumnar(
+     *     ProjectionQuery.fromTo(Customer.class, CustomerCountByAge.class)
+     * );
+     * long[] quantities = columns.longs("quantity");
+     * }</pre>
+     *
+     * @param projectionQuery The projection query containing all configurations.
+     * @param <FROM>          The source entity type.
+     * @param <TO>            The target projection type.
+     * @return The columnar result of the query.
+     */
+    public <FROM, TO> ProjectionColumns<TO> executeColumnar(ProjectionQuery<FROM, TO> projectionQuery){
+        ProjectionChunkedQuery<FROM, TO> chunkedQuery = chunk(projectionQuery);
+        ProjectionMetadata metadata = ProjectionMetadataCache.get(projectionQuery.toClass());
+        ProjectionColumnsBuilder<TO> columnsBuilder = new ProjectionColumnsBuilder<>(
+                projectionQuery.toClass(),
+                metadata,
+                projectionQuery.hasPaging() ? projectionQuery.getPaging().size() : 0
+        );
+
+        ProjectionStringDictionary dictionary = new ProjectionStringDictionary();
+        int[] deduplicatedPositions = ProjectionStringDictionary.positions(metadata.fields(), projectionQuery.isDeduplicateStrings());
+
+        long start = System.nanoTime();
+        try(Stream<Object[]> rows = chunkedQuery == null
+                ? queryBuilder.buildRows(projectionQuery, entityManager).getResultStream()
+                : fetchChunks(chunkedQuery).stream()){
+            rows.forEach(row -> columnsBuilder.add(dictionary.canonicalize(row, deduplicatedPositions)));
+        }
+        ProjectionColumns<TO> columns = columnsBuilder.build();
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        stats.record(columns.size(), dictionary);
+        log.info(
+                "ProjectionQuery columnar executed in {} ms ({} results)",
+                elapsed,
+                columns.size()
+        );
+        logDictionary(dictionary);
+
+        return columns;
+    }
+
+    /**
+     * Returns the plan cache used to reuse criteria queries across executions.
+     *
+     * @return The plan cache, with its hit and miss counters
+     * @see ProjectionQueryPlanCache
+     */
+    public ProjectionQueryPlanCache getPlanCache(){
+        return queryBuilder.getPlanCache();
+    }
 
-        return mapTuplesToProjectionClass(tuples, projectionQuery.toClass());
+    /**
+     * Returns the cumulative execution statistics of this processor.
+     *
+     * @return The execution statistics, updated after each execution
+     * @see ProjectionProcessorStats
+     */
+    public ProjectionProcessorStats getStats(){
+        return stats;
     }
 
     /**
      * Executes a pageable projection query and returns a paginated result.
      *
+     * <p>The count query is only executed when the page is full. A page with fewer rows than the
+     * page size is the last one, so the total is {@code first + content.size()}; an empty page
+     * is returned without counting.</p>
+     *
+     * <p>With {@link ProjectionCountStrategy#WINDOW_FUNCTION}, the page query also selects
+     * {@code COUNT(*) OVER()} and the total is read from its first row, so no count query is
+     * executed for non-empty pages.</p>
+     *
+     * <p>With a {@linkplain ProjectionProcessorOptions#withCountExecutor count executor}, the count
+     * query is started on the executor before the page query, on its own {@code EntityManager}, and
+     * its result is only awaited for full pages. For empty and partial pages its result is
+     * discarded, but a count query already running on the database is not interrupted.</p>
+     *
      * @param projectionQuery The projection query containing all configurations including paging.
      * @param <FROM>          The source entity type.
      * @param <TO>            The target projection type.
@@ -113,23 +433,79 @@ public class ProjectionProcessor {
             throw new IllegalStateException("ProjectionQuery must have paging to execute pageable.");
         }
 
-        List<TO> items = execute(projectionQuery);
+        if(countStrategy == ProjectionCountStrategy.WINDOW_FUNCTION
+                && chunk(projectionQuery) == null
+                && queryBuilder.supportsWindowCount(projectionQuery, entityManager)){
+            return executePageableWithWindowCount(projectionQuery);
+        }
+
+        CompletableFuture<Long> concurrentCount = countExecutor != null ? countConcurrently(projectionQuery) : null;
+
+        List<TO> items;
+        try{
+            items = execute(projectionQuery);
+        }catch (RuntimeException e){
+            cancel(concurrentCount);
+            throw e;
+        }
+
         if(items.isEmpty()){
+            cancel(concurrentCount);
             return ProjectionPage.empty(projectionQuery.getPaging());
         }
 
-        TypedQuery<Long> typedQuery = queryBuilder.buildCountQuery(projectionQuery, entityManager);
+        ProjectionPaging paging = projectionQuery.getPaging();
+        long totalElements;
+        if(items.size() < paging.size()){
+            cancel(concurrentCount);
+            totalElements = paging.first() + items.size();
+            stats.recordSkippedCount();
+            log.debug("ProjectionQuery Pageable count skipped: partial page proves totalElements={}", totalElements);
+        }else{
+            long start = System.nanoTime();
+            totalElements = concurrentCount != null ? join(concurrentCount) : count(projectionQuery, entityManager);
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+            stats.recordCount();
+            if(concurrentCount != null){
+                stats.recordConcurrentCount();
+            }
+
+            log.info(
+                    "ProjectionQuery Pageable count {} in {} ms",
+                    concurrentCount != null ? "awaited" : "executed",
+                    elapsed
+            );
+        }
+
+        return createPage(items, totalElements, paging);
+    }
+
+    private <FROM, TO> ProjectionPage<TO> executePageableWithWindowCount(ProjectionQuery<FROM, TO> projectionQuery){
+        ProjectionPaging paging = projectionQuery.getPaging();
 
         long start = System.nanoTime();
-        Long singleResult = typedQuery.getSingleResult();
-        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        List<Object[]> rows = queryBuilder.buildRowsWithCount(projectionQuery, entityManager).getResultList();
+        if(rows.isEmpty()){
+            if(paging.first() == 0){
+                return ProjectionPage.empty(paging);
+            }
 
-        log.info(
-                "ProjectionQuery Pageable count executed in {} ms",
-                elapsed
-        );
+            long totalElements = count(projectionQuery, entityManager);
+            stats.recordCount();
+            log.debug("ProjectionQuery Pageable count executed: page past the last element, totalElements={}", totalElements);
+            return createPage(List.of(), totalElements, paging);
+        }
 
-        ProjectionPage<TO> page = ProjectionPage.of(items, singleResult, projectionQuery.getPaging());
+        Object[] firstRow = rows.get(0);
+        long totalElements = ((Number) firstRow[firstRow.length - 1]).longValue();
+        stats.recordWindowCount();
+        log.debug("ProjectionQuery Pageable count read from window function: totalElements={}", totalElements);
+
+        return createPage(mapRows(projectionQuery, rows, start), totalElements, paging);
+    }
+
+    private <TO> ProjectionPage<TO> createPage(List<TO> items, long totalElements, ProjectionPaging paging){
+        ProjectionPage<TO> page = ProjectionPage.of(items, totalElements, paging);
 
         log.debug(
                 "Page created: pageNumber={}, pageSize={}, totalElements={}, totalPages={}, hasNext={}, hasPrevious={}",
@@ -144,10 +520,231 @@ public class ProjectionProcessor {
         return page;
     }
 
-    private <T> List<T> mapTuplesToProjectionClass(List<Tuple> tuples, Class<T> projectionClass) {
-        return tuples
-                .stream()
-                .map(tuple -> ProjectionMappers.tupleToObject(tuple, projectionClass))
-                .collect(Collectors.toList());
+    /**
+     * Executes a pageable projection query and returns a slice of the results, without counting them.
+     *
+     * <p>The query is executed for one row beyond the page size; that row is only used to tell
+     * whether a next slice exists and is not part of the content. Use it instead of
+     * {@link #executePageable(ProjectionQuery)} when the total number of elements is not needed,
+     * e.g. for infinite scrolling, to avoid counting every matching row.</p>
+     *
+     * <pre>{@code
+     * ProjectionSlice<CustomerDTO> slice = processor.executeSlice(
+     *     ProjectionQuery.fromTo(Customer.class, CustomerDTO.class)
+     *         .order("name", OrderDirection.ASC)
+     *         .paging(0, 20)
+     * );
+     *
+     * slice.content(); // up to 20 customers
+     * slice.hasNext(); // true when a 21st customer exists
+     * }</pre>
+     *
+     * @param projectionQuery The projection query containing all configurations including paging.
+     * @param <FROM>          The source entity type.
+     * @param <TO>            The target projection type.
+     * @return A {@link ProjectionSlice} containing the results of the requested page.
+     * @throws IllegalStateException if the projection query does not have paging configured.
+     */
+    public <FROM, TO> ProjectionSlice<TO> executeSlice(ProjectionQuery<FROM, TO> projectionQuery){
+        if(!projectionQuery.hasPaging()){
+            throw new IllegalStateException("ProjectionQuery must have paging to execute slice.");
+        }
+
+        ProjectionPaging paging = projectionQuery.getPaging();
+        List<TO> rows = execute(projectionQuery.copy().paging(paging.first(), paging.size() + 1));
+
+        ProjectionSlice<TO> slice = ProjectionSlice.of(rows, paging);
+
+        log.debug(
+                "Slice created: pageNumber={}, pageSize={}, hasNext={}, hasPrevious={}",
+                slice.pageNumber(),
+                slice.pageSize(),
+                slice.hasNext(),
+                slice.hasPrevious()
+        );
+
+        return slice;
+    }
+
+    /**
+     * Executes the first page of a projection query paginated by keyset.
+     *
+     * @param projectionQuery The projection query containing all configurations including paging.
+     * @param <FROM>          The source entity type.
+     * @param <TO>            The target projection type.
+     * @return A {@link ProjectionKeysetPage} containing the first page of results.
+     * @throws IllegalStateException if the projection query does not have paging configured from the first row,
+     *                               or it cannot be paginated by keyset.
+     * @see #executeKeyset(ProjectionQuery, String)
+     */
+    public <FROM, TO> ProjectionKeysetPage<TO> executeKeyset(ProjectionQuery<FROM, TO> projectionQuery){
+        return executeKeyset(projectionQuery, null);
+    }
+
+    /**
+     * Executes a page of a projection query paginated by keyset, starting after the row of the cursor.
+     *
+     * <p>Instead of skipping {@code first} rows, the page query filters the rows coming after the
+     * last row of the previous page in the order of the query, so reading a page deep into a large
+     * result costs an index seek rather than a scan of every skipped row. The query orders are
+     * completed with the identifier of the root entity, making the order unique.</p>
+     *
+     * <p>Every order path, including the identifier, must be projected by a plain field, since
+     * the cursor of the next page is read from the last row of the page. Only the paging size is
+     * used; the paging must start at the first row. Projections with aggregate fields are not
+     * supported.</p>
+     *
+     * <p><b>Null order values:</b> a row with a {@code null} order value cannot be located by a
+     * seek filter. Nullability is only known from the data, so it is checked on the last row of
+     * the page, after the page query has run: order by paths that are never {@code null}, or
+     * filter the {@code null} values out.</p>
+     *
+     * <p>A cursor is bound to the order paths and directions of the query that produced it, and
+     * is rejected by a query ordered differently.</p>
+     *
+     * <pre>{@code
+     * ProjectionQuery<Customer, CustomerDTO> query = ProjectionQuery
+     *     .fromTo(Customer.class, CustomerDTO.class)
+     *     .order("name", OrderDirection.ASC)
+     *     .paging(0, 20);
+     *
+     * ProjectionKeysetPage<CustomerDTO> page = processor.executeKeyset(query);
+     * while(page.hasNext()){
+     *     page = processor.executeKeyset(query, page.nextCursor());
+     * }
+     * }</pre>
+     *
+     * @param projectionQuery The projection query containing all configurations including paging.
+     * @param cursor          The {@link ProjectionKeysetPage#nextCursor()} of the previous page, or {@code null} for the first page.
+     * @param <FROM>          The source entity type.
+     * @param <TO>            The target projection type.
+     * @return A {@link ProjectionKeysetPage} containing the results after the cursor.
+     * @throws IllegalStateException    if the projection query does not have paging configured from the first row,
+     *                                  the projection has aggregate fields, an order path is not projected,
+     *                                  or an order value of the last row of the page is {@code null}.
+     * @throws IllegalArgumentException if the cursor is invalid or was created by a query with different orders.
+     * @see ProjectionCursor
+     */
+    public <FROM, TO> ProjectionKeysetPage<TO> executeKeyset(ProjectionQuery<FROM, TO> projectionQuery, String cursor){
+        if(!projectionQuery.hasPaging()){
+            throw new IllegalStateException("ProjectionQuery must have paging to execute keyset.");
+        }
+
+        ProjectionPaging paging = projectionQuery.getPaging();
+        if(paging.first() != 0 || paging.size() < 1){
+            throw new IllegalStateException("ProjectionQuery keyset paging must start at the first row with a positive size, use paging(0, size).");
+        }
+
+        ProjectionKeysetQuery<FROM, TO> keysetQuery = ProjectionKeysetQuery.of(
+                projectionQuery,
+                cursor != null ? ProjectionCursor.decode(cursor) : null,
+                MetamodelIdentifierResolver.of(entityManager.getEntityManagerFactory()),
+                entityManager.getMetamodel()
+        );
+
+        long start = System.nanoTime();
+        List<Object[]> rows = fetchRows(keysetQuery.seekQuery());
+
+        String nextCursor = null;
+        if(rows.size() > paging.size()){
+            rows = new ArrayList<>(rows.subList(0, paging.size()));
+            nextCursor = keysetQuery.cursor(rows.get(rows.size() - 1)).encode();
+        }
+
+        List<TO> items = mapRows(keysetQuery.seekQuery(), rows, start);
+
+        log.debug("Keyset page created: pageSize={}, hasNext={}", paging.size(), nextCursor != null);
+
+        return new ProjectionKeysetPage<>(items, paging.size(), nextCursor);
+    }
+
+    private <FROM, TO> long count(ProjectionQuery<FROM, TO> projectionQuery, EntityManager countEntityManager){
+        ProjectionChunkedQuery<FROM, TO> chunkedQuery = inListChunking == null ? null : ProjectionChunkedQuery.ofCount(projectionQuery, inListChunking, entityManager.getMetamodel());
+        if(chunkedQuery == null){
+            return queryBuilder.buildCountQuery(projectionQuery, countEntityManager).getSingleResult();
+        }
+
+        return executeChunks(chunkedQuery.chunkQueries(), countEntityManager, (chunkQuery, chunkEntityManager) ->
+                queryBuilder.buildCountQuery(chunkQuery, chunkEntityManager).getSingleResult()
+        ).stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Starts the count query of a page on the count executor, with its own EntityManager.
+     *
+     * <p>Cancelling the returned future does not stop a count query that is already running;
+     * it only discards its result.
+     */
+    private <FROM, TO> CompletableFuture<Long> countConcurrently(ProjectionQuery<FROM, TO> projectionQuery){
+        EntityManagerFactory entityManagerFactory = entityManager.getEntityManagerFactory();
+
+        return CompletableFuture.supplyAsync(() -> {
+            EntityManager countEntityManager = entityManagerFactory.createEntityManager();
+            try{
+                return count(projectionQuery, countEntityManager);
+            }finally {
+                countEntityManager.close();
+            }
+        }, countExecutor);
+    }
+
+    private static void cancel(CompletableFuture<?> future){
+        if(future != null){
+            future.cancel(false);
+        }
+    }
+
+    private static <R> R join(CompletableFuture<R> future){
+        try{
+            return future.join();
+        }catch (CompletionException e){
+            if(e.getCause() instanceof RuntimeException cause){
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <FROM, TO> ProjectionChunkedQuery<FROM, TO> chunk(ProjectionQuery<FROM, TO> projectionQuery){
+        return inListChunking == null ? null : ProjectionChunkedQuery.of(projectionQuery, inListChunking, entityManager.getMetamodel());
+    }
+
+    /**
+     * Executes one task per chunk query, sequentially on the given EntityManager or
+     * concurrently on the chunking executor, each concurrent task with its own EntityManager.
+     */
+    private <FROM, TO, R> List<R> executeChunks(List<ProjectionQuery<FROM, TO>> chunkQueries, EntityManager sequentialEntityManager, BiFunction<ProjectionQuery<FROM, TO>, EntityManager, R> task){
+        if(!inListChunking.isConcurrent()){
+            return chunkQueries.stream()
+                    .map(chunkQuery -> task.apply(chunkQuery, sequentialEntityManager))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+
+        EntityManagerFactory entityManagerFactory = entityManager.getEntityManagerFactory();
+        List<CompletableFuture<R>> futures = chunkQueries.stream()
+                .map(chunkQuery -> CompletableFuture.supplyAsync(() -> {
+                    EntityManager chunkEntityManager = entityManagerFactory.createEntityManager();
+                    try{
+                        return task.apply(chunkQuery, chunkEntityManager);
+                    }finally {
+                        chunkEntityManager.close();
+                    }
+                }, inListChunking.executor()))
+                .toList();
+
+        return futures.stream()
+                .map(ProjectionProcessor::join)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private void logDictionary(ProjectionStringDictionary dictionary){
+        if(dictionary.lookups() > 0){
+            log.debug(
+                    "ProjectionQuery strings deduplicated: {} of {} values ({} distinct)",
+                    dictionary.deduplicated(),
+                    dictionary.lookups(),
+                    dictionary.size()
+            );
+        }
     }
 }
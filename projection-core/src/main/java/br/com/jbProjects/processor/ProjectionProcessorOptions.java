@@ -0,0 +1,114 @@
+package br.com.jbProjects.processor;
+
+import br.com.jbProjects.processor.filter.ProjectionInListPadding;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Optional execution strategies of a {@link ProjectionProcessor}.</p>
+ *
+ * <p>Every strategy is disabled ({@code null}) by default. Options are immutable: each
+ * {@code with} method returns a new instance.
+ *
+ * <p><b>Usage example:</b>
+ * <pre>{@code
+ * ProjectionProcessor processor = new ProjectionProcessor(
+ *     entityManager,
+ *     ProjectionProcessorOptions.defaults()
+ *         .withParallelMapping(ProjectionParallelMapping.of(10_000))
+ *         .withInListPadding(ProjectionInListPadding.upTo(1000))
+ *         .withInListChunking(ProjectionInListChunking.of(1000))
+ *         .withCountStrategy(ProjectionCountStrategy.WINDOW_FUNCTION)
+ *         .withCountExecutor(Executors.newFixedThreadPool(4))
+ * );
+ * }</pre>
+ *
+ * @param parallelMapping Mapping of large results on multiple threads
+ * @param inListPadding   Padding of {@code IN} list values to power-of-two sizes
+ * @param inListChunking  Splitting of huge {@code IN} filters into chunked executions
+ * @param countStrategy   How pageable executions count their elements, {@code null} for a separate count query
+ * @param countExecutor   Executor running count queries concurrently with their page query, {@code null} to run them after it
+ */
+public record ProjectionProcessorOptions(
+        ProjectionParallelMapping parallelMapping,
+        ProjectionInListPadding inListPadding,
+        ProjectionInListChunking inListChunking,
+        ProjectionCountStrategy countStrategy,
+        Executor countExecutor
+) {
+
+    /**
+     * Creates options with every strategy disabled.
+     *
+     * @return The default options
+     */
+    public static ProjectionProcessorOptions defaults() {
+        return new ProjectionProcessorOptions(null, null, null, null, null);
+    }
+
+    /**
+     * Returns a copy of these options with the given parallel mapping.
+     *
+     * @param parallelMapping The parallel mapping configuration, or {@code null} to always map sequentially
+     * @return The new options
+     * @see ProjectionParallelMapping
+     */
+    public ProjectionProcessorOptions withParallelMapping(ProjectionParallelMapping parallelMapping) {
+        return new ProjectionProcessorOptions(parallelMapping, inListPadding, inListChunking, countStrategy, countExecutor);
+    }
+
+    /**
+     * Returns a copy of these options with the given IN list padding.
+     *
+     * @param inListPadding The IN list padding configuration, or {@code null} to bind lists as they are
+     * @return The new options
+     * @see ProjectionInListPadding
+     */
+    public ProjectionProcessorOptions withInListPadding(ProjectionInListPadding inListPadding) {
+        return new ProjectionProcessorOptions(parallelMapping, inListPadding, inListChunking, countStrategy, countExecutor);
+    }
+
+    /**
+     * Returns a copy of these options with the given IN list chunking.
+     *
+     * @param inListChunking The IN list chunking configuration, or {@code null} to never split queries
+     * @return The new options
+     * @see ProjectionInListChunking
+     */
+    public ProjectionProcessorOptions withInListChunking(ProjectionInListChunking inListChunking) {
+        return new ProjectionProcessorOptions(parallelMapping, inListPadding, inListChunking, countStrategy, countExecutor);
+    }
+
+    /**
+     * Returns a copy of these options with the given count strategy.
+     *
+     * @param countStrategy How pageable executions count their elements, or {@code null} for a separate count query
+     * @return The new options
+     * @see ProjectionCountStrategy
+     */
+    public ProjectionProcessorOptions withCountStrategy(ProjectionCountStrategy countStrategy) {
+        return new ProjectionProcessorOptions(parallelMapping, inListPadding, inListChunking, countStrategy, countExecutor);
+    }
+
+    /**
+     * Returns a copy of these options running count queries concurrently on the given executor.
+     *
+     * <p>The count query of {@link ProjectionProcessor#executePageable} is then started before the
+     * page query, on its own {@code EntityManager} created from the factory of the processor's
+     * {@code EntityManager}, so a page costs the slowest of both queries rather than their sum.
+     * The count does not see changes not yet committed by the caller's transaction. Pages counted
+     * by {@link ProjectionCountStrategy#WINDOW_FUNCTION} do not use the executor.
+     *
+     * <p>The count is started before knowing whether it is needed: empty and partial pages prove
+     * their total by themselves and discard it. Cancelling the count does not interrupt a query
+     * already running on the database, so such pages still cost one count query on a connection
+     * of the pool. Prefer this option when most requested pages are full.
+     *
+     * @param countExecutor The executor of the count queries, or {@code null} to run them after the page query
+     * @return The new options
+     */
+    public ProjectionProcessorOptions withCountExecutor(Executor countExecutor) {
+        return new ProjectionProcessorOptions(parallelMapping, inListPadding, inListChunking, countStrategy, countExecutor);
+    }
+}
@@ -0,0 +1,215 @@
+package br.com.jbProjects.processor;
+
+import br.com.jbProjects.mapper.ProjectionStringDictionary;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Cumulative execution statistics of a {@link ProjectionProcessor}.</p>
+ *
+ * <p>Counters are updated at the end of each execution and can be read at any time, from
+ * any thread, e.g. to publish them as application metrics.
+ *
+ * <p><b>String deduplication:</b>
+ * When a query deduplicates string values, the dictionary of the execution is recorded:
+ * <ul>
+ *     <li>{@link #getDictionaryLookups()}: string values that went through a dictionary</li>
+ *     <li>{@link #getDeduplicatedValues()}: values replaced by an already known instance, i.e. string copies not retained</li>
+ *     <li>{@link #getDictionaryEntries()}: distinct strings kept by the dictionaries</li>
+ * </ul>
+ *
+ * <p><b>Pageable executions:</b>
+ * {@link #getCounts()} count queries were executed for full pages, while
+ * {@link #getSkippedCounts()} partially filled pages derived their total without one, and
+ * {@link #getWindowCounts()} pages read their total from {@code COUNT(*) OVER()}.
+ * {@link #getConcurrentCounts()} of the counted pages awaited a count query started concurrently
+ * with their page query.
+ *
+ * <p><b>Usage example:</b>
+ * <pre>{@code
+ * processor.execute(query.deduplicateStrings());
+ *
+ * ProjectionProcessorStats stats = processor.getStats();
+ * log.info("{} of {} strings deduplicated", stats.getDeduplicatedValues(), stats.getDictionaryLookups());
+ * }</pre>
+ *
+ * @see ProjectionStringDictionary
+ */
+public class ProjectionProcessorStats {
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder parallelMappings = new LongAdder();
+    private final LongAdder counts = new LongAdder();
+    private final LongAdder skippedCounts = new LongAdder();
+    private final LongAdder windowCounts = new LongAdder();
+    private final LongAdder concurrentCounts = new LongAdder();
+    private final LongAdder dictionaryLookups = new LongAdder();
+    private final LongAdder deduplicatedValues = new LongAdder();
+    private final LongAdder dictionaryEntries = new LongAdder();
+
+    /**
+     * Records a finished execution.
+     *
+     * @param rowCount   The number of rows returned
+     * @param dictionary The string dictionary of the execution
+     */
+    void record(long rowCount, ProjectionStringDictionary dictionary) {
+        executions.increment();
+        rows.add(rowCount);
+        if(dictionary.lookups() > 0){
+            dictionaryLookups.add(dictionary.lookups());
+            deduplicatedValues.add(dictionary.deduplicated());
+            dictionaryEntries.add(dictionary.size());
+        }
+    }
+
+    /**
+     * Records an execution whose rows were mapped in parallel.
+     */
+    void recordParallelMapping() {
+        parallelMappings.increment();
+    }
+
+    /**
+     * Records a count query executed for a page.
+     */
+    void recordCount() {
+        counts.increment();
+    }
+
+    /**
+     * Records a page whose total was derived from its content, without a count query.
+     */
+    void recordSkippedCount() {
+        skippedCounts.increment();
+    }
+
+    /**
+     * Records a page whose total was read from a window function of the page query.
+     */
+    void recordWindowCount() {
+        windowCounts.increment();
+    }
+
+    /**
+     * Records a count query started concurrently with its page query, once its result is awaited.
+     */
+    void recordConcurrentCount() {
+        concurrentCounts.increment();
+    }
+
+    /**
+     * Returns the number of executed queries.
+     *
+     * @return The number of executions
+     */
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    /**
+     * Returns the number of rows returned by all executions.
+     *
+     * @return The number of rows
+     */
+    public long getRows() {
+        return rows.sum();
+    }
+
+    /**
+     * Returns the number of executions whose rows were mapped in parallel.
+     *
+     * @return The number of parallel mappings
+     * @see ProjectionParallelMapping
+     */
+    public long getParallelMappings() {
+        return parallelMappings.sum();
+    }
+
+    /**
+     * Returns the number of count queries executed for pages.
+     *
+     * @return The number of count queries
+     */
+    public long getCounts() {
+        return counts.sum();
+    }
+
+    /**
+     * Returns the number of pages whose total was derived from a partially filled page,
+     * without a count query.
+     *
+     * @return The number of skipped count queries
+     */
+    public long getSkippedCounts() {
+        return skippedCounts.sum();
+    }
+
+    /**
+     * Returns the number of pages whose total was read from {@code COUNT(*) OVER()} selected by
+     * the page query, without a count query.
+     *
+     * @return The number of window counts
+     * @see ProjectionCountStrategy#WINDOW_FUNCTION
+     */
+    public long getWindowCounts() {
+        return windowCounts.sum();
+    }
+
+    /**
+     * Returns the number of full pages whose total was awaited from a count query started
+     * concurrently with their page query. Count queries started for empty or partial pages
+     * are discarded and not included.
+     *
+     * @return The number of concurrent count queries
+     * @see ProjectionProcessorOptions#withCountExecutor(java.util.concurrent.Executor)
+     */
+    public long getConcurrentCounts() {
+        return concurrentCounts.sum();
+    }
+
+    /**
+     * Returns the number of string values that went through a deduplication dictionary.
+     *
+     * @return The number of dictionary lookups
+     */
+    public long getDictionaryLookups() {
+        return dictionaryLookups.sum();
+    }
+
+    /**
+     * Returns the number of string values replaced by an already known instance.
+     *
+     * @return The number of duplicated strings not retained
+     */
+    public long getDeduplicatedValues() {
+        return deduplicatedValues.sum();
+    }
+
+    /**
+     * Returns the number of distinct strings kept by the deduplication dictionaries.
+     *
+     * @return The number of dictionary entries
+     */
+    public long getDictionaryEntries() {
+        return dictionaryEntries.sum();
+    }
+
+    /**
+     * Resets all counters.
+     */
+    public void reset() {
+        executions.reset();
+        rows.reset();
+        parallelMappings.reset();
+        counts.reset();
+        skippedCounts.reset();
+        windowCounts.reset();
+        concurrentCounts.reset();
+        dictionaryLookups.reset();
+        deduplicatedValues.reset();
+        dictionaryEntries.reset();
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.jbProjects.processor.columnar;
+
+import java.util.BitSet;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Values of a single projection field for all rows of a columnar result.</p>
+ *
+ * <p>{@code values} is a primitive array for numeric columns ({@code long[]}, {@code int[]}
+ * or {@code double[]}) and an {@code Object[]} otherwise, always with exactly one entry
+ * per row. Since primitive arrays cannot hold {@code null}, {@code null} values are stored
+ * as {@code 0} and flagged in {@code nulls}.
+ *
+ * @param name   The projection field name
+ * @param type   The storage type of the column
+ * @param values The column values array
+ * @param nulls  Rows whose value is {@code null}
+ *
+ * @see ProjectionColumns
+ */
+public record ProjectionColumn(
+        String name,
+        ProjectionColumnType type,
+        Object values,
+        BitSet nulls
+) {
+
+    /**
+     * Checks whether the value of the given row is {@code null}.
+     *
+     * @param row The row index
+     * @return {@code true} if the row value is {@code null}
+     */
+    public boolean isNull(int row) {
+        return nulls.get(row);
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.jbProjects.processor.columnar;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Storage type of a {@link ProjectionColumn}.</p>
+ *
+ * <p>The type is chosen from the declared type of the projection field:
+ * <ul>
+ *     <li>{@link #LONG}: {@code long} / {@code Long}, stored in a {@code long[]}</li>
+ *     <li>{@link #INT}: {@code int}, {@code short}, {@code byte} and their wrappers, stored in an {@code int[]}</li>
+ *     <li>{@link #DOUBLE}: {@code double}, {@code float} and their wrappers, stored in a {@code double[]}</li>
+ *     <li>{@link #OBJECT}: any other type, stored in an {@code Object[]}</li>
+ * </ul>
+ */
+public enum ProjectionColumnType {
+
+    /** Column stored as {@code long[]}. */
+    LONG,
+
+    /** Column stored as {@code int[]}. */
+    INT,
+
+    /** Column stored as {@code double[]}. */
+    DOUBLE,
+
+    /** Column stored as {@code Object[]}. */
+    OBJECT;
+
+    /**
+     * Resolves the column type for a projection field type.
+     *
+     * @param fieldType The declared type of the projection field
+     * @return The column type used to store the field values
+     */
+    public static ProjectionColumnType of(Class<?> fieldType) {
+        if(fieldType == long.class || fieldType == Long.class){
+            return LONG;
+        }
+
+        if(fieldType == int.class || fieldType == Integer.class
+                || fieldType == short.class || fieldType == Short.class
+                || fieldType == byte.class || fieldType == Byte.class){
+            return INT;
+        }
+
+        if(fieldType == double.class || fieldType == Double.class
+                || fieldType == float.class || fieldType == Float.class){
+            return DOUBLE;
+        }
+
+        return OBJECT;
+    }
+}
@@ -0,0 +1,167 @@
+package br.com.jbProjects.processor.columnar;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Columnar (struct-of-arrays) result of a projection query.</p>
+ *
+ * <p>Instead of one projection instance per row, the result keeps one array per
+ * {@link br.com.jbProjects.annotations.ProjectionField}. Numeric fields are stored in
+ * primitive arrays, so large aggregation results do not allocate one boxed
+ * {@code Long} or {@code Double} per value, and the arrays can be processed by plain loops.
+ *
+ * <p><b>Usage example:</b>
+ * <pre>{@code
+ * ProjectionColumns<CustomerCountByAge> columns = processor.executeColumnar(
+ *     ProjectionQuery.fromTo(Customer.class, CustomerCountByAge.class)
+ * );
+ *
+ * long[] quantities = columns.longs("quantity");
+ * int[] ages = columns.ints("age");
+ *
+ * long total = 0;
+ * for (int i = 0; i < columns.size(); i++) {
+ *     total += quantities[i];
+ * }
+ * }</pre>
+ *
+ * @param <T> The projection type the columns were read for
+ *
+ * @see ProjectionColumn
+ * @see br.com.jbProjects.processor.ProjectionProcessor#executeColumnar(br.com.jbProjects.processor.query.ProjectionQuery)
+ */
+public class ProjectionColumns<T> {
+
+    private final Class<T> projectionClass;
+    private final int size;
+    private final Map<String, ProjectionColumn> columns;
+
+    /**
+     * Creates a columnar result.
+     *
+     * @param projectionClass The projection class
+     * @param size            The number of rows
+     * @param columns         The columns by field name, in projection field order
+     */
+    ProjectionColumns(Class<T> projectionClass, int size, Map<String, ProjectionColumn> columns) {
+        this.projectionClass = projectionClass;
+        this.size = size;
+        this.columns = columns;
+    }
+
+    /**
+     * Returns the projection class the columns were read for.
+     *
+     * @return The projection class
+     */
+    public Class<T> projectionClass() {
+        return projectionClass;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return The number of rows in every column
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the result has no rows.
+     *
+     * @return {@code true} if there are no rows
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the field names, in projection field order.
+     *
+     * @return The names of the columns
+     */
+    public List<String> fieldNames() {
+        return List.copyOf(columns.keySet());
+    }
+
+    /**
+     * Returns the column of the given field.
+     *
+     * @param fieldName The projection field name
+     * @return The column
+     * @throws IllegalArgumentException if the field is not a column of this result
+     */
+    public ProjectionColumn column(String fieldName) {
+        ProjectionColumn column = columns.get(fieldName);
+        if(column == null){
+            throw new IllegalArgumentException("Column not found: " + fieldName + ". Available columns: " + columns.keySet());
+        }
+        return column;
+    }
+
+    /**
+     * Returns the values of a {@link ProjectionColumnType#LONG} column.
+     *
+     * @param fieldName The projection field name
+     * @return The column values
+     * @throws IllegalArgumentException if the field is not a {@code long} column
+     */
+    public long[] longs(String fieldName) {
+        return (long[]) typedColumn(fieldName, ProjectionColumnType.LONG).values();
+    }
+
+    /**
+     * Returns the values of an {@link ProjectionColumnType#INT} column.
+     *
+     * @param fieldName The projection field name
+     * @return The column values
+     * @throws IllegalArgumentException if the field is not an {@code int} column
+     */
+    public int[] ints(String fieldName) {
+        return (int[]) typedColumn(fieldName, ProjectionColumnType.INT).values();
+    }
+
+    /**
+     * Returns the values of a {@link ProjectionColumnType#DOUBLE} column.
+     *
+     * @param fieldName The projection field name
+     * @return The column values
+     * @throws IllegalArgumentException if the field is not a {@code double} column
+     */
+    public double[] doubles(String fieldName) {
+        return (double[]) typedColumn(fieldName, ProjectionColumnType.DOUBLE).values();
+    }
+
+    /**
+     * Returns the values of an {@link ProjectionColumnType#OBJECT} column.
+     *
+     * @param fieldName The projection field name
+     * @return The column values
+     * @throws IllegalArgumentException if the field is not an object column
+     */
+    public Object[] objects(String fieldName) {
+        return (Object[]) typedColumn(fieldName, ProjectionColumnType.OBJECT).values();
+    }
+
+    /**
+     * Checks whether the value of a field is {@code null} in the given row.
+     *
+     * @param fieldName The projection field name
+     * @param row       The row index
+     * @return {@code true} if the value is {@code null}
+     */
+    public boolean isNull(String fieldName, int row) {
+        return column(fieldName).isNull(row);
+    }
+
+    private ProjectionColumn typedColumn(String fieldName, ProjectionColumnType type) {
+        ProjectionColumn column = column(fieldName);
+        if(column.type() != type){
+            throw new IllegalArgumentException("Column '" + fieldName + "' is a " + column.type() + " column, not " + type);
+        }
+        return column;
+    }
+}
@@ -0,0 +1,151 @@
+package br.com.jbProjects.processor.columnar;
+
+import br.com.jbProjects.mapper.ProjectionValueConverter;
+import br.com.jbProjects.metadata.model.FieldMetadata;
+import br.com.jbProjects.metadata.model.ProjectionMetadata;
+import org.apache.commons.lang3.reflect.FieldUtils;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Accumulates positional query rows into a {@link ProjectionColumns} result.</p>
+ *
+ * <p>Rows follow the order of {@link ProjectionMetadata#fields()}. Each value is first
+ * passed through the field {@link ProjectionValueConverter}
+ * and then written into its column array; arrays grow geometrically and are trimmed
+ * to the exact row count by {@link #build()}.
+ *
+ * <p>This class is not thread-safe and is meant to be filled by a single query execution.
+ *
+ * @param <T> The projection type
+ */
+public class ProjectionColumnsBuilder<T> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Class<T> projectionClass;
+    private final ProjectionValueConverter[] converters;
+    private final ColumnBuilder[] columns;
+    private int size;
+
+    /**
+     * Creates a builder for the given projection.
+     *
+     * @param projectionClass The projection class
+     * @param metadata        The projection metadata
+     * @param expectedRows    Expected number of rows, used as initial capacity ({@code <= 0} for the default)
+     */
+    public ProjectionColumnsBuilder(Class<T> projectionClass, ProjectionMetadata metadata, int expectedRows) {
+        this.projectionClass = projectionClass;
+        this.converters = metadata.converters().toArray(ProjectionValueConverter[]::new);
+
+        int capacity = expectedRows > 0 ? expectedRows : DEFAULT_CAPACITY;
+        List<FieldMetadata> fields = metadata.fields();
+        this.columns = new ColumnBuilder[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            String name = fields.get(i).projectionFieldName();
+            Field field = FieldUtils.getField(projectionClass, name, true);
+            ProjectionColumnType type = field == null ? ProjectionColumnType.OBJECT : ProjectionColumnType.of(field.getType());
+            columns[i] = new ColumnBuilder(name, type, capacity);
+        }
+    }
+
+    /**
+     * Appends a positional row.
+     *
+     * @param row Row values ordered as the projection fields
+     */
+    public void add(Object[] row) {
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].set(size, converters[i].convert(row[i]));
+        }
+        size++;
+    }
+
+    /**
+     * Builds the columnar result with the rows added so far.
+     *
+     * @return The columnar result
+     */
+    public ProjectionColumns<T> build() {
+        Map<String, ProjectionColumn> result = new LinkedHashMap<>();
+        for (ColumnBuilder column : columns) {
+            result.put(column.name, column.build(size));
+        }
+        return new ProjectionColumns<>(projectionClass, size, result);
+    }
+
+    /**
+     * Growable storage of a single column.
+     */
+    private static final class ColumnBuilder {
+
+        private final String name;
+        private final ProjectionColumnType type;
+        private final BitSet nulls = new BitSet();
+        private long[] longs;
+        private int[] ints;
+        private double[] doubles;
+        private Object[] objects;
+        private int capacity;
+
+        private ColumnBuilder(String name, ProjectionColumnType type, int capacity) {
+            this.name = name;
+            this.type = type;
+            this.capacity = capacity;
+            switch (type) {
+                case LONG -> longs = new long[capacity];
+                case INT -> ints = new int[capacity];
+                case DOUBLE -> doubles = new double[capacity];
+                case OBJECT -> objects = new Object[capacity];
+            }
+        }
+
+        private void set(int row, Object value) {
+            if(row == capacity){
+                grow();
+            }
+
+            if(value == null){
+                nulls.set(row);
+                if(type == ProjectionColumnType.OBJECT){
+                    objects[row] = null;
+                }
+                return;
+            }
+
+            switch (type) {
+                case LONG -> longs[row] = ((Number) value).longValue();
+                case INT -> ints[row] = ((Number) value).intValue();
+                case DOUBLE -> doubles[row] = ((Number) value).doubleValue();
+                case OBJECT -> objects[row] = value;
+            }
+        }
+
+        private void grow() {
+            capacity = Math.max(capacity * 2, DEFAULT_CAPACITY);
+            switch (type) {
+                case LONG -> longs = Arrays.copyOf(longs, capacity);
+                case INT -> ints = Arrays.copyOf(ints, capacity);
+                case DOUBLE -> doubles = Arrays.copyOf(doubles, capacity);
+                case OBJECT -> objects = Arrays.copyOf(objects, capacity);
+            }
+        }
+
+        private ProjectionColumn build(int size) {
+            Object values = switch (type) {
+                case LONG -> size == longs.length ? longs : Arrays.copyOf(longs, size);
+                case INT -> size == ints.length ? ints : Arrays.copyOf(ints, size);
+                case DOUBLE -> size == doubles.length ? doubles : Arrays.copyOf(doubles, size);
+                case OBJECT -> size == objects.length ? objects : Arrays.copyOf(objects, size);
+            };
+            return new ProjectionColumn(name, type, values, nulls);
+        }
+    }
+}
@@ -12,7 +12,7 @@ import jakarta.persistence.criteria.*;
  *
  * @param path    The field path to apply the filter on.
  * @param operator The operator to use for filtering (e.g., EQUAL, LESS_THAN).
- * @param value    The value to compare against.
+ * @param value    The value to compare against, or a {@link ProjectionParameter} bound when the query is executed.
  */
 public record ProjectionFilter(
         String path,
@@ -47,6 +47,13 @@ public record ProjectionFilter(
         Path<?> resolvedPath = pathResolver.resolve(root, path);
         ProjectionFilterOperatorHandler handler = ProjectionFilterOperatorProvider.getInstance().get(operator);
 
+        if(value instanceof ProjectionParameter parameter){
+            if(!handler.supportsParameters()){
+                throw new IllegalStateException("Operator " + operator + " does not support parameters: " + path);
+            }
+            return handler.toPredicate(cb, resolvedPath, handler.createParameter(cb, resolvedPath, parameter.name()));
+        }
+
         return handler.toPredicate(cb, resolvedPath, value);
     }
 
@@ -15,6 +15,7 @@ package br.com.jbProjects.processor.filter;
  *     <li>IN</li>
  *     <li>NOT_IN</li>
  *     <li>BETWEEN</li>
+ *     <li>ANY</li>
  * </ul>
  */
 public enum ProjectionFilterOperator {
@@ -76,5 +77,11 @@ public enum ProjectionFilterOperator {
      * Between operator for range checking.
      * <p>equivalent to "path BETWEEN value1 AND value2"</p>
      */
-    BETWEEN
+    BETWEEN,
+
+    /**
+     * Any operator for checking inclusion in an array bound as a single parameter.
+     * <p>equivalent to "path = ANY(?)", or to {@link #IN} on databases without array support</p>
+     */
+    ANY
 }
@@ -3,8 +3,8 @@ package br.com.jbProjects.processor.filter;
 import br.com.jbProjects.processor.filter.handler.*;
 import lombok.NonNull;
 
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
@@ -13,6 +13,9 @@ import java.util.Set;
  * <p>Provider for Projection Filter Operator Handlers</p>
  * <p>By default, the class is created with all operations of {@link ProjectionFilterOperator}</p>
  * <p>New operators can be registered using the {@link #register(String, ProjectionFilterOperatorHandler)} method.</p>
+ * <p>The registry is an immutable snapshot replaced on each registration, so lookups are lock-free
+ * and safe while operators are registered. Built-in operators are also indexed by their
+ * {@link ProjectionFilterOperator} ordinal.</p>
  */
 public class ProjectionFilterOperatorProvider {
 
@@ -27,7 +30,8 @@ public class ProjectionFilterOperatorProvider {
         return INSTANCE;
     }
 
-    private final Map<String, ProjectionFilterOperatorHandler> operators = new HashMap<>();
+    private final ProjectionFilterOperatorHandler[] builtInOperators = new ProjectionFilterOperatorHandler[ProjectionFilterOperator.values().length];
+    private volatile Map<String, ProjectionFilterOperatorHandler> operators = Map.of();
 
     private ProjectionFilterOperatorProvider(){
         register(ProjectionFilterOperator.EQUAL, new EqualHandler());
@@ -40,25 +44,32 @@ public class ProjectionFilterOperatorProvider {
         register(ProjectionFilterOperator.IN, new InHandler());
         register(ProjectionFilterOperator.NOT_IN, new NotInHandler());
         register(ProjectionFilterOperator.BETWEEN, new BetweenHandler());
+        register(ProjectionFilterOperator.ANY, new AnyHandler());
     }
 
     private void register(ProjectionFilterOperator operator, ProjectionFilterOperatorHandler handler){
         register(operator.name(), handler);
+        builtInOperators[operator.ordinal()] = handler;
     }
 
     /**
      * <p>Registers a new ProjectionFilterOperatorHandler for the specified operator.</p>
+     * <p>Operator names are case-insensitive. Registration publishes a new immutable snapshot of
+     * the registry, so lookups running concurrently never see it partially updated.</p>
      *
      * @param operator The operator as a String
      * @param handler The handler to be registered
      * @throws IllegalArgumentException if the operator is already registered
      */
-    public void register(String operator, @NonNull ProjectionFilterOperatorHandler handler){
-        if(operators.containsKey(operator)){
+    public synchronized void register(String operator, @NonNull ProjectionFilterOperatorHandler handler){
+        String name = normalize(operator);
+        if(operators.containsKey(name)){
             throw new IllegalArgumentException("Operator already registered: " + operator);
         }
 
-        operators.put(operator.toUpperCase(), handler);
+        Map<String, ProjectionFilterOperatorHandler> snapshot = new HashMap<>(operators);
+        snapshot.put(name, handler);
+        operators = Map.copyOf(snapshot);
     }
 
     /**
@@ -66,25 +77,31 @@ public class ProjectionFilterOperatorProvider {
      *
      * @param operator The operator as a ProjectionFilterOperator enum
      * @return The corresponding ProjectionFilterOperatorHandler
-     * @throws IllegalArgumentException if the operator is not found
      */
     public ProjectionFilterOperatorHandler get(ProjectionFilterOperator operator){
-        return get(operator.name());
+        return builtInOperators[operator.ordinal()];
     }
 
     /**
      * <p>Retrieves the ProjectionFilterOperatorHandler for the specified operator.</p>
+     * <p>Names already in upper case, such as {@link ProjectionFilterOperator} names, are found
+     * without normalisation.</p>
      *
      * @param operator The operator as a String
      * @return The corresponding ProjectionFilterOperatorHandler
      * @throws IllegalArgumentException if the operator is not found
      */
     public ProjectionFilterOperatorHandler get(String operator){
-        ProjectionFilterOperatorHandler handler = operators.get(operator.toUpperCase());
+        Map<String, ProjectionFilterOperatorHandler> snapshot = operators;
+        ProjectionFilterOperatorHandler handler = snapshot.get(operator);
+        if(handler == null){
+            handler = snapshot.get(normalize(operator));
+        }
+
         if(handler == null){
             throw new IllegalArgumentException(
                     "Operator not found: " + operator +
-                            "\nAvailable operators: " + operators.keySet()
+                            "\nAvailable operators: " + snapshot.keySet()
             );
         }
 
@@ -97,6 +114,10 @@ public class ProjectionFilterOperatorProvider {
      * @return Set of available operator names
      */
     public Set<String> availableOperators(){
-        return Collections.unmodifiableSet(operators.keySet());
+        return operators.keySet();
+    }
+
+    private static String normalize(String operator) {
+        return operator.toUpperCase(Locale.ROOT);
     }
 }
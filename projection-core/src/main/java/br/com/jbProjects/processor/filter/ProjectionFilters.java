@@ -149,6 +149,16 @@ public final class ProjectionFilters {
         return of(path, ProjectionFilterOperator.LIKE, pattern);
     }
 
+    /**
+     * Creates a ProjectionFilterExpression for LIKE pattern matching with a pattern bound on execution.
+     * @param path The field path to apply the filter on.
+     * @param parameter The parameter holding the pattern.
+     * @return A new ProjectionFilterExpression representing the LIKE comparison.
+     */
+    public static ProjectionFilterExpression like(String path, ProjectionParameter parameter) {
+        return of(path, ProjectionFilterOperator.LIKE, parameter);
+    }
+
     /**
      * Creates a ProjectionFilterExpression for IN comparison.
      * @param path The field path to apply the filter on.
@@ -169,6 +179,16 @@ public final class ProjectionFilters {
         return of(path, ProjectionFilterOperator.IN, value);
     }
 
+    /**
+     * Creates a ProjectionFilterExpression for IN comparison with a collection bound on execution.
+     * @param path The field path to apply the filter on.
+     * @param parameter The parameter holding the collection of values.
+     * @return A new ProjectionFilterExpression representing the IN comparison.
+     */
+    public static ProjectionFilterExpression in(String path, ProjectionParameter parameter) {
+        return of(path, ProjectionFilterOperator.IN, parameter);
+    }
+
     /**
      * Creates a ProjectionFilterExpression for NOT IN comparison.
      * @param path The field path to apply the filter on.
@@ -189,6 +209,37 @@ public final class ProjectionFilters {
         return of(path, ProjectionFilterOperator.NOT_IN, value);
     }
 
+    /**
+     * Creates a ProjectionFilterExpression for NOT IN comparison with a collection bound on execution.
+     * @param path The field path to apply the filter on.
+     * @param parameter The parameter holding the collection of values.
+     * @return A new ProjectionFilterExpression representing the NOT IN comparison.
+     */
+    public static ProjectionFilterExpression notIn(String path, ProjectionParameter parameter) {
+        return of(path, ProjectionFilterOperator.NOT_IN, parameter);
+    }
+
+    /**
+     * Creates a ProjectionFilterExpression for ANY comparison, binding the values as a single array.
+     * @param path The field path to apply the filter on.
+     * @param value The collection of values to check inclusion against.
+     * @return A new ProjectionFilterExpression representing the ANY comparison.
+     * @see br.com.jbProjects.processor.filter.handler.AnyHandler
+     */
+    public static ProjectionFilterExpression any(String path, Collection<?> value) {
+        return of(path, ProjectionFilterOperator.ANY, value);
+    }
+
+    /**
+     * Creates a ProjectionFilterExpression for ANY comparison with a collection bound on execution.
+     * @param path The field path to apply the filter on.
+     * @param parameter The parameter holding the collection of values.
+     * @return A new ProjectionFilterExpression representing the ANY comparison.
+     */
+    public static ProjectionFilterExpression any(String path, ProjectionParameter parameter) {
+        return of(path, ProjectionFilterOperator.ANY, parameter);
+    }
+
     /**
      * Creates a ProjectionFilterExpression for BETWEEN comparison.
      * @param path The field path to apply the filter on.
@@ -200,4 +251,19 @@ public final class ProjectionFilters {
     public static <T> ProjectionFilterExpression between(String path, Comparable<T> startValue, Comparable<T> endValue) {
         return of(path, ProjectionFilterOperator.BETWEEN, BetweenValues.of(startValue, endValue));
     }
+
+    /**
+     * Creates a named placeholder for a filter value bound when the query is executed.
+     *
+     * <pre>{@code
+     * ProjectionFilters.equal("status", ProjectionFilters.param("status"))
+     * }</pre>
+     *
+     * @param name The parameter name.
+     * @return A new ProjectionParameter with the given name.
+     * @see br.com.jbProjects.processor.query.PreparedProjectionQuery
+     */
+    public static ProjectionParameter param(String name) {
+        return new ProjectionParameter(name);
+    }
 }
@@ -0,0 +1,115 @@
+package br.com.jbProjects.processor.filter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Configuration for padding the values of {@code IN} and {@code NOT IN} filters.</p>
+ *
+ * <p>Each value of an {@code IN} list is bound as its own SQL parameter, so lists of 1 to 1000
+ * values produce 1000 distinct SQL statements, each one parsed and cached separately by
+ * Hibernate and by the database. With padding, lists are extended to the next power of two by
+ * repeating their last value, which does not change the result of the filter:
+ * <pre>
+ * [1, 2, 3]       -&gt; [1, 2, 3, 3]
+ * [1, 2, 3, 4, 5] -&gt; [1, 2, 3, 4, 5, 5, 5, 5]
+ * </pre>
+ * and the number of distinct statements only grows with the logarithm of the list size.
+ *
+ * <p>Lists are never padded beyond {@code maxSize}, e.g. the maximum number of {@code IN}
+ * values accepted by the database. Lists already larger than it are kept as they are.
+ *
+ * <p><b>Usage example:</b>
+ * <pre>{@code
+ * ProjectionProcessor processor = new ProjectionProcessor(
+ *     entityManager,
+ *     ProjectionProcessorOptions.defaults().withInListPadding(ProjectionInListPadding.upTo(1000))
+ * );
+ * }</pre>
+ *
+ * @param maxSize Maximum size of a padded list
+ *
+ * @see br.com.jbProjects.processor.filter.handler.InHandler
+ * @see br.com.jbProjects.processor.filter.handler.NotInHandler
+ */
+public record ProjectionInListPadding(int maxSize) {
+
+    /**
+     * Validates the configuration.
+     *
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public ProjectionInListPadding {
+        if(maxSize <= 0){
+            throw new IllegalArgumentException("IN list padding max size must be greater than zero: " + maxSize);
+        }
+    }
+
+    /**
+     * Creates a configuration that pads lists of any size.
+     *
+     * @return The padding configuration
+     */
+    public static ProjectionInListPadding of() {
+        return new ProjectionInListPadding(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a configuration that pads lists up to {@code maxSize} values.
+     *
+     * @param maxSize Maximum size of a padded list
+     * @return The padding configuration
+     */
+    public static ProjectionInListPadding upTo(int maxSize) {
+        return new ProjectionInListPadding(maxSize);
+    }
+
+    /**
+     * Checks whether the values of an operator are padded.
+     *
+     * @param operator The filter operator
+     * @return {@code true} for {@code IN} and {@code NOT_IN}
+     */
+    public static boolean appliesTo(String operator) {
+        return ProjectionFilterOperator.IN.name().equalsIgnoreCase(operator)
+                || ProjectionFilterOperator.NOT_IN.name().equalsIgnoreCase(operator);
+    }
+
+    /**
+     * Returns the size a list of {@code size} values is padded to.
+     *
+     * @param size The number of values
+     * @return The next power of two, limited to {@code maxSize}, or {@code size} itself when it is not padded
+     */
+    public int paddedSize(int size) {
+        if(size <= 1 || size >= maxSize){
+            return size;
+        }
+
+        int powerOfTwo = Integer.highestOneBit(size - 1) << 1;
+        return powerOfTwo > 0 ? Math.min(powerOfTwo, maxSize) : size;
+    }
+
+    /**
+     * Pads a list of values by repeating its last value.
+     *
+     * @param values The values of the filter
+     * @return A padded copy, or {@code values} itself when no padding is needed
+     */
+    public Collection<?> pad(Collection<?> values) {
+        int paddedSize = paddedSize(values.size());
+        if(paddedSize == values.size()){
+            return values;
+        }
+
+        List<Object> padded = new ArrayList<>(paddedSize);
+        padded.addAll(values);
+        Object last = padded.get(padded.size() - 1);
+        while (padded.size() < paddedSize){
+            padded.add(last);
+        }
+        return padded;
+    }
+}
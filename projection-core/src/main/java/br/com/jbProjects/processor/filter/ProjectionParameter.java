@@ -0,0 +1,30 @@
+package br.com.jbProjects.processor.filter;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Placeholder for a filter value that is bound when the query is executed.</p>
+ *
+ * <p>When a {@link ProjectionFilter} holds a {@code ProjectionParameter} as value, the predicate
+ * is built with a JPA parameter named {@link #name()}, created by
+ * {@link br.com.jbProjects.processor.filter.handler.ProjectionFilterOperatorHandler#createParameter}.
+ * The same criteria query can then be executed several times, binding a different value each time.
+ *
+ * <p>Only operators whose handler {@linkplain br.com.jbProjects.processor.filter.handler.ProjectionFilterOperatorHandler#supportsParameters()
+ * supports parameters} accept a placeholder.
+ *
+ * @param name The parameter name
+ */
+public record ProjectionParameter(String name) {
+
+    /**
+     * Validates the parameter name.
+     *
+     * @param name The parameter name
+     * @throws IllegalArgumentException if the name is blank
+     */
+    public ProjectionParameter {
+        if(name == null || name.isBlank()){
+            throw new IllegalArgumentException("Parameter name must not be blank");
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package br.com.jbProjects.processor.filter.handler;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.apache.commons.lang3.ClassUtils;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.type.BasicType;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Handler responsible for generating Predicate for ANY operations in projection queries</p>
+ *
+ * <p>The whole collection of values is bound as a single SQL array parameter, rendering
+ * {@code path = any(?)}. The SQL statement and its single parameter are the same regardless of
+ * the number of values, unlike {@code IN}, which binds one parameter per value.
+ *
+ * <p>Arrays are only used on databases supporting this syntax (H2 and PostgreSQL); on the others,
+ * the filter falls back to {@link InHandler}.
+ */
+public class AnyHandler implements ProjectionFilterOperatorHandler {
+
+    private static final Map<Class<?>, Function<Number, Object>> NUMBER_CONVERTERS = Map.of(
+            Long.class, Number::longValue,
+            Integer.class, Number::intValue,
+            Short.class, Number::shortValue,
+            Byte.class, Number::byteValue,
+            Double.class, Number::doubleValue,
+            Float.class, Number::floatValue,
+            BigDecimal.class, number -> new BigDecimal(number.toString()),
+            BigInteger.class, number -> BigInteger.valueOf(number.longValue())
+    );
+
+    private final InHandler inHandler = new InHandler();
+
+    /**
+     * <p>Default constructor for AnyHandler.</p>
+     */
+    public AnyHandler() {}
+
+    /**
+     * <p>Handler responsible for generating Predicate for ANY operations in projection queries.</p>
+     * <p>Requires that the received value be an Iterable, which is converted into an array of the path type.</p>
+     *
+     * @param cb CriteriaBuilder used to create the Predicate
+     * @param path Target property path
+     * @param value List of values for comparison
+     * @return Predicate equivalent to "path = any(value)", or "path IN (value...)" when arrays are not supported
+     * @throws IllegalArgumentException if the value is not an Iterable
+     */
+    @Override
+    public Predicate toPredicate(CriteriaBuilder cb, Path<?> path, Object value) {
+        if(!supportsArrays(cb)){
+            return inHandler.toPredicate(cb, path, value);
+        }
+
+        HibernateCriteriaBuilder hibernateCriteriaBuilder = (HibernateCriteriaBuilder) cb;
+        Class<?> elementType = ClassUtils.primitiveToWrapper(path.getJavaType());
+
+        Expression<?> array;
+        if(value instanceof Expression<?> expression){
+            array = expression;
+        }else if(value instanceof Iterable<?> iterable){
+            array = hibernateCriteriaBuilder.value(toArray(iterable, elementType));
+        }else{
+            throw new IllegalArgumentException("Value for ANY operator must be an instance of Iterable.");
+        }
+
+        return cb.equal(path, hibernateCriteriaBuilder.sql("any(?)", elementType, array));
+    }
+
+    @Override
+    public boolean supportsParameters() {
+        return true;
+    }
+
+    /**
+     * <p>Creates an array parameter of the path type, bound to the whole list of values.</p>
+     * <p>Its type is resolved explicitly, since {@code cb.parameter(Long[].class)} would create a
+     * multi-valued parameter expanded into one SQL parameter per value. Collections bound to it
+     * are converted into arrays by the query builder.</p>
+     *
+     * @param cb CriteriaBuilder used to create the parameter
+     * @param path Target property path
+     * @param name Parameter name
+     * @return An array parameter, or a collection parameter when arrays are not supported
+     */
+    @Override
+    public ParameterExpression<?> createParameter(CriteriaBuilder cb, Path<?> path, String name) {
+        if(!supportsArrays(cb)){
+            return inHandler.createParameter(cb, path, name);
+        }
+
+        NodeBuilder nodeBuilder = (NodeBuilder) cb;
+        Class<?> arrayType = Array.newInstance(ClassUtils.primitiveToWrapper(path.getJavaType()), 0).getClass();
+        BasicType<?> basicType = nodeBuilder.getTypeConfiguration().standardBasicTypeForJavaType(arrayType);
+        return new JpaCriteriaParameter<>(name, basicType, false, nodeBuilder);
+    }
+
+    /**
+     * <p>Converts values into an array of the given element type.</p>
+     * <p>Numbers of another type, e.g. {@code Integer} values of a {@code Long} path, are converted.</p>
+     *
+     * @param values The values
+     * @param elementType The array element type
+     * @return A new array holding the values
+     * @throws IllegalArgumentException if a value cannot be stored in the array
+     */
+    public static Object toArray(Iterable<?> values, Class<?> elementType) {
+        List<Object> list = new ArrayList<>();
+        values.forEach(list::add);
+
+        Object array = Array.newInstance(elementType, list.size());
+        for (int i = 0; i < list.size(); i++) {
+            Array.set(array, i, convert(list.get(i), elementType));
+        }
+        return array;
+    }
+
+    private static Object convert(Object value, Class<?> elementType) {
+        if(value == null || elementType.isInstance(value) || !(value instanceof Number number)){
+            return value;
+        }
+
+        Function<Number, Object> converter = NUMBER_CONVERTERS.get(elementType);
+        return converter != null ? converter.apply(number) : value;
+    }
+
+    private boolean supportsArrays(CriteriaBuilder cb) {
+        if(!(cb instanceof NodeBuilder nodeBuilder)){
+            return false;
+        }
+
+        Dialect dialect = nodeBuilder.getSessionFactory().getJdbcServices().getDialect();
+        return dialect instanceof H2Dialect || dialect instanceof PostgreSQLDialect;
+    }
+}
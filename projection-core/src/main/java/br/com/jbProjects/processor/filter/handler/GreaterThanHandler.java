@@ -1,6 +1,7 @@
 package br.com.jbProjects.processor.filter.handler;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 
@@ -20,12 +21,21 @@ public class GreaterThanHandler implements ProjectionFilterOperatorHandler {
      *
      * @param cb CriteriaBuilder used to create the Predicate
      * @param path Target property path
-     * @param value Value for comparison
+     * @param value Comparable value, such as a number, text or date, or an expression of one
      * @return Predicate equivalent to "path > value"
      */
+    @SuppressWarnings("unchecked")
     @Override
     public Predicate toPredicate(CriteriaBuilder cb, Path<?> path, Object value) {
-        return cb.gt((Path<? extends Number>) path, (Number) value);
+        Path<Comparable<Object>> comparablePath = (Path<Comparable<Object>>) path;
+        if(value instanceof Expression<?> expression){
+            return cb.greaterThan(comparablePath, (Expression<Comparable<Object>>) expression);
+        }
+        return cb.greaterThan(comparablePath, (Comparable<Object>) value);
     }
 
+    @Override
+    public boolean supportsParameters() {
+        return true;
+    }
 }
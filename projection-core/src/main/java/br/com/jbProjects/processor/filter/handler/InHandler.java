@@ -1,9 +1,13 @@
 package br.com.jbProjects.processor.filter.handler;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.ParameterExpression;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 
+import java.util.Collection;
+
 /**
  * Created by julio.bueno on 25/11/2025.
  * <p>Handler responsible for generating Predicate for IN operations in projection queries</p>
@@ -26,7 +30,12 @@ public class InHandler implements ProjectionFilterOperatorHandler {
      * @throws IllegalArgumentException if the value is not an Iterable
      */
     @Override
+    @SuppressWarnings("unchecked")
     public Predicate toPredicate(CriteriaBuilder cb, Path<?> path, Object value) {
+        if(value instanceof Expression<?> expression){
+            return path.in((Expression<Collection<?>>) expression);
+        }
+
         if (!(value instanceof Iterable<?> iterable)) {
             throw new IllegalArgumentException("Value for IN operator must be an instance of Iterable.");
         }
@@ -38,4 +47,22 @@ public class InHandler implements ProjectionFilterOperatorHandler {
 
         return in;
     }
+
+    @Override
+    public boolean supportsParameters() {
+        return true;
+    }
+
+    /**
+     * <p>Creates a collection-valued parameter, bound to the whole list of values.</p>
+     *
+     * @param cb CriteriaBuilder used to create the parameter
+     * @param path Target property path
+     * @param name Parameter name
+     * @return A parameter accepting a {@link Collection} of values
+     */
+    @Override
+    public ParameterExpression<?> createParameter(CriteriaBuilder cb, Path<?> path, String name) {
+        return cb.parameter(Collection.class, name);
+    }
 }
@@ -1,6 +1,7 @@
 package br.com.jbProjects.processor.filter.handler;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 
@@ -23,9 +24,17 @@ public class LikeHandler implements ProjectionFilterOperatorHandler {
      * @param value Value for comparison
      * @return Predicate equivalent to "path LIKE value"
      */
+    @SuppressWarnings("unchecked")
     @Override
     public Predicate toPredicate(CriteriaBuilder cb, Path<?> path, Object value) {
+        if(value instanceof Expression<?> expression){
+            return cb.like((Path<String>) path, (Expression<String>) expression);
+        }
         return cb.like((Path<String>) path, value.toString());
     }
 
+    @Override
+    public boolean supportsParameters() {
+        return true;
+    }
 }
@@ -1,6 +1,7 @@
 package br.com.jbProjects.processor.filter.handler;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 
@@ -25,6 +26,14 @@ public class NotEqualHandler implements ProjectionFilterOperatorHandler {
      */
     @Override
     public Predicate toPredicate(CriteriaBuilder cb, Path<?> path, Object value) {
+        if(value instanceof Expression<?> expression){
+            return cb.notEqual(path, expression);
+        }
         return cb.notEqual(path, value);
     }
+
+    @Override
+    public boolean supportsParameters() {
+        return true;
+    }
 }
@@ -1,6 +1,7 @@
 package br.com.jbProjects.processor.filter.handler;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.ParameterExpression;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 
@@ -29,4 +30,14 @@ public class NotInHandler implements ProjectionFilterOperatorHandler {
     public Predicate toPredicate(CriteriaBuilder cb, Path<?> path, Object value) {
         return cb.not(inHandler.toPredicate(cb, path, value));
     }
+
+    @Override
+    public ParameterExpression<?> createParameter(CriteriaBuilder cb, Path<?> path, String name) {
+        return inHandler.createParameter(cb, path, name);
+    }
+
+    @Override
+    public boolean supportsParameters() {
+        return true;
+    }
 }
@@ -1,12 +1,20 @@
 package br.com.jbProjects.processor.filter.handler;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.ParameterExpression;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import org.apache.commons.lang3.ClassUtils;
 
 /**
  * Created by julio.bueno on 25/11/2025.
  * <p>Interface for handlers that generate Predicate for different filter operations in projection queries</p>
+ *
+ * <p><b>Parameters:</b>
+ * Handlers returning {@code true} from {@link #supportsParameters()} also accept, as {@code value},
+ * the {@link ParameterExpression} created by {@link #createParameter(CriteriaBuilder, Path, String)}.
+ * Queries whose filters only use such handlers are built once with parameters and reused,
+ * binding the filter values on each execution.
  */
 public interface ProjectionFilterOperatorHandler {
 
@@ -20,4 +28,27 @@ public interface ProjectionFilterOperatorHandler {
      */
     Predicate toPredicate(CriteriaBuilder cb, Path<?> path, Object value);
 
+    /**
+     * <p>Indicates whether {@link #toPredicate(CriteriaBuilder, Path, Object)} accepts a
+     * {@link ParameterExpression} as value.</p>
+     *
+     * @return {@code true} if the handler supports parameters. Default is {@code false}
+     */
+    default boolean supportsParameters() {
+        return false;
+    }
+
+    /**
+     * <p>Creates the parameter bound to the filter value of the given path.</p>
+     * <p>By default, the parameter has the (boxed) type of the path.</p>
+     *
+     * @param cb CriteriaBuilder used to create the parameter
+     * @param path Target property path
+     * @param name Parameter name
+     * @return The parameter expression passed as value to {@link #toPredicate(CriteriaBuilder, Path, Object)}
+     */
+    default ParameterExpression<?> createParameter(CriteriaBuilder cb, Path<?> path, String name) {
+        return cb.parameter(ClassUtils.primitiveToWrapper(path.getJavaType()), name);
+    }
+
 }
@@ -1,16 +1,16 @@
 package br.com.jbProjects.processor.joinResolver;
 
 import br.com.jbProjects.annotations.ProjectionJoin;
-import br.com.jbProjects.metadata.model.JoinMetadata;
+import br.com.jbProjects.metadata.model.JoinPlan;
 import br.com.jbProjects.metadata.model.ProjectionMetadata;
-import br.com.jbProjects.metadata.resolver.ProjectionAliasResolver;
+import br.com.jbProjects.metadata.model.ProjectionPathTable;
+import br.com.jbProjects.metadata.model.ResolvedPath;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.criteria.*;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
 
-import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Created by julio.bueno on 23/11/2025.
@@ -25,12 +25,19 @@ import java.util.stream.Collectors;
  *
  * <p>The class also caches previously resolved joins in order to avoid
  * duplicate navigation during the same query execution, improving performance
- * and preventing Hibernate from generating redundant SQL joins.</p>
+ * and preventing Hibernate from generating redundant SQL joins. Joins of the
+ * projection {@link JoinPlan} are kept in an array indexed by plan node, shared
+ * by every path navigating them; only joins outside the plan are cached by key.</p>
  *
  * <p>This component is considered an internal utility used by the projection
  * engine and is not expected to be used directly by application code in most
  * scenarios.</p>
  *
+ * <p>Identifier attributes are recognised through the JPA metamodel of the
+ * query's factory (see {@link MetamodelIdentifierResolver}), so that
+ * {@code "address.city.id"} is read from the foreign key without joining
+ * {@code city}.</p>
+ *
  * <b>Responsibilities:</b>
  * <ul>
  *   <li>Resolve property paths like {@code "address.city"} into valid
@@ -48,8 +55,12 @@ public class DefaultPathResolver implements PathResolver {
     
     private final Map<String, Join<?,?>> joinCache = new HashMap<>();
     private final Map<String, JoinType> annotationJoins;
-    private final ProjectionAliasResolver aliasResolver;
-    private final IdentifierResolver identifierResolver = DefaultIdentifierResolver.getInstance();
+    private final ProjectionPathTable pathTable;
+    private final JoinPlan joinPlan;
+    private Root<?> plannedJoinsRoot;
+    private Join<?,?>[] plannedJoins;
+    private IdentifierResolver identifierResolver = DefaultIdentifierResolver.getInstance();
+    private EntityManagerFactory identifierResolverFactory;
 
     /**
      * Constructs a DefaultPathResolver with the provided projection join definitions.
@@ -57,73 +68,116 @@ public class DefaultPathResolver implements PathResolver {
      * @param metaData The projection metadata containing join definitions and alias mappings.
      */
     public DefaultPathResolver(ProjectionMetadata metaData) {
-        annotationJoins = createAnnotationJoins(metaData.joins());
-        aliasResolver = ProjectionAliasResolver.of(metaData.aliasMap());
-    }
-
-    private Map<String, JoinType> createAnnotationJoins(List<JoinMetadata> definedJoins){
-        return definedJoins
-                .stream()
-                .collect(Collectors.toMap(
-                        JoinMetadata::path,
-                        JoinMetadata::type)
-                );
+        pathTable = metaData.paths();
+        joinPlan = pathTable.joinPlan();
+        annotationJoins = pathTable.joinTypes();
     }
 
     /**
      * <p>Resolves the given path against the provided root, creating necessary joins.</p>
      * <p>It's possible to use nested paths to access fields in related entities.</p>
      * <p> ex: "name" or "address.city.name" </p>
+     * <p>Paths declared by the projection are looked up in its {@link ProjectionPathTable},
+     * already split into segments.</p>
      * @param root The root entity from which to resolve the path.
      * @param path The property path to resolve, potentially nested.
      * @return The resolved Path object representing the property.
      */
     @Override
     public <T> Path<T> resolve(Root<?> root, String path) {
-        String resolved = aliasResolver.resolve(path);
-        String[] parts = resolved.split("\\.");
+        ResolvedPath resolved = pathTable.resolve(path);
+        String[] parts = resolved.segments();
         From<?, ?> current = root;
 
-        if (parts.length == 1) {
+        if (resolved.isSimple()) {
             return root.get(parts[0]);
         }
 
+        int node = JoinPlan.ROOT;
+        boolean planned = true;
         for (int i = 0; i < parts.length - 1; i++) {
             String attribute = parts[i];
             String nextAttribute = parts[i + 1];
             boolean isLastStep = (i == parts.length - 2);
 
-            if (isLastStep) {
-                String joinPath = String.join(".", Arrays.copyOfRange(parts, 0, i + 1));
-                boolean joinExplicitlyDeclared = annotationJoins.containsKey(joinPath);
-
-                if (!joinExplicitlyDeclared) {
-                    Class<?> targetType = current
-                            .get(attribute)
-                            .getJavaType();
+            if (isLastStep && !resolved.lastJoinDeclared()) {
+                Class<?> targetType = current
+                        .get(attribute)
+                        .getJavaType();
 
-                    boolean nextIsIdentifier = identifierResolver.isIdentifier(targetType, nextAttribute);
+                boolean nextIsIdentifier = identifierResolver(root).isIdentifier(targetType, nextAttribute);
 
-                    if (nextIsIdentifier) {
-                        return current.get(attribute).get(nextAttribute);
-                    }
+                if (nextIsIdentifier) {
+                    return current.get(attribute).get(nextAttribute);
                 }
             }
 
-            current = joinPart(current, resolved, attribute);
+            if (planned) {
+                node = resolved.isPlanned() ? resolved.joinNodes()[i] : joinPlan.child(node, attribute);
+                planned = node >= 0;
+            }
+
+            current = planned
+                    ? plannedJoin(root, current, node, resolved.joinType())
+                    : joinPart(current, attribute, resolved.joinType());
         }
 
         return current.get(parts[parts.length - 1]);
     }
 
+    /**
+     * Returns the identifier resolver of the factory that created the root, when known.
+     *
+     * @param root The root of the query
+     * @return The {@link MetamodelIdentifierResolver} of the factory, or the
+     *         {@link DefaultIdentifierResolver} for roots of other providers
+     */
+    private IdentifierResolver identifierResolver(Root<?> root) {
+        if(root instanceof SqmPath<?> sqmPath){
+            EntityManagerFactory factory = sqmPath.nodeBuilder().getSessionFactory();
+            if(factory != identifierResolverFactory){
+                identifierResolver = MetamodelIdentifierResolver.of(factory);
+                identifierResolverFactory = factory;
+            }
+        }
+        return identifierResolver;
+    }
+
+    /**
+     * Returns the join of a {@link JoinPlan} node, creating it from its parent on first use.
+     * Joins are kept per root, since each query has its own root.
+     *
+     * @param root     The root of the query
+     * @param parent   The join, or root, of the parent node
+     * @param node     The join index in the plan
+     * @param joinType Type of the join, when it is created
+     * @return The join of the node
+     */
+    private Join<?,?> plannedJoin(Root<?> root, From<?,?> parent, int node, JoinType joinType) {
+        if (root != plannedJoinsRoot) {
+            plannedJoinsRoot = root;
+            plannedJoins = new Join<?,?>[joinPlan.size()];
+        }
+
+        Join<?,?> join = plannedJoins[node];
+        if (join == null) {
+            join = parent.join(joinPlan.attribute(node), joinType);
+            plannedJoins[node] = join;
+        }
+
+        return join;
+    }
+
     private Join<?,?> joinPart(From<?,?> root, String fullPath, String attribute) {
+        return joinPart(root, attribute, resolveJoinType(fullPath));
+    }
+
+    private Join<?,?> joinPart(From<?,?> root, String attribute, JoinType joinType) {
         String joinKey = buildJoinKey(root, attribute);
         if (joinCache.containsKey(joinKey)) {
             return joinCache.get(joinKey);
         }
 
-        JoinType joinType = resolveJoinType(fullPath);
-
         Join<?,?> join = root.join(attribute, joinType);
         joinCache.put(joinKey, join);
 
@@ -131,20 +185,7 @@ public class DefaultPathResolver implements PathResolver {
     }
 
     private JoinType resolveJoinType(String fullPath) {
-        if(annotationJoins.containsKey(fullPath)) {
-            return annotationJoins.get(fullPath);
-        }
-
-        int dot = fullPath.lastIndexOf(".");
-        while(dot > 0) {
-            fullPath = fullPath.substring(0, dot);
-            if(annotationJoins.containsKey(fullPath)) {
-                return annotationJoins.get(fullPath);
-            }
-            dot = fullPath.lastIndexOf(".");
-        }
-
-        return JoinType.INNER;
+        return ResolvedPath.joinType(fullPath, annotationJoins);
     }
 
     private String buildJoinKey(From<?,?> root, String attribute) {
@@ -0,0 +1,133 @@
+package br.com.jbProjects.processor.joinResolver;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.IdentifiableType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>{@code IdentifierResolver} backed by the JPA {@link Metamodel} of an
+ * {@link EntityManagerFactory}.</p>
+ *
+ * <p>The identifier attributes of an entity are read from its
+ * {@link IdentifiableType}, as mapped by the persistence provider. Unlike
+ * {@link DefaultIdentifierResolver}, this includes identifiers inherited from
+ * {@link jakarta.persistence.MappedSuperclass}es and the attributes of an
+ * {@link jakarta.persistence.IdClass}, so paths such as
+ * {@code "address.city.code"} are read from the foreign key without a join
+ * whatever the entity hierarchy looks like.</p>
+ *
+ * <p>Types unknown to the metamodel are resolved by {@link DefaultIdentifierResolver}.</p>
+ *
+ * <p>One resolver is kept per {@code EntityManagerFactory}, and the identifier
+ * attributes of each entity type are cached by it. Resolvers only hold their factory
+ * weakly and read its metamodel when a type is first resolved, so a closed factory is
+ * released together with its resolver.</p>
+ *
+ * <b>Typical Usage:</b>
+ * <pre>{@code
+ * IdentifierResolver resolver = MetamodelIdentifierResolver.of(entityManagerFactory);
+ * resolver.isIdentifier(City.class, "code"); // true, even if "code" is declared by a mapped superclass
+ * }</pre>
+ *
+ * @see DefaultPathResolver
+ */
+public class MetamodelIdentifierResolver implements IdentifierResolver {
+
+    private static final Map<EntityManagerFactory, MetamodelIdentifierResolver> RESOLVERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final Set<String> NOT_IDENTIFIABLE = Collections.unmodifiableSet(new HashSet<>());
+
+    private final WeakReference<EntityManagerFactory> entityManagerFactory;
+    private final Map<Class<?>, Set<String>> cache = new ConcurrentHashMap<>();
+
+    private MetamodelIdentifierResolver(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = new WeakReference<>(entityManagerFactory);
+    }
+
+    /**
+     * Returns the resolver of the given factory, creating it on first use.
+     *
+     * @param entityManagerFactory The factory whose metamodel is used
+     * @return The resolver of the factory
+     */
+    public static MetamodelIdentifierResolver of(EntityManagerFactory entityManagerFactory) {
+        if(entityManagerFactory == null){
+            throw new IllegalArgumentException("EntityManagerFactory cannot be null");
+        }
+
+        return RESOLVERS.computeIfAbsent(entityManagerFactory, MetamodelIdentifierResolver::new);
+    }
+
+    /**
+     * Determines whether the given attribute is an identifier attribute of the
+     * specified entity type, as mapped in the metamodel.
+     *
+     * @param entityType The entity class to which the attribute belongs
+     * @param attribute  The attribute name to be evaluated
+     * @return {@code true} if the attribute is an identifier attribute, or a
+     *         member of the {@code @IdClass}, of the entity type
+     */
+    @Override
+    public boolean isIdentifier(Class<?> entityType, String attribute) {
+        Set<String> ids = cache.computeIfAbsent(entityType, this::resolveIds);
+        if(ids == NOT_IDENTIFIABLE){
+            return DefaultIdentifierResolver.getInstance().isIdentifier(entityType, attribute);
+        }
+
+        return ids.contains(attribute);
+    }
+
+    /**
+     * Returns the identifier attributes of the specified entity type, as mapped in the metamodel.
+     *
+     * @param entityType The entity class
+     * @return The names of the identifier attributes, and members of the {@code @IdClass},
+     *         or an empty set if the type is not an identifiable type of the metamodel
+     */
+    public Set<String> identifiers(Class<?> entityType) {
+        Set<String> ids = cache.computeIfAbsent(entityType, this::resolveIds);
+        return ids == NOT_IDENTIFIABLE ? Set.of() : ids;
+    }
+
+    private Set<String> resolveIds(Class<?> type) {
+        EntityManagerFactory factory = entityManagerFactory.get();
+        if(factory == null || !factory.isOpen()){
+            return NOT_IDENTIFIABLE;
+        }
+
+        ManagedType<?> managedType;
+        try{
+            managedType = factory.getMetamodel().managedType(type);
+        }catch (IllegalArgumentException e){
+            return NOT_IDENTIFIABLE;
+        }
+
+        if(!(managedType instanceof IdentifiableType<?> identifiableType)){
+            return NOT_IDENTIFIABLE;
+        }
+
+        Set<String> ids = new HashSet<>();
+        identifiableType.getSingularAttributes()
+                .stream()
+                .filter(SingularAttribute::isId)
+                .map(Attribute::getName)
+                .forEach(ids::add);
+
+        if(!identifiableType.hasSingleIdAttribute()){
+            identifiableType.getIdClassAttributes()
+                    .stream()
+                    .map(Attribute::getName)
+                    .forEach(ids::add);
+        }
+
+        return Set.copyOf(ids);
+    }
+}
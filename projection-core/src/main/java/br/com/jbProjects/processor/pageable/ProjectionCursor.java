@@ -0,0 +1,253 @@
+package br.com.jbProjects.processor.pageable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Position of a row in a keyset paginated result.</p>
+ *
+ * <p>A cursor holds the values of the order paths of the last row of a page, in the order of
+ * the query orders, ending with the identifier tie-breaker. It is handed to callers as an
+ * opaque URL-safe string by {@link #encode()}, and read back by {@link #decode(String)}.
+ *
+ * <p>A cursor read from a page also holds the {@linkplain #fingerprint() fingerprint} of the
+ * order paths and directions of the query that produced it, so it cannot be applied to a query
+ * ordered differently. Cursors created by {@link #of(Object...)} are {@linkplain #UNBOUND unbound}
+ * and are not checked.
+ *
+ * <p>Values are encoded with their type, so they are bound to the next page query exactly as
+ * they were read. The supported types are {@code String}, {@code Boolean}, the primitive
+ * wrappers of numbers, {@code BigDecimal}, {@code BigInteger}, {@code UUID}, enums,
+ * {@code java.time} dates and times, {@code Date} and {@code Timestamp}. Values cannot be
+ * {@code null}.
+ *
+ * <p>The token comes from the client, so it never names a class: enums are encoded by their
+ * name, read back as a {@code String}, and converted to the enum type of their order path when
+ * the next page query is built.
+ *
+ * <p><b>Usage example:</b>
+ * <pre>{@code
+ * String token = ProjectionCursor.of("Maria", 42L).encode();
+ *
+ * ProjectionCursor cursor = ProjectionCursor.decode(token);
+ * cursor.values(); // ["Maria", 42L]
+ * }</pre>
+ *
+ * @param values      The values of the order paths of a row
+ * @param fingerprint The fingerprint of the orders of the query, or {@link #UNBOUND}
+ * @see ProjectionKeysetPage
+ */
+public record ProjectionCursor(List<Object> values, int fingerprint) {
+
+    /** Fingerprint of a cursor not bound to the orders of a query. */
+    public static final int UNBOUND = 0;
+
+    private static final int VERSION = 3;
+
+    /**
+     * Constructs a ProjectionCursor.
+     *
+     * @param values      The values of the order paths of a row
+     * @param fingerprint The fingerprint of the orders of the query, or {@link #UNBOUND}
+     * @throws IllegalArgumentException if values is null, empty or contains {@code null}.
+     */
+    public ProjectionCursor {
+        if(values == null || values.isEmpty()){
+            throw new IllegalArgumentException("ProjectionCursor requires at least one value");
+        }
+
+        if(values.stream().anyMatch(Objects::isNull)){
+            throw new IllegalArgumentException("ProjectionCursor values cannot be null");
+        }
+
+        values = List.copyOf(values);
+    }
+
+    /**
+     * Constructs an {@linkplain #UNBOUND unbound} ProjectionCursor.
+     *
+     * @param values The values of the order paths of a row
+     * @throws IllegalArgumentException if values is null, empty or contains {@code null}.
+     */
+    public ProjectionCursor(List<Object> values) {
+        this(values, UNBOUND);
+    }
+
+    /**
+     * Creates an {@linkplain #UNBOUND unbound} cursor with the given values.
+     *
+     * @param values The values of the order paths of a row
+     * @return The cursor
+     */
+    public static ProjectionCursor of(Object... values) {
+        return new ProjectionCursor(values == null ? null : Arrays.asList(values));
+    }
+
+    /**
+     * Encodes the cursor as an opaque URL-safe string.
+     *
+     * @return The encoded cursor
+     * @throws IllegalArgumentException if a value has an unsupported type.
+     */
+    public String encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(DataOutputStream out = new DataOutputStream(bytes)){
+            out.writeByte(VERSION);
+            out.writeInt(fingerprint);
+            out.writeShort(values.size());
+            for (Object value : values) {
+                write(out, value);
+            }
+        }catch (IOException e){
+            throw new IllegalStateException("Failed to encode ProjectionCursor", e);
+        }
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Reads a cursor encoded by {@link #encode()}.
+     *
+     * @param cursor The encoded cursor
+     * @return The cursor
+     * @throws IllegalArgumentException if the cursor is not a valid encoded cursor.
+     */
+    public static ProjectionCursor decode(String cursor) {
+        if(cursor == null || cursor.isBlank()){
+            throw new IllegalArgumentException("ProjectionCursor cannot be blank");
+        }
+
+        try(DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))){
+            if(in.readByte() != VERSION){
+                throw new IllegalArgumentException("Unsupported ProjectionCursor version");
+            }
+
+            int fingerprint = in.readInt();
+            int size = in.readShort();
+            List<Object> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(read(in));
+            }
+
+            if(in.available() > 0){
+                throw new IllegalArgumentException("Unexpected trailing data");
+            }
+            return new ProjectionCursor(values, fingerprint);
+        }catch (IOException | RuntimeException e){
+            throw new IllegalArgumentException("Invalid ProjectionCursor: " + cursor, e);
+        }
+    }
+
+    private static void write(DataOutputStream out, Object value) throws IOException {
+        if(value instanceof String v){
+            out.writeByte('S');
+            out.writeUTF(v);
+        }else if(value instanceof Long v){
+            out.writeByte('J');
+            out.writeLong(v);
+        }else if(value instanceof Integer v){
+            out.writeByte('I');
+            out.writeInt(v);
+        }else if(value instanceof Short v){
+            out.writeByte('H');
+            out.writeShort(v);
+        }else if(value instanceof Byte v){
+            out.writeByte('B');
+            out.writeByte(v);
+        }else if(value instanceof Double v){
+            out.writeByte('D');
+            out.writeDouble(v);
+        }else if(value instanceof Float v){
+            out.writeByte('F');
+            out.writeFloat(v);
+        }else if(value instanceof Boolean v){
+            out.writeByte('Z');
+            out.writeBoolean(v);
+        }else if(value instanceof BigDecimal v){
+            out.writeByte('M');
+            out.writeUTF(v.toString());
+        }else if(value instanceof BigInteger v){
+            out.writeByte('N');
+            out.writeUTF(v.toString());
+        }else if(value instanceof UUID v){
+            out.writeByte('U');
+            out.writeLong(v.getMostSignificantBits());
+            out.writeLong(v.getLeastSignificantBits());
+        }else if(value instanceof Enum<?> v){
+            out.writeByte('E');
+            out.writeUTF(v.name());
+        }else if(value instanceof LocalDate v){
+            out.writeByte('d');
+            out.writeUTF(v.toString());
+        }else if(value instanceof LocalDateTime v){
+            out.writeByte('t');
+            out.writeUTF(v.toString());
+        }else if(value instanceof LocalTime v){
+            out.writeByte('h');
+            out.writeUTF(v.toString());
+        }else if(value instanceof Instant v){
+            out.writeByte('i');
+            out.writeUTF(v.toString());
+        }else if(value instanceof OffsetDateTime v){
+            out.writeByte('o');
+            out.writeUTF(v.toString());
+        }else if(value instanceof ZonedDateTime v){
+            out.writeByte('z');
+            out.writeUTF(v.toString());
+        }else if(value instanceof Timestamp v){
+            out.writeByte('p');
+            out.writeLong(v.getTime());
+            out.writeInt(v.getNanos());
+        }else if(value instanceof Date v){
+            out.writeByte('w');
+            out.writeLong(v.getTime());
+        }else{
+            throw new IllegalArgumentException("Unsupported ProjectionCursor value type: " + value.getClass().getName());
+        }
+    }
+
+    private static Object read(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case 'S', 'E' -> in.readUTF();
+            case 'J' -> in.readLong();
+            case 'I' -> in.readInt();
+            case 'H' -> in.readShort();
+            case 'B' -> in.readByte();
+            case 'D' -> in.readDouble();
+            case 'F' -> in.readFloat();
+            case 'Z' -> in.readBoolean();
+            case 'M' -> new BigDecimal(in.readUTF());
+            case 'N' -> new BigInteger(in.readUTF());
+            case 'U' -> new UUID(in.readLong(), in.readLong());
+            case 'd' -> LocalDate.parse(in.readUTF());
+            case 't' -> LocalDateTime.parse(in.readUTF());
+            case 'h' -> LocalTime.parse(in.readUTF());
+            case 'i' -> Instant.parse(in.readUTF());
+            case 'o' -> OffsetDateTime.parse(in.readUTF());
+            case 'z' -> ZonedDateTime.parse(in.readUTF());
+            case 'p' -> {
+                Timestamp timestamp = new Timestamp(in.readLong());
+                timestamp.setNanos(in.readInt());
+                yield timestamp;
+            }
+            case 'w' -> new Date(in.readLong());
+            default -> throw new IllegalArgumentException("Unknown value type: " + (char) type);
+        };
+    }
+}
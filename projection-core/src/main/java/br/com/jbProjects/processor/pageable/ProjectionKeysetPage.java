@@ -0,0 +1,61 @@
+package br.com.jbProjects.processor.pageable;
+
+import java.util.List;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Represents a keyset paginated result of a {@link br.com.jbProjects.processor.query.ProjectionQuery} execution.</p>
+ * <p>
+ * Unlike {@link ProjectionPage}, a keyset page is not located by an offset but by the
+ * position of the last row of the previous page, carried by an opaque cursor. Each page
+ * query seeks past that row with a predicate on the order paths, so reading a page deep
+ * into a large result costs the same as reading the first one.
+ * </p>
+ *
+ * <p>
+ * The total number of elements is not known. The next page is requested with
+ * {@link #nextCursor()}, which is {@code null} on the last page.
+ * </p>
+ *
+ * @param <T> the type of the content elements
+ *
+ * @param content the list of elements in the current page (never {@code null})
+ * @param pageSize the maximum number of elements per page
+ * @param nextCursor the cursor of the next page, or {@code null} if this is the last page
+ * @see ProjectionCursor
+ */
+public record ProjectionKeysetPage<T>(
+        List<T> content,
+        int pageSize,
+        String nextCursor
+) {
+
+    /**
+     * Constructs a ProjectionKeysetPage ensuring content is never null.
+     *
+     * @param content the list of elements in the current page
+     * @param pageSize the maximum number of elements per page
+     * @param nextCursor the cursor of the next page, or {@code null} if this is the last page
+     */
+    public ProjectionKeysetPage {
+        content = content == null ? List.of() : content;
+    }
+
+    /**
+     * Checks if there is a next page.
+     *
+     * @return true if more elements exist after the current page, false otherwise.
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Checks if the page content is empty.
+     *
+     * @return true if the content is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.jbProjects.processor.pageable;
+
+import br.com.jbProjects.processor.query.ProjectionPaging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Represents a slice of the results of a {@link br.com.jbProjects.processor.query.ProjectionQuery} execution.</p>
+ * <p>
+ * Unlike {@link ProjectionPage}, a slice does not know the total number of elements
+ * matching the query. It only knows whether more elements exist after it, which is
+ * determined by fetching one row beyond the requested size, so no count query is needed.
+ * This fits navigation such as infinite scrolling, where only the next slice matters.
+ * </p>
+ *
+ * <p>
+ * As with {@link ProjectionPage}, the model is <strong>offset-based</strong> and the
+ * slice index is derived from the {@code first} and {@code size} parameters defined in
+ * {@link ProjectionPaging}. The slice index is zero-based.
+ * </p>
+ *
+ * @param <T> the type of the content elements
+ *
+ * @param content the list of elements in the current slice (never {@code null})
+ * @param pageNumber the current slice number (0-based)
+ * @param pageSize the maximum number of elements per slice
+ * @param hasNext whether more elements exist after the current slice
+ */
+public record ProjectionSlice<T>(
+        List<T> content,
+        int pageNumber,
+        int pageSize,
+        boolean hasNext
+) {
+
+    /**
+     * Constructs a ProjectionSlice ensuring content is never null.
+     *
+     * @param content the list of elements in the current slice
+     * @param pageNumber the current slice number (0-based)
+     * @param pageSize the maximum number of elements per slice
+     * @param hasNext whether more elements exist after the current slice
+     */
+    public ProjectionSlice {
+        content = content == null ? List.of() : content;
+    }
+
+    /**
+     * Checks if there is a previous slice.
+     *
+     * @return true if the current slice number is greater than 0, false otherwise.
+     */
+    public boolean hasPrevious() {
+        return pageNumber > 0;
+    }
+
+    /**
+     * Checks if the slice content is empty.
+     *
+     * @return true if the content is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+
+    /**
+     * Creates an empty ProjectionSlice with the specified paging parameters.
+     *
+     * @param paging The paging parameters.
+     * @param <T> The type of the content.
+     * @return An empty ProjectionSlice.
+     */
+    public static <T> ProjectionSlice<T> empty(ProjectionPaging paging) {
+        return new ProjectionSlice<>(
+                List.of(),
+                paging.pageNumber(),
+                paging.size(),
+                false
+        );
+    }
+
+    /**
+     * Creates a ProjectionSlice from the rows fetched for the specified paging parameters.
+     *
+     * <p>The rows are expected to have been fetched with one row beyond {@code paging.size()};
+     * when that extra row is present, it is left out of the content and the slice has a next one.</p>
+     *
+     * @param rows The fetched rows, up to {@code paging.size() + 1}.
+     * @param paging The paging parameters.
+     * @param <T> The type of the content.
+     * @return A ProjectionSlice containing at most {@code paging.size()} elements.
+     */
+    public static <T> ProjectionSlice<T> of(List<T> rows, ProjectionPaging paging) {
+        boolean hasNext = rows.size() > paging.size();
+        return new ProjectionSlice<>(
+                hasNext ? new ArrayList<>(rows.subList(0, paging.size())) : rows,
+                paging.pageNumber(),
+                paging.size(),
+                hasNext
+        );
+    }
+}
@@ -0,0 +1,175 @@
+package br.com.jbProjects.processor.query;
+
+import br.com.jbProjects.processor.filter.ProjectionCompoundFilter;
+import br.com.jbProjects.processor.filter.ProjectionFilter;
+import br.com.jbProjects.processor.filter.ProjectionFilterExpression;
+import br.com.jbProjects.processor.filter.ProjectionFilterOperatorProvider;
+import br.com.jbProjects.processor.filter.ProjectionParameter;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Immutable template of a {@link ProjectionQuery} whose filter values are bound on execution.</p>
+ *
+ * <p>A prepared query is created once, typically when a service is initialized, from a
+ * {@link ProjectionQuery} using {@link br.com.jbProjects.processor.filter.ProjectionFilters#param(String)}
+ * placeholders in place of the filter values. Each execution only binds the values: filters,
+ * orders, the parameterized plan and the criteria query cached by the
+ * {@link br.com.jbProjects.builder.ProjectionQueryPlanCache} are shared by all executions.
+ *
+ * <p>The template is copied on creation and never modified afterward, so a prepared query can
+ * be shared by any number of threads.
+ *
+ * <p><b>Usage example:</b>
+ * <pre>{@code
+ * private static final PreparedProjectionQuery<Customer, CustomerDTO> BY_STATUS = PreparedProjectionQuery.of(
+ *     ProjectionQuery.fromTo(Customer.class, CustomerDTO.class)
+ *         .filter(ProjectionFilters.equal("status", ProjectionFilters.param("status")))
+ *         .order("name", OrderDirection.ASC)
+ * );
+ *
+ * List<CustomerDTO> active = processor.execute(BY_STATUS, Map.of("status", "ACTIVE"));
+ *
+ * // Other execution modes
+ * ProjectionPage<CustomerDTO> page = processor.executePageable(BY_STATUS.bind(Map.of("status", "ACTIVE")).paging(0, 20));
+ * }</pre>
+ *
+ * @param <FROM> Type of the source entity
+ * @param <TO>   Type of the target DTO
+ * @see ProjectionParameter
+ */
+public final class PreparedProjectionQuery<FROM, TO> {
+
+    private final ProjectionQuery<FROM, TO> template;
+    private final Set<String> parameterNames;
+
+    private PreparedProjectionQuery(ProjectionQuery<FROM, TO> template, Set<String> parameterNames) {
+        this.template = template;
+        this.parameterNames = parameterNames;
+    }
+
+    /**
+     * <p>Creates a prepared query from a template.</p>
+     *
+     * <p>Values already bound to the template with {@link ProjectionQuery#parameter(String, Object)}
+     * are ignored; every parameter must be bound on execution.</p>
+     *
+     * @param projectionQuery The template query, with parameters in place of the filter values
+     * @param <FROM>          Type of the source entity
+     * @param <TO>            Type of the target DTO
+     * @return The prepared query
+     * @throws IllegalArgumentException if a parameter is used by an operator that does not support parameters
+     */
+    public static <FROM, TO> PreparedProjectionQuery<FROM, TO> of(ProjectionQuery<FROM, TO> projectionQuery) {
+        Set<String> parameterNames = new LinkedHashSet<>();
+        projectionQuery.getFilters().forEach(filter -> collectParameters(filter, parameterNames));
+
+        ProjectionQuery<FROM, TO> template = projectionQuery.copy();
+        template.getParameters().clear();
+        return new PreparedProjectionQuery<>(template, Collections.unmodifiableSet(parameterNames));
+    }
+
+    /**
+     * <p>Creates the query of a single execution, binding the given values.</p>
+     *
+     * <p>The returned query is a new instance and can be further configured, e.g. with paging,
+     * without affecting this template.</p>
+     *
+     * @param arguments Values of the parameters, by name
+     * @return A new ProjectionQuery with the parameter values bound
+     * @throws IllegalArgumentException if a parameter has no value, or a value does not match any parameter
+     */
+    public ProjectionQuery<FROM, TO> bind(Map<String, ?> arguments) {
+        checkArguments(arguments);
+
+        ProjectionQuery<FROM, TO> query = template.copy();
+        arguments.forEach(query::parameter);
+        return query;
+    }
+
+    /**
+     * <p>Checks that the given values bind every parameter of this query, and no other.</p>
+     *
+     * @param arguments Values of the parameters, by name
+     * @throws IllegalArgumentException if a parameter has no value, or a value does not match any parameter
+     */
+    public void checkArguments(Map<String, ?> arguments) {
+        for (String name : parameterNames) {
+            if(arguments.get(name) == null){
+                throw new IllegalArgumentException("Missing value for parameter: " + name);
+            }
+        }
+
+        for (String name : arguments.keySet()) {
+            if(!parameterNames.contains(name)){
+                throw new IllegalArgumentException("Unknown parameter: " + name + ". Available parameters: " + parameterNames);
+            }
+        }
+    }
+
+    /**
+     * <p>Returns a copy of the template, without parameter values.</p>
+     *
+     * <p>Query builders read the template once, to keep its parameterized form; executions
+     * should use {@link #bind(Map)} instead.</p>
+     *
+     * @return A new ProjectionQuery equal to the template
+     */
+    public ProjectionQuery<FROM, TO> template() {
+        return template.copy();
+    }
+
+    /**
+     * <p>Returns the paging of the template.</p>
+     *
+     * @return The paging, or {@code null} when the template is not paged
+     */
+    public ProjectionPaging paging() {
+        return template.getPaging();
+    }
+
+    /**
+     * <p>Returns the names of the parameters of this query, in the order they appear in the filters.</p>
+     *
+     * @return An unmodifiable set of parameter names
+     */
+    public Set<String> parameterNames() {
+        return parameterNames;
+    }
+
+    /**
+     * <p>Returns the source entity class.</p>
+     *
+     * @return Source entity class
+     */
+    public Class<FROM> fromClass() {
+        return template.fromClass();
+    }
+
+    /**
+     * <p>Returns the target class.</p>
+     *
+     * @return Target class
+     */
+    public Class<TO> toClass() {
+        return template.toClass();
+    }
+
+    private static void collectParameters(ProjectionFilterExpression expression, Set<String> parameterNames) {
+        if(expression instanceof ProjectionCompoundFilter compound){
+            compound.filters().forEach(filter -> collectParameters(filter, parameterNames));
+            return;
+        }
+
+        if(expression instanceof ProjectionFilter filter && filter.value() instanceof ProjectionParameter parameter){
+            if(!ProjectionFilterOperatorProvider.getInstance().get(filter.operator()).supportsParameters()){
+                throw new IllegalArgumentException("Operator " + filter.operator() + " does not support parameters: " + filter.path());
+            }
+            parameterNames.add(parameter.name());
+        }
+    }
+}
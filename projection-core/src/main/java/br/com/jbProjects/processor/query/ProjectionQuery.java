@@ -14,7 +14,9 @@ import lombok.experimental.Accessors;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Created by julio.bueno on 21/11/2025.
@@ -49,8 +51,10 @@ public class ProjectionQuery<FROM, TO> {
     private final List<ProjectionSpecification<FROM>> specifications = new ArrayList<>();
     private final List<ProjectionFilterExpression> filters = new ArrayList<>();
     private final List<ProjectionOrder> orders = new ArrayList<>();
+    private final Map<String, Object> parameters = new HashMap<>();
 
     private boolean distinct = false;
+    private boolean deduplicateStrings = false;
     private ProjectionPaging paging;
 
     private ProjectionQuery(Class<FROM> fromClass, Class<TO> toClass) {
@@ -149,6 +153,19 @@ public class ProjectionQuery<FROM, TO> {
         return this;
     }
 
+    /**
+     * <p>Binds the value of a named parameter used by the filters of the projection query.</p>
+     * <p> ex: {@code .filter(ProjectionFilters.equal("status", ProjectionFilters.param("status"))).parameter("status", "ACTIVE")} </p>
+     * @param name  Name of the parameter, as given to {@link ProjectionFilters#param(String)}
+     * @param value Value to bind
+     * @return The current ProjectionQuery instance for method chaining
+     * @see PreparedProjectionQuery
+     */
+    public ProjectionQuery<FROM, TO> parameter(String name, Object value) {
+        this.parameters.put(name, value);
+        return this;
+    }
+
     /**
      * <p>Sets the distinct flag for the projection query.</p>
      *
@@ -159,6 +176,20 @@ public class ProjectionQuery<FROM, TO> {
         return this;
     }
 
+    /**
+     * <p>Deduplicates repeated {@code String} values of every projection field during mapping.</p>
+     * <p>Each distinct value is kept as a single instance shared by all rows, which reduces the
+     * memory held by large results of low-cardinality columns. To deduplicate only specific fields,
+     * use {@code @ProjectionField(deduplicate = true)} instead.</p>
+     *
+     * @return The current ProjectionQuery instance for method chaining
+     * @see br.com.jbProjects.mapper.ProjectionStringDictionary
+     */
+    public ProjectionQuery<FROM, TO> deduplicateStrings(){
+        this.deduplicateStrings = true;
+        return this;
+    }
+
     /**
      * <p>Adds an order to the projection query.</p>
      * <p>It's possible to use nested paths to access fields in related entities.</p>
@@ -202,7 +233,9 @@ public class ProjectionQuery<FROM, TO> {
         copy.specifications.addAll(this.specifications);
         copy.filters.addAll(this.filters);
         copy.orders.addAll(this.orders);
+        copy.parameters.putAll(this.parameters);
         copy.distinct = this.distinct;
+        copy.deduplicateStrings = this.deduplicateStrings;
         copy.paging = this.paging;
         return copy;
     }
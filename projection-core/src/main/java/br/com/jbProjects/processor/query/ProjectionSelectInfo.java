@@ -6,7 +6,6 @@ import br.com.jbProjects.metadata.model.FieldMetadata;
 import br.com.jbProjects.metadata.model.ProjectionMetadata;
 import br.com.jbProjects.processor.joinResolver.PathResolver;
 import br.com.jbProjects.processor.selectOperator.ProjectionSelectOperatorProvider;
-import br.com.jbProjects.processor.selectOperator.handler.ProjectionSelectOperatorHandler;
 import jakarta.persistence.criteria.*;
 import lombok.Getter;
 
@@ -26,6 +25,8 @@ import java.util.List;
  * <p>
  * This class uses the {@link PathResolver} from the {@link ProjectionQuery} to resolve field paths,
  * and it automatically applies any supported operators from {@link ProjectionSelectOperatorProvider}.
+ * Handlers and group-by fields are resolved once in the {@link ProjectionMetadata}, so building the
+ * selections is a loop over prepared data.
  *
  * <p><b>Usage example:</b>
  * <pre>{@code
@@ -56,48 +57,24 @@ public class ProjectionSelectInfo {
         ProjectionMetadata metaData = ProjectionMetadataCache.get(projectionQuery.toClass());
         pathResolver = projectionQuery.getPathResolver();
         selections = processSelections(metaData.fields(), criteriaBuilder, from);
-        groupByFields = processGroupByFields(metaData.fields(), from);
+        groupByFields = processGroupByFields(metaData.groupByFields(), from);
     }
 
     private Selection<?>[] processSelections(List<FieldMetadata> fields, CriteriaBuilder criteriaBuilder, Root<?> from) {
-        return fields.stream()
-                .map(field -> {
-                    ProjectionSelectOperatorHandler handler = ProjectionSelectOperatorProvider
-                            .getInstance()
-                            .get(field.selectHandler());
-
-                    Expression<?> expression = handler.apply(pathResolver, criteriaBuilder, from, field.value());
-
-                    return expression.alias(field.projectionFieldName());
-                })
-                .toArray(Selection<?>[]::new);
+        Selection<?>[] selections = new Selection<?>[fields.size()];
+        for (int i = 0; i < selections.length; i++) {
+            FieldMetadata field = fields.get(i);
+            Expression<?> expression = field.handler().apply(pathResolver, criteriaBuilder, from, field.value());
+            selections[i] = expression.alias(field.projectionFieldName());
+        }
+        return selections;
     }
 
-    private Path<?>[] processGroupByFields(List<FieldMetadata> fields, Root<?> from) {
-        boolean hasAggregate = fields
-                .stream()
-                .map(FieldMetadata::selectHandler)
-                .map(handlerClass ->
-                        ProjectionSelectOperatorProvider
-                                .getInstance()
-                                .get(handlerClass))
-                .anyMatch(ProjectionSelectOperatorHandler::aggregate);
-
-        if (!hasAggregate) {
-            return new Path<?>[0];
+    private Path<?>[] processGroupByFields(List<FieldMetadata> groupByFields, Root<?> from) {
+        Path<?>[] paths = new Path<?>[groupByFields.size()];
+        for (int i = 0; i < paths.length; i++) {
+            paths[i] = from.get(groupByFields.get(i).value());
         }
-
-        return fields.stream()
-                .filter(field -> {
-                    ProjectionSelectOperatorHandler handler =
-                            ProjectionSelectOperatorProvider
-                                    .getInstance()
-                                    .get(field.selectHandler());
-
-                    return !handler.aggregate();
-                })
-                .map(field ->
-                        from.get(field.value()))
-                .toArray(Path<?>[]::new);
+        return paths;
     }
 }
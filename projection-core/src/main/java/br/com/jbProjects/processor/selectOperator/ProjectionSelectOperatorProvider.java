@@ -20,6 +20,8 @@ import java.util.*;
  *
  *
  * You can register new operators using the {@link #register(ProjectionSelectOperatorHandler)} method.
+ * The registry is an immutable snapshot replaced on each registration, so lookups are lock-free
+ * and safe while operators are registered.
  */
 public class ProjectionSelectOperatorProvider {
 
@@ -34,7 +36,7 @@ public class ProjectionSelectOperatorProvider {
         return INSTANCE;
     }
 
-    private final Map<String, ProjectionSelectOperatorHandler> operators = new HashMap<>();
+    private volatile Map<String, ProjectionSelectOperatorHandler> operators = Map.of();
 
     private ProjectionSelectOperatorProvider(){
         register(new DefaultSelectOperatorHandler());
@@ -48,17 +50,21 @@ public class ProjectionSelectOperatorProvider {
 
     /**
      * <p>Registers a new ProjectionSelectOperatorHandler for the specified operator.</p>
+     * <p>Registration publishes a new immutable snapshot of the registry, so lookups running
+     * concurrently never see it partially updated.</p>
      *
      * @param operatorHandler The handler to be registered
      * @throws IllegalArgumentException if the operator is already registered
      */
-    public void register(ProjectionSelectOperatorHandler operatorHandler) {
+    public synchronized void register(ProjectionSelectOperatorHandler operatorHandler) {
         String name = operatorHandler.getClass().getName();
         if(operators.containsKey(name)){
             throw new IllegalArgumentException("Operator already registered: " + name);
         }
 
-        operators.put(name, operatorHandler);
+        Map<String, ProjectionSelectOperatorHandler> snapshot = new HashMap<>(operators);
+        snapshot.put(name, operatorHandler);
+        operators = Map.copyOf(snapshot);
     }
 
     /**
@@ -80,11 +86,12 @@ public class ProjectionSelectOperatorProvider {
      * @throws IllegalArgumentException if the operator is not found
      */
     public ProjectionSelectOperatorHandler get(String name) {
-        ProjectionSelectOperatorHandler handler = operators.get(name);
+        Map<String, ProjectionSelectOperatorHandler> snapshot = operators;
+        ProjectionSelectOperatorHandler handler = snapshot.get(name);
         if(handler == null){
             throw new IllegalArgumentException(
                     "Operator not found: " + name +
-                            "\nAvailable operators: " + operators.keySet()
+                            "\nAvailable operators: " + snapshot.keySet()
             );
         }
         return handler;
@@ -105,7 +112,7 @@ public class ProjectionSelectOperatorProvider {
      * @return Set of available operator names
      */
     public Set<String> availableOperators(){
-        return Collections.unmodifiableSet(operators.keySet());
+        return operators.keySet();
     }
 
 }
@@ -0,0 +1,70 @@
+package br.com.jbProjects.builder;
+
+import br.com.jbProjects.annotations.Projection;
+import br.com.jbProjects.annotations.ProjectionField;
+import br.com.jbProjects.config.helper.BaseJpaTest;
+import br.com.jbProjects.config.testModel.customer.domain.Customer;
+import br.com.jbProjects.config.testModel.customer.projections.CustomerAutoCompleteClass;
+import br.com.jbProjects.config.testModel.customer.projections.CustomerAutoCompleteRecord;
+import br.com.jbProjects.metadata.cache.ProjectionMetadataCache;
+import br.com.jbProjects.metadata.model.ProjectionMetadata;
+import br.com.jbProjects.processor.query.ProjectionQuery;
+import br.com.jbProjects.processor.query.ProjectionSelectInfo;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+class ProjectionConstructorSelectionTest extends BaseJpaTest {
+
+    @Test
+    void arguments() {
+        Selection<?>[] arguments = arguments(CustomerAutoCompleteRecord.class);
+
+        Assertions.assertNotNull(arguments);
+        Assertions.assertEquals(4, arguments.length);
+        Assertions.assertEquals("id", arguments[0].getAlias());
+        Assertions.assertEquals("customerEmail", arguments[2].getAlias());
+        Assertions.assertNull(arguments[3].getAlias());
+        Assertions.assertTrue(ProjectionConstructorSelection.isSupported(CustomerAutoCompleteRecord.class));
+    }
+
+    @Test
+    void arguments_withMismatchingType() {
+        Assertions.assertTrue(ProjectionConstructorSelection.isCandidate(CustomerAgeText.class));
+
+        Assertions.assertNull(arguments(CustomerAgeText.class));
+        Assertions.assertFalse(ProjectionConstructorSelection.isCandidate(CustomerAgeText.class));
+        Assertions.assertFalse(ProjectionConstructorSelection.isSupported(CustomerAgeText.class));
+    }
+
+    @Test
+    void arguments_withPrimitiveNotProjected() {
+        Assertions.assertNull(arguments(CustomerWithPrimitive.class));
+        Assertions.assertFalse(ProjectionConstructorSelection.isCandidate(CustomerWithPrimitive.class));
+    }
+
+    @Test
+    void isCandidate_withClass() {
+        Assertions.assertFalse(ProjectionConstructorSelection.isCandidate(CustomerAutoCompleteClass.class));
+    }
+
+    private Selection<?>[] arguments(Class<?> projectionClass) {
+        ProjectionMetadata metadata = ProjectionMetadataCache.get(projectionClass);
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        Root<Customer> from = criteriaBuilder.createQuery(Object.class).from(Customer.class);
+
+        ProjectionSelectInfo selectInfo = new ProjectionSelectInfo(ProjectionQuery.fromTo(Customer.class, projectionClass), criteriaBuilder, from);
+        return ProjectionConstructorSelection.arguments(projectionClass, metadata.fields(), selectInfo.getSelections(), criteriaBuilder);
+    }
+
+    @Projection(of = Customer.class)
+    record CustomerAgeText(@ProjectionField("age") String age) {}
+
+    @Projection(of = Customer.class)
+    record CustomerWithPrimitive(@ProjectionField String name, int notProjected) {}
+}
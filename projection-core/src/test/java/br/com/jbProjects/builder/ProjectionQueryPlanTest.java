@@ -0,0 +1,118 @@
+package br.com.jbProjects.builder;
+
+import br.com.jbProjects.config.testModel.customer.domain.Customer;
+import br.com.jbProjects.config.testModel.customer.projections.CustomerAutoCompleteRecord;
+import br.com.jbProjects.processor.filter.ProjectionFilter;
+import br.com.jbProjects.processor.filter.ProjectionFilters;
+import br.com.jbProjects.processor.filter.ProjectionParameter;
+import br.com.jbProjects.processor.order.OrderDirection;
+import br.com.jbProjects.processor.query.ProjectionQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+class ProjectionQueryPlanTest {
+
+    private static final Object FACTORY = new Object();
+
+    @Test
+    void of_sameShapeWithDifferentValues() {
+        ProjectionQueryPlan<Customer, CustomerAutoCompleteRecord> first = ProjectionQueryPlan.of(query("John", 30), FACTORY, "projection");
+        ProjectionQueryPlan<Customer, CustomerAutoCompleteRecord> second = ProjectionQueryPlan.of(query("Mary", 45), FACTORY, "projection");
+
+        Assertions.assertNotNull(first);
+        Assertions.assertEquals(first.key(), second.key());
+        Assertions.assertEquals(List.of("John", 30), first.values());
+        Assertions.assertEquals(List.of("Mary", 45), second.values());
+    }
+
+    @Test
+    void of_replacesValuesWithParameters() {
+        ProjectionQueryPlan<Customer, CustomerAutoCompleteRecord> plan = ProjectionQueryPlan.of(query("John", 30), FACTORY, "projection");
+
+        List<ProjectionFilter> filters = plan.parameterizedQuery().getFilters().stream()
+                .map(ProjectionFilter.class::cast)
+                .toList();
+
+        Assertions.assertEquals(new ProjectionParameter("projectionParameter0"), filters.get(0).value());
+        Assertions.assertEquals(new ProjectionParameter("projectionParameter1"), filters.get(1).value());
+        Assertions.assertEquals(1, plan.parameterizedQuery().getOrders().size());
+    }
+
+    @Test
+    void of_differentShapes() {
+        ProjectionQueryPlan<Customer, CustomerAutoCompleteRecord> plan = ProjectionQueryPlan.of(query("John", 30), FACTORY, "projection");
+
+        Assertions.assertNotEquals(plan.key(), ProjectionQueryPlan.of(query("John", 30), FACTORY, "tuple").key());
+        Assertions.assertNotEquals(plan.key(), ProjectionQueryPlan.of(query("John", 30), new Object(), "projection").key());
+        Assertions.assertNotEquals(plan.key(), ProjectionQueryPlan.of(query("John", 30).paging(0, 10), FACTORY, "projection").key());
+        Assertions.assertNotEquals(plan.key(), ProjectionQueryPlan.of(query("John", 30).distinct(), FACTORY, "projection").key());
+
+        ProjectionQuery<Customer, CustomerAutoCompleteRecord> otherOperator = ProjectionQuery
+                .fromTo(Customer.class, CustomerAutoCompleteRecord.class)
+                .filter(ProjectionFilters.notEqual("name", "John"), ProjectionFilters.greaterThan("age", 30))
+                .order("name", OrderDirection.ASC);
+        Assertions.assertNotEquals(plan.key(), ProjectionQueryPlan.of(otherOperator, FACTORY, "projection").key());
+    }
+
+    @Test
+    void of_compoundFilters() {
+        ProjectionQuery<Customer, CustomerAutoCompleteRecord> query = ProjectionQuery
+                .fromTo(Customer.class, CustomerAutoCompleteRecord.class)
+                .filter(ProjectionFilters.or(
+                        ProjectionFilters.equal("name", "John"),
+                        ProjectionFilters.in("age", List.of(30, 45))
+                ));
+
+        ProjectionQueryPlan<Customer, CustomerAutoCompleteRecord> plan = ProjectionQueryPlan.of(query, FACTORY, "projection");
+
+        Assertions.assertNotNull(plan);
+        Assertions.assertEquals(List.of("John", List.of(30, 45)), plan.values());
+
+        ProjectionQuery<Customer, CustomerAutoCompleteRecord> andQuery = ProjectionQuery
+                .fromTo(Customer.class, CustomerAutoCompleteRecord.class)
+                .filter(ProjectionFilters.and(
+                        ProjectionFilters.equal("name", "John"),
+                        ProjectionFilters.in("age", List.of(30, 45))
+                ));
+        Assertions.assertNotEquals(plan.key(), ProjectionQueryPlan.of(andQuery, FACTORY, "projection").key());
+    }
+
+    @Test
+    void of_notCacheable() {
+        Assertions.assertNull(ProjectionQueryPlan.of(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class)
+                        .specification((cb, query, root, pathResolver) -> cb.conjunction()),
+                FACTORY, "projection"
+        ));
+
+        Assertions.assertNull(ProjectionQueryPlan.of(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class)
+                        .filter(ProjectionFilters.between("age", 18, 65)),
+                FACTORY, "projection"
+        ));
+
+        Assertions.assertNull(ProjectionQueryPlan.of(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class)
+                        .filter(ProjectionFilters.equal("name", null)),
+                FACTORY, "projection"
+        ));
+
+        Assertions.assertNull(ProjectionQueryPlan.of(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class)
+                        .filter(ProjectionFilters.in("age", List.of())),
+                FACTORY, "projection"
+        ));
+    }
+
+    private ProjectionQuery<Customer, CustomerAutoCompleteRecord> query(String name, int age) {
+        return ProjectionQuery
+                .fromTo(Customer.class, CustomerAutoCompleteRecord.class)
+                .filter(ProjectionFilters.equal("name", name), ProjectionFilters.greaterThanOrEqual("age", age))
+                .order("name", OrderDirection.ASC);
+    }
+}
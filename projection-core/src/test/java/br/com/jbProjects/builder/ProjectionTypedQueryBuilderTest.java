@@ -0,0 +1,385 @@
+package br.com.jbProjects.builder;
+
+import br.com.jbProjects.annotations.Projection;
+import br.com.jbProjects.annotations.ProjectionField;
+import br.com.jbProjects.config.helper.BaseJpaTest;
+import br.com.jbProjects.config.testModel.customer.domain.Customer;
+import br.com.jbProjects.config.testModel.customer.projections.CustomerAutoCompleteClass;
+import br.com.jbProjects.config.testModel.customer.projections.CustomerAutoCompleteRecord;
+import br.com.jbProjects.config.testModel.customer.projections.CustomerAvgAge;
+import br.com.jbProjects.mapper.ProjectionStringDictionary;
+import br.com.jbProjects.processor.filter.ProjectionFilters;
+import br.com.jbProjects.processor.filter.ProjectionInListPadding;
+import br.com.jbProjects.processor.joinResolver.PathResolver;
+import br.com.jbProjects.processor.query.PreparedProjectionQuery;
+import br.com.jbProjects.processor.query.ProjectionQuery;
+import br.com.jbProjects.processor.selectOperator.ProjectionSelectOperatorProvider;
+import br.com.jbProjects.processor.selectOperator.handler.AvgHandler;
+import br.com.jbProjects.processor.selectOperator.handler.CountHandler;
+import br.com.jbProjects.processor.selectOperator.handler.ProjectionSelectOperatorHandler;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+class ProjectionTypedQueryBuilderTest extends BaseJpaTest {
+
+    private final ProjectionTypedQueryBuilder builder = new ProjectionTypedQueryBuilder();
+    private Customer customer;
+
+    @Override
+    protected void onBeforeAll() {
+        customer = new Customer();
+        customer.setName("John Doe");
+        customer.setEmail("john.doe@example.com");
+        customer.setAge(30);
+        persist(customer);
+
+        if(!ProjectionSelectOperatorProvider.getInstance().availableOperators().contains(UpperObjectHandler.class.getName())){
+            ProjectionSelectOperatorProvider.getInstance().register(new UpperObjectHandler());
+        }
+    }
+
+    @Override
+    protected void onAfterAll() {
+        remove(customer);
+    }
+
+    @Test
+    void buildRows() {
+        List<Object[]> rows = builder
+                .buildRows(ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class), entityManager)
+                .getResultList();
+
+        Assertions.assertEquals(1, rows.size());
+        Assertions.assertArrayEquals(new Object[]{customer.getId(), "John Doe", "john.doe@example.com"}, rows.get(0));
+    }
+
+    @Test
+    void buildRows_withSingleSelection() {
+        List<Object[]> rows = builder
+                .buildRows(ProjectionQuery.fromTo(Customer.class, CustomerAvgAge.class), entityManager)
+                .getResultList();
+
+        Assertions.assertEquals(1, rows.size());
+        Assertions.assertArrayEquals(new Object[]{30.0}, rows.get(0));
+    }
+
+    @Test
+    void buildRowsWithCount() {
+        List<Object[]> rows = builder
+                .buildRowsWithCount(ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class).paging(0, 10), entityManager)
+                .getResultList();
+
+        Assertions.assertEquals(1, rows.size());
+        Assertions.assertArrayEquals(new Object[]{customer.getId(), "John Doe", "john.doe@example.com", 1L}, rows.get(0));
+    }
+
+    @Test
+    void supportsWindowCount() {
+        Assertions.assertTrue(builder.supportsWindowCount(ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class), entityManager));
+        Assertions.assertFalse(builder.supportsWindowCount(ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class).distinct(), entityManager));
+        Assertions.assertFalse(builder.supportsWindowCount(ProjectionQuery.fromTo(Customer.class, CustomerAvgAge.class), entityManager));
+    }
+
+    @Test
+    void buildProjection() {
+        List<CustomerAutoCompleteRecord> result = builder
+                .buildProjection(ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class), entityManager)
+                .getResultList();
+
+        Assertions.assertEquals(
+                List.of(new CustomerAutoCompleteRecord(customer.getId(), "John Doe", "john.doe@example.com", null)),
+                result
+        );
+    }
+
+    @Test
+    void buildProjection_withSingleSelection() {
+        List<CustomerAvgAge> result = builder
+                .buildProjection(ProjectionQuery.fromTo(Customer.class, CustomerAvgAge.class), entityManager)
+                .getResultList();
+
+        Assertions.assertEquals(1, result.size());
+        Assertions.assertEquals(30.0, result.get(0).avgAge());
+    }
+
+    @Test
+    void buildProjection_withClass() {
+        List<CustomerAutoCompleteClass> result = builder
+                .buildProjection(ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteClass.class), entityManager)
+                .getResultList();
+
+        Assertions.assertEquals(1, result.size());
+        Assertions.assertEquals(customer.getId(), result.get(0).getId());
+        Assertions.assertEquals("john.doe@example.com", result.get(0).getCustomerEmail());
+    }
+
+    @Test
+    void buildProjection_withConstructorSelectionFallback() {
+        List<CustomerUpperName> result = builder
+                .buildProjection(ProjectionQuery.fromTo(Customer.class, CustomerUpperName.class), entityManager)
+                .getResultList();
+
+        Assertions.assertEquals(List.of(new CustomerUpperName("JOHN DOE")), result);
+        Assertions.assertFalse(ProjectionConstructorSelection.isSupported(CustomerUpperName.class));
+    }
+
+    @Test
+    void buildProjection_withConvertedValues() {
+        List<CustomerCount> result = builder
+                .buildProjection(ProjectionQuery.fromTo(Customer.class, CustomerCount.class), entityManager)
+                .getResultList();
+
+        Assertions.assertEquals(List.of(new CustomerCount(1, new BigDecimal("30.0"))), result);
+    }
+
+    @Test
+    void buildProjection_reusesCachedPlan() {
+        ProjectionTypedQueryBuilder cachedBuilder = new ProjectionTypedQueryBuilder(new ProjectionQueryPlanCache());
+
+        List<CustomerAutoCompleteRecord> found = cachedBuilder
+                .buildProjection(ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class).filter(ProjectionFilters.equal("name", "John Doe")), entityManager)
+                .getResultList();
+        List<CustomerAutoCompleteRecord> notFound = cachedBuilder
+                .buildProjection(ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class).filter(ProjectionFilters.equal("name", "Mary Doe")), entityManager)
+                .getResultList();
+
+        Assertions.assertEquals(1, found.size());
+        Assertions.assertTrue(notFound.isEmpty());
+        Assertions.assertEquals(1, cachedBuilder.getPlanCache().getMisses());
+        Assertions.assertEquals(1, cachedBuilder.getPlanCache().getHits());
+        Assertions.assertEquals(1, cachedBuilder.getPlanCache().size());
+    }
+
+    @Test
+    void buildProjection_reusesCachedPlanWithInValues() {
+        ProjectionTypedQueryBuilder cachedBuilder = new ProjectionTypedQueryBuilder(new ProjectionQueryPlanCache());
+
+        List<CustomerAutoCompleteRecord> found = cachedBuilder
+                .buildProjection(ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class).filter(ProjectionFilters.in("age", List.of(20, 30))), entityManager)
+                .getResultList();
+        List<CustomerAutoCompleteRecord> notFound = cachedBuilder
+                .buildProjection(ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class).filter(ProjectionFilters.in("age", List.of(40, 50, 60))), entityManager)
+                .getResultList();
+
+        Assertions.assertEquals(1, found.size());
+        Assertions.assertTrue(notFound.isEmpty());
+        Assertions.assertEquals(1, cachedBuilder.getPlanCache().getHits());
+    }
+
+    @Test
+    void buildCountQuery_reusesCachedPlan() {
+        ProjectionTypedQueryBuilder cachedBuilder = new ProjectionTypedQueryBuilder(new ProjectionQueryPlanCache());
+
+        Long found = cachedBuilder
+                .buildCountQuery(ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class).filter(ProjectionFilters.greaterThan("age", 20)), entityManager)
+                .getSingleResult();
+        Long notFound = cachedBuilder
+                .buildCountQuery(ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class).filter(ProjectionFilters.greaterThan("age", 40)), entityManager)
+                .getSingleResult();
+
+        Assertions.assertEquals(1L, found);
+        Assertions.assertEquals(0L, notFound);
+        Assertions.assertEquals(1, cachedBuilder.getPlanCache().getHits());
+    }
+
+    @Test
+    void buildProjection_bypassesPlanCache() {
+        ProjectionTypedQueryBuilder cachedBuilder = new ProjectionTypedQueryBuilder(new ProjectionQueryPlanCache());
+
+        List<CustomerAutoCompleteRecord> result = cachedBuilder
+                .buildProjection(ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class).filter(ProjectionFilters.between("age", 18, 65)), entityManager)
+                .getResultList();
+
+        Assertions.assertEquals(1, result.size());
+        Assertions.assertEquals(1, cachedBuilder.getPlanCache().getBypasses());
+        Assertions.assertEquals(0, cachedBuilder.getPlanCache().size());
+    }
+
+    @Test
+    void buildProjection_withoutPlanCache() {
+        ProjectionTypedQueryBuilder uncachedBuilder = new ProjectionTypedQueryBuilder(null);
+
+        List<CustomerAutoCompleteRecord> result = uncachedBuilder
+                .buildProjection(ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class).filter(ProjectionFilters.equal("name", "John Doe")), entityManager)
+                .getResultList();
+
+        Assertions.assertEquals(1, result.size());
+        Assertions.assertNull(uncachedBuilder.getPlanCache());
+    }
+
+    @Test
+    void buildProjection_withComparisonOfText_withAndWithoutPlanCache() {
+        ProjectionQuery<Customer, CustomerAutoCompleteRecord> query = ProjectionQuery
+                .fromTo(Customer.class, CustomerAutoCompleteRecord.class)
+                .filter(ProjectionFilters.greaterThan("name", "John"))
+                .filter(ProjectionFilters.greaterThanOrEqual("name", "John Doe"))
+                .filter(ProjectionFilters.lessThan("name", "John E"))
+                .filter(ProjectionFilters.lessThanOrEqual("name", "John Doe"));
+
+        for (ProjectionTypedQueryBuilder queryBuilder : List.of(new ProjectionTypedQueryBuilder(new ProjectionQueryPlanCache()), new ProjectionTypedQueryBuilder(null))) {
+            Assertions.assertEquals(1, queryBuilder.buildProjection(query, entityManager).getResultList().size());
+        }
+
+        ProjectionQuery<Customer, CustomerAutoCompleteRecord> specificationQuery = query.copy()
+                .specification((criteriaBuilder, criteriaQuery, root, pathResolver) -> criteriaBuilder.isNotNull(root.get("id")));
+        Assertions.assertEquals(1, builder.buildProjection(specificationQuery, entityManager).getResultList().size());
+    }
+
+    @Test
+    void buildProjection_withInListPadding() {
+        ProjectionTypedQueryBuilder paddingBuilder = new ProjectionTypedQueryBuilder(new ProjectionQueryPlanCache(), ProjectionInListPadding.of());
+
+        TypedQuery<CustomerAutoCompleteRecord> typedQuery = paddingBuilder.buildProjection(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class)
+                        .filter(ProjectionFilters.in("age", List.of(10, 20, 30)))
+                        .filter(ProjectionFilters.notIn("name", ProjectionFilters.param("names")))
+                        .parameter("names", List.of("Mary", "Ann", "Joe", "Bob", "Zed")),
+                entityManager
+        );
+
+        Assertions.assertEquals(List.of(10, 20, 30, 30), typedQuery.getParameterValue("projectionParameter0"));
+        Assertions.assertEquals(List.of("Mary", "Ann", "Joe", "Bob", "Zed", "Zed", "Zed", "Zed"), typedQuery.getParameterValue("names"));
+        Assertions.assertEquals(1, typedQuery.getResultList().size());
+    }
+
+    @Test
+    void buildProjection_withInListPadding_onlyPadsInListParameters() {
+        ProjectionTypedQueryBuilder paddingBuilder = new ProjectionTypedQueryBuilder(new ProjectionQueryPlanCache(), ProjectionInListPadding.of());
+
+        TypedQuery<CustomerAutoCompleteRecord> typedQuery = paddingBuilder.buildProjection(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class)
+                        .filter(ProjectionFilters.or(
+                                ProjectionFilters.in("age", ProjectionFilters.param("ages")),
+                                ProjectionFilters.any("name", ProjectionFilters.param("names"))
+                        ))
+                        .parameter("ages", List.of(10, 20, 30))
+                        .parameter("names", List.of("Mary", "Ann", "Joe")),
+                entityManager
+        );
+
+        Assertions.assertEquals(List.of(10, 20, 30, 30), typedQuery.getParameterValue("ages"));
+        Assertions.assertArrayEquals(new String[]{"Mary", "Ann", "Joe"}, (String[]) typedQuery.getParameterValue("names"));
+        Assertions.assertEquals(1, typedQuery.getResultList().size());
+    }
+
+    @Test
+    void buildProjection_preparedQuery() {
+        ProjectionQueryPlanCache planCache = new ProjectionQueryPlanCache();
+        ProjectionTypedQueryBuilder paddingBuilder = new ProjectionTypedQueryBuilder(planCache, ProjectionInListPadding.of());
+        PreparedProjectionQuery<Customer, CustomerAutoCompleteRecord> prepared = PreparedProjectionQuery.of(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class)
+                        .filter(ProjectionFilters.in("age", ProjectionFilters.param("ages")))
+                        .filter(ProjectionFilters.notEqual("name", "none"))
+        );
+
+        TypedQuery<CustomerAutoCompleteRecord> found = paddingBuilder.buildProjection(prepared, Map.of("ages", List.of(10, 20, 30)), entityManager, new ProjectionStringDictionary());
+        List<CustomerAutoCompleteRecord> notFound = paddingBuilder.buildProjection(prepared, Map.of("ages", List.of(40)), entityManager, new ProjectionStringDictionary()).getResultList();
+
+        Assertions.assertEquals(List.of(10, 20, 30, 30), found.getParameterValue("ages"));
+        Assertions.assertEquals("none", found.getParameterValue("projectionParameter0"));
+        Assertions.assertEquals(1, found.getResultList().size());
+        Assertions.assertTrue(notFound.isEmpty());
+        Assertions.assertEquals(1, planCache.getMisses());
+        Assertions.assertEquals(1, planCache.getHits());
+        Assertions.assertSame(planCache.preparedPlan(prepared, entityManager.getEntityManagerFactory()), planCache.preparedPlan(prepared, entityManager.getEntityManagerFactory()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> paddingBuilder.buildProjection(prepared, Map.of(), entityManager, new ProjectionStringDictionary()));
+    }
+
+    @Test
+    void buildProjection_withInListPadding_withoutPlanCache() {
+        ProjectionTypedQueryBuilder paddingBuilder = new ProjectionTypedQueryBuilder(null, ProjectionInListPadding.of());
+
+        List<CustomerAutoCompleteRecord> result = paddingBuilder.buildProjection(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class)
+                        .filter(ProjectionFilters.or(
+                                ProjectionFilters.in("age", List.of(10, 20, 30)),
+                                ProjectionFilters.in("name", List.of("Mary", "Ann", "Joe"))
+                        )),
+                entityManager
+        ).getResultList();
+
+        Assertions.assertEquals(1, result.size());
+    }
+
+    @Test
+    void buildProjection_withAnyFilter_reusesCachedPlan() {
+        ProjectionTypedQueryBuilder cachedBuilder = new ProjectionTypedQueryBuilder(new ProjectionQueryPlanCache());
+
+        TypedQuery<CustomerAutoCompleteRecord> found = cachedBuilder.buildProjection(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class).filter(ProjectionFilters.any("age", List.of(20, 30))),
+                entityManager
+        );
+        List<CustomerAutoCompleteRecord> notFound = cachedBuilder.buildProjection(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class).filter(ProjectionFilters.any("age", List.of(40, 50, 60))),
+                entityManager
+        ).getResultList();
+
+        Assertions.assertArrayEquals(new Integer[]{20, 30}, (Integer[]) found.getParameterValue("projectionParameter0"));
+        Assertions.assertEquals(1, found.getResultList().size());
+        Assertions.assertTrue(notFound.isEmpty());
+        Assertions.assertEquals(1, cachedBuilder.getPlanCache().getHits());
+    }
+
+    @Test
+    void buildProjection_withAnyFilter_namedParameter() {
+        ProjectionTypedQueryBuilder cachedBuilder = new ProjectionTypedQueryBuilder(new ProjectionQueryPlanCache());
+
+        List<CustomerAutoCompleteRecord> result = cachedBuilder.buildProjection(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class)
+                        .filter(ProjectionFilters.any("name", ProjectionFilters.param("names")))
+                        .parameter("names", List.of("Mary", "John Doe")),
+                entityManager
+        ).getResultList();
+
+        Assertions.assertEquals(1, result.size());
+    }
+
+    @Test
+    void buildProjection_withAnyFilter_withoutPlanCache() {
+        ProjectionTypedQueryBuilder uncachedBuilder = new ProjectionTypedQueryBuilder(null);
+
+        List<CustomerAutoCompleteRecord> result = uncachedBuilder.buildProjection(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class)
+                        .filter(ProjectionFilters.or(
+                                ProjectionFilters.any("age", List.of(10L, 30L)),
+                                ProjectionFilters.any("name", List.of("Mary"))
+                        )),
+                entityManager
+        ).getResultList();
+
+        Assertions.assertEquals(1, result.size());
+    }
+
+    @Projection(of = Customer.class)
+    record CustomerCount(
+            @ProjectionField(value = "id", selectHandler = CountHandler.class) Integer total,
+            @ProjectionField(value = "age", selectHandler = AvgHandler.class) BigDecimal avgAge
+    ) {}
+
+    @Projection(of = Customer.class)
+    record CustomerUpperName(@ProjectionField(value = "name", selectHandler = UpperObjectHandler.class) String name) {}
+
+    public static class UpperObjectHandler implements ProjectionSelectOperatorHandler {
+
+        @Override
+        public boolean aggregate() {
+            return false;
+        }
+
+        @Override
+        public Expression<?> apply(PathResolver pathResolver, CriteriaBuilder cb, Root<?> root, String fieldName) {
+            return cb.function("upper", Object.class, pathResolver.resolve(root, fieldName));
+        }
+    }
+}
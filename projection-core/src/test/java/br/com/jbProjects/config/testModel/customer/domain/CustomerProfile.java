@@ -22,4 +22,8 @@ public class CustomerProfile {
 
     @Column
     private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column
+    private CustomerProfileType type;
 }
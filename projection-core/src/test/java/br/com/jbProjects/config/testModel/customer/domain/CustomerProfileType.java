@@ -0,0 +1,9 @@
+package br.com.jbProjects.config.testModel.customer.domain;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+public enum CustomerProfileType {
+    PERSONAL,
+    BUSINESS
+}
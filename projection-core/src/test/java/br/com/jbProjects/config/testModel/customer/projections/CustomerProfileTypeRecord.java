@@ -0,0 +1,15 @@
+package br.com.jbProjects.config.testModel.customer.projections;
+
+import br.com.jbProjects.annotations.Projection;
+import br.com.jbProjects.annotations.ProjectionField;
+import br.com.jbProjects.config.testModel.customer.domain.CustomerProfile;
+import br.com.jbProjects.config.testModel.customer.domain.CustomerProfileType;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+@Projection(of = CustomerProfile.class)
+public record CustomerProfileTypeRecord(
+        @ProjectionField Long id,
+        @ProjectionField CustomerProfileType type
+) { }
@@ -0,0 +1,15 @@
+package br.com.jbProjects.config.testModel.customer.projections;
+
+import br.com.jbProjects.annotations.Projection;
+import br.com.jbProjects.annotations.ProjectionField;
+import br.com.jbProjects.config.testModel.customer.domain.Customer;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+@Projection(of = Customer.class)
+public record CustomerStateName(
+        @ProjectionField String name,
+        @ProjectionField(value = "mainAddress.city.state.name", deduplicate = true) String state
+) {
+}
@@ -0,0 +1,19 @@
+package br.com.jbProjects.config.testModel.product.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+@Getter
+@Setter
+@Entity
+public class Category extends CodedEntity {
+
+    @Column
+    private String name;
+
+}
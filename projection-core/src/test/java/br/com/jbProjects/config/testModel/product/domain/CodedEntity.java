@@ -0,0 +1,22 @@
+package br.com.jbProjects.config.testModel.product.domain;
+
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+@Getter
+@Setter
+@MappedSuperclass
+public abstract class CodedEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long code;
+
+}
@@ -0,0 +1,26 @@
+package br.com.jbProjects.config.testModel.product.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+@Getter
+@Setter
+@Entity
+public class Product {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column
+    private String name;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn
+    private Category category;
+
+}
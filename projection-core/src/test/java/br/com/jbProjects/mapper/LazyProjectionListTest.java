@@ -0,0 +1,56 @@
+package br.com.jbProjects.mapper;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+class LazyProjectionListTest {
+
+    private final List<Object[]> rows = List.of(new Object[]{"first"}, new Object[]{"second"}, new Object[]{"third"});
+
+    @Test
+    void get_mapsOnlyAccessedRows() {
+        AtomicInteger mapped = new AtomicInteger();
+        List<String> list = new LazyProjectionList<>(rows, row -> {
+            mapped.incrementAndGet();
+            return (String) row[0];
+        }, false);
+
+        Assertions.assertEquals(3, list.size());
+        Assertions.assertFalse(list.isEmpty());
+        Assertions.assertEquals(0, mapped.get());
+
+        Assertions.assertEquals("second", list.get(1));
+        Assertions.assertEquals("second", list.get(1));
+        Assertions.assertEquals(2, mapped.get());
+    }
+
+    @Test
+    void get_withCache() {
+        AtomicInteger mapped = new AtomicInteger();
+        List<StringBuilder> list = new LazyProjectionList<>(rows, row -> {
+            mapped.incrementAndGet();
+            return new StringBuilder((String) row[0]);
+        }, true);
+
+        Assertions.assertSame(list.get(0), list.get(0));
+        Assertions.assertEquals(1, mapped.get());
+
+        Assertions.assertEquals(List.of("first", "second", "third"), new ArrayList<>(list).stream().map(StringBuilder::toString).toList());
+        Assertions.assertEquals(3, mapped.get());
+    }
+
+    @Test
+    void unmodifiable() {
+        List<String> list = new LazyProjectionList<>(rows, row -> (String) row[0], true);
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> list.add("fourth"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.jbProjects.mapper;
+
+import br.com.jbProjects.config.testModel.customer.projections.CustomerAutoCompleteClass;
+import br.com.jbProjects.config.testModel.customer.projections.CustomerAutoCompleteRecord;
+import br.com.jbProjects.metadata.cache.ProjectionMetadataCache;
+import br.com.jbProjects.metadata.model.ProjectionMetadata;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+class ProjectionRowMapperFactoryTest {
+
+    @Test
+    void of_withClass() {
+        ProjectionMetadata metadata = ProjectionMetadataCache.get(CustomerAutoCompleteClass.class);
+        ProjectionRowMapper<CustomerAutoCompleteClass> rowMapper = ProjectionRowMapperFactory.of(CustomerAutoCompleteClass.class, metadata.fields());
+
+        CustomerAutoCompleteClass result = rowMapper.map(new Object[]{1L, "Customer Name", "customer@mail.com"});
+        Assertions.assertEquals(1L, result.getId());
+        Assertions.assertEquals("Customer Name", result.getName());
+        Assertions.assertEquals("customer@mail.com", result.getCustomerEmail());
+        Assertions.assertNull(result.getNonProjectedField());
+    }
+
+    @Test
+    void of_withRecord() {
+        ProjectionMetadata metadata = ProjectionMetadataCache.get(CustomerAutoCompleteRecord.class);
+        ProjectionRowMapper<CustomerAutoCompleteRecord> rowMapper = ProjectionRowMapperFactory.of(CustomerAutoCompleteRecord.class, metadata.fields());
+
+        CustomerAutoCompleteRecord result = rowMapper.map(new Object[]{1L, "Customer Name", "customer@mail.com"});
+        Assertions.assertEquals(1L, result.id());
+        Assertions.assertEquals("Customer Name", result.name());
+        Assertions.assertEquals("customer@mail.com", result.customerEmail());
+        Assertions.assertNull(result.notProjectedField());
+    }
+
+    @Test
+    void of_metadataRowMapperIsCached() {
+        ProjectionMetadata metadata = ProjectionMetadataCache.get(CustomerAutoCompleteRecord.class);
+        Assertions.assertSame(metadata.rowMapper(), ProjectionMetadataCache.get(CustomerAutoCompleteRecord.class).rowMapper());
+    }
+
+    @Test
+    void of_withoutNoArgsConstructor() {
+        Assertions.assertThrowsExactly(IllegalArgumentException.class, () ->
+                ProjectionRowMapperFactory.of(WithoutNoArgsConstructor.class, List.of()));
+    }
+
+    static class WithoutNoArgsConstructor {
+        WithoutNoArgsConstructor(String value) {}
+    }
+}
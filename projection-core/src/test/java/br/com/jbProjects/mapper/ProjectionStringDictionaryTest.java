@@ -0,0 +1,69 @@
+package br.com.jbProjects.mapper;
+
+import br.com.jbProjects.metadata.model.FieldMetadata;
+import br.com.jbProjects.processor.selectOperator.handler.DefaultSelectOperatorHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+class ProjectionStringDictionaryTest {
+
+    private final List<FieldMetadata> fields = List.of(
+            new FieldMetadata("id", "id", DefaultSelectOperatorHandler.class),
+            new FieldMetadata("city", "address.city.name", DefaultSelectOperatorHandler.class, true),
+            new FieldMetadata("state", "address.city.state.name", DefaultSelectOperatorHandler.class, true)
+    );
+
+    @Test
+    void positions() {
+        Assertions.assertArrayEquals(new int[]{1, 2}, ProjectionStringDictionary.positions(fields, false));
+        Assertions.assertArrayEquals(new int[]{0, 1, 2}, ProjectionStringDictionary.positions(fields, true));
+    }
+
+    @Test
+    void canonicalize() {
+        ProjectionStringDictionary dictionary = new ProjectionStringDictionary();
+        String first = new String("Goiás");
+        String second = new String("Goiás");
+
+        Assertions.assertSame(first, dictionary.canonicalize(first));
+        Assertions.assertSame(first, dictionary.canonicalize(second));
+        Assertions.assertEquals(2, dictionary.lookups());
+        Assertions.assertEquals(1, dictionary.deduplicated());
+        Assertions.assertEquals(1, dictionary.size());
+    }
+
+    @Test
+    void canonicalize_row() {
+        ProjectionStringDictionary dictionary = new ProjectionStringDictionary();
+        int[] positions = ProjectionStringDictionary.positions(fields, false);
+
+        Object[] first = dictionary.canonicalize(new Object[]{new String("1"), new String("Goiânia"), null}, positions);
+        Object[] second = dictionary.canonicalize(new Object[]{new String("1"), new String("Goiânia"), 10L}, positions);
+
+        Assertions.assertNotSame(first[0], second[0]);
+        Assertions.assertSame(first[1], second[1]);
+        Assertions.assertNull(first[2]);
+        Assertions.assertEquals(10L, second[2]);
+        Assertions.assertEquals(2, dictionary.lookups());
+    }
+
+    @Test
+    void withDictionary() {
+        ProjectionRowMapper<Object[]> rowMapper = row -> row;
+        ProjectionStringDictionary dictionary = new ProjectionStringDictionary();
+
+        Assertions.assertSame(rowMapper, ProjectionStringDictionary.withDictionary(rowMapper, dictionary, new int[0]));
+
+        ProjectionRowMapper<Object[]> deduplicating = ProjectionStringDictionary.withDictionary(rowMapper, dictionary, new int[]{0});
+        Object[] first = deduplicating.map(new Object[]{new String("Goiás")});
+        Object[] second = deduplicating.map(new Object[]{new String("Goiás")});
+
+        Assertions.assertSame(first[0], second[0]);
+        Assertions.assertEquals(1, dictionary.deduplicated());
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.jbProjects.mapper;
+
+import br.com.jbProjects.annotations.Projection;
+import br.com.jbProjects.annotations.ProjectionField;
+import br.com.jbProjects.config.testModel.customer.domain.Customer;
+import br.com.jbProjects.metadata.cache.ProjectionMetadataCache;
+import br.com.jbProjects.metadata.model.ProjectionMetadata;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.*;
+import java.util.List;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+class ProjectionValueConvertersTest {
+
+    @Test
+    void of_withNumbers() {
+        Assertions.assertEquals(10, ProjectionValueConverters.of(Integer.class).convert(10L));
+        Assertions.assertEquals(10, ProjectionValueConverters.of(int.class).convert(10L));
+        Assertions.assertEquals(10L, ProjectionValueConverters.of(Long.class).convert(10));
+        Assertions.assertEquals((short) 10, ProjectionValueConverters.of(Short.class).convert(10L));
+        Assertions.assertEquals((byte) 10, ProjectionValueConverters.of(byte.class).convert(10));
+        Assertions.assertEquals(2.5f, ProjectionValueConverters.of(Float.class).convert(2.5d));
+        Assertions.assertEquals(10.0d, ProjectionValueConverters.of(Double.class).convert(10));
+        Assertions.assertEquals(new BigDecimal("2.5"), ProjectionValueConverters.of(BigDecimal.class).convert(2.5d));
+        Assertions.assertEquals(BigDecimal.valueOf(10), ProjectionValueConverters.of(BigDecimal.class).convert(10L));
+        Assertions.assertEquals(BigInteger.TEN, ProjectionValueConverters.of(BigInteger.class).convert(new BigDecimal("10.0")));
+        Assertions.assertEquals(3, ProjectionValueConverters.of(Integer.class).convert(3.0d));
+        Assertions.assertEquals(7L, ProjectionValueConverters.of(long.class).convert(new BigDecimal("7.00")));
+    }
+
+    @Test
+    void of_withNumbersNotFittingTheType() {
+        Assertions.assertEquals(3_000_000_000L, ProjectionValueConverters.of(Integer.class).convert(3_000_000_000L));
+        Assertions.assertEquals(70_000, ProjectionValueConverters.of(short.class).convert(70_000));
+        Assertions.assertEquals(300, ProjectionValueConverters.of(Byte.class).convert(300));
+        Assertions.assertEquals(2.5d, ProjectionValueConverters.of(Integer.class).convert(2.5d));
+        Assertions.assertEquals(Double.NaN, ProjectionValueConverters.of(Long.class).convert(Double.NaN));
+        Assertions.assertEquals(new BigDecimal("10.7"), ProjectionValueConverters.of(BigInteger.class).convert(new BigDecimal("10.7")));
+        Assertions.assertEquals(new BigInteger("99999999999999999999"), ProjectionValueConverters.of(Long.class).convert(new BigInteger("99999999999999999999")));
+    }
+
+    @Test
+    void of_withSameType() {
+        Long value = 10L;
+        Assertions.assertSame(value, ProjectionValueConverters.of(Long.class).convert(value));
+        Assertions.assertNull(ProjectionValueConverters.of(Long.class).convert(null));
+        Assertions.assertEquals("text", ProjectionValueConverters.of(Long.class).convert("text"));
+    }
+
+    @Test
+    void of_withBoolean() {
+        Assertions.assertEquals(true, ProjectionValueConverters.of(Boolean.class).convert(1));
+        Assertions.assertEquals(false, ProjectionValueConverters.of(boolean.class).convert(0L));
+        Assertions.assertEquals(true, ProjectionValueConverters.of(Boolean.class).convert(new BigDecimal("1.00")));
+        Assertions.assertEquals(4294967296L, ProjectionValueConverters.of(Boolean.class).convert(4294967296L));
+        Assertions.assertEquals(0.5d, ProjectionValueConverters.of(Boolean.class).convert(0.5d));
+        Assertions.assertEquals(2, ProjectionValueConverters.of(Boolean.class).convert(2));
+    }
+
+    @Test
+    void of_withEnum() {
+        ProjectionValueConverter converter = ProjectionValueConverters.of(DayOfWeek.class);
+        Assertions.assertEquals(DayOfWeek.MONDAY, converter.convert("MONDAY"));
+        Assertions.assertEquals(DayOfWeek.TUESDAY, converter.convert(1));
+        Assertions.assertEquals("UNKNOWN", converter.convert("UNKNOWN"));
+        Assertions.assertEquals(10, converter.convert(10));
+        Assertions.assertEquals(DayOfWeek.WEDNESDAY, converter.convert(2.0d));
+        Assertions.assertEquals(1.7d, converter.convert(1.7d));
+        Assertions.assertEquals(4294967297L, converter.convert(4294967297L));
+        Assertions.assertEquals(-1, converter.convert(-1));
+    }
+
+    @Test
+    void of_withTemporal() {
+        LocalDateTime dateTime = LocalDateTime.of(2026, 10, 18, 10, 30);
+        Timestamp timestamp = Timestamp.valueOf(dateTime);
+
+        Assertions.assertEquals(dateTime, ProjectionValueConverters.of(LocalDateTime.class).convert(timestamp));
+        Assertions.assertEquals(dateTime.toLocalDate(), ProjectionValueConverters.of(LocalDate.class).convert(timestamp));
+        Assertions.assertEquals(dateTime.toLocalTime(), ProjectionValueConverters.of(LocalTime.class).convert(timestamp));
+        Assertions.assertEquals(timestamp.toInstant(), ProjectionValueConverters.of(Instant.class).convert(timestamp));
+        Assertions.assertEquals(dateTime.toLocalDate(), ProjectionValueConverters.of(LocalDate.class).convert(java.sql.Date.valueOf(dateTime.toLocalDate())));
+        Assertions.assertEquals(dateTime.toLocalTime(), ProjectionValueConverters.of(LocalTime.class).convert(java.sql.Time.valueOf(dateTime.toLocalTime())));
+    }
+
+    @Test
+    void of_withoutConversion() {
+        Assertions.assertSame(ProjectionValueConverter.IDENTITY, ProjectionValueConverters.of(String.class));
+        Assertions.assertSame(ProjectionValueConverter.IDENTITY, ProjectionValueConverters.of(Object.class));
+    }
+
+    @Test
+    void metadata_rowMapperAppliesConverters() {
+        ProjectionMetadata metadata = ProjectionMetadataCache.get(CustomerTotals.class);
+
+        Assertions.assertEquals(List.of(ProjectionValueConverter.IDENTITY), metadata.converters().subList(0, 1));
+
+        CustomerTotals result = metadata.rowMapper(CustomerTotals.class).map(new Object[]{"John", 3L, 30.5d});
+        Assertions.assertEquals(new CustomerTotals("John", 3, new BigDecimal("30.5")), result);
+    }
+
+    @Projection(of = Customer.class)
+    record CustomerTotals(
+            @ProjectionField String name,
+            @ProjectionField("id") int total,
+            @ProjectionField("age") BigDecimal age
+    ) {}
+}
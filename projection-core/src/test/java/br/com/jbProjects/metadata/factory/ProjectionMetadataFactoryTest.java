@@ -1,15 +1,21 @@
 package br.com.jbProjects.metadata.factory;
 
+import br.com.jbProjects.annotations.Projection;
+import br.com.jbProjects.annotations.ProjectionField;
 import br.com.jbProjects.config.testModel.customer.domain.Customer;
 import br.com.jbProjects.config.testModel.customer.projections.CustomerNameAndCityJoinWithAlias;
 import br.com.jbProjects.metadata.model.FieldMetadata;
 import br.com.jbProjects.metadata.model.JoinMetadata;
 import br.com.jbProjects.metadata.model.ProjectionMetadata;
+import br.com.jbProjects.processor.selectOperator.ProjectionSelectOperatorProvider;
+import br.com.jbProjects.processor.selectOperator.handler.CountHandler;
 import br.com.jbProjects.processor.selectOperator.handler.DefaultSelectOperatorHandler;
 import jakarta.persistence.criteria.JoinType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 /**
  * Created by julio.bueno on 18/02/2026.
  */
@@ -75,4 +81,37 @@ class ProjectionMetadataFactoryTest {
         Assertions.assertEquals(DefaultSelectOperatorHandler.class, fieldMetadata.selectHandler());
     }
 
+    @Test
+    public void ofResolvesSelectHandlers() {
+        ProjectionMetadata metadata = ProjectionMetadataFactory.of(CustomerNameAndCityJoinWithAlias.class);
+
+        metadata.fields().forEach(field ->
+                Assertions.assertSame(ProjectionSelectOperatorProvider.getInstance().get(DefaultSelectOperatorHandler.class), field.handler()));
+        Assertions.assertFalse(metadata.hasAggregate());
+        Assertions.assertTrue(metadata.groupByFields().isEmpty());
+    }
+
+    @Test
+    public void ofWithAggregateFields() {
+        ProjectionMetadata metadata = ProjectionMetadataFactory.of(CustomerCountByName.class);
+
+        Assertions.assertTrue(metadata.hasAggregate());
+        Assertions.assertInstanceOf(CountHandler.class, metadata.fields().get(1).handler());
+        Assertions.assertTrue(metadata.fields().get(1).aggregate());
+        Assertions.assertEquals(List.of("name"), metadata.groupByFields().stream().map(FieldMetadata::value).toList());
+    }
+
+    @Test
+    public void fieldAggregate_withoutHandler() {
+        FieldMetadata field = new FieldMetadata("name", "name", DefaultSelectOperatorHandler.class);
+
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, field::aggregate);
+        Assertions.assertEquals("Select handler not resolved for field: name", exception.getMessage());
+    }
+
+    @Projection(of = Customer.class)
+    record CustomerCountByName(
+            @ProjectionField String name,
+            @ProjectionField(value = "id", selectHandler = CountHandler.class) Long total
+    ) {}
 }
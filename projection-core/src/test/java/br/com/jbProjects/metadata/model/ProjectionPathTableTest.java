@@ -0,0 +1,119 @@
+package br.com.jbProjects.metadata.model;
+
+import br.com.jbProjects.config.testModel.customer.projections.CustomerNameAndCityAttributes;
+import br.com.jbProjects.config.testModel.customer.projections.CustomerNameAndCityJoinWithAlias;
+import br.com.jbProjects.metadata.cache.ProjectionMetadataCache;
+import jakarta.persistence.criteria.JoinType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+class ProjectionPathTableTest {
+
+    @Test
+    void of_precomputesDeclaredPaths() {
+        ProjectionPathTable paths = ProjectionMetadataCache.get(CustomerNameAndCityJoinWithAlias.class).paths();
+
+        assertTrue(paths.contains("name"));
+        assertTrue(paths.contains("mainAddress.city.name"));
+        assertTrue(paths.contains("mainAddress.city"));
+        assertTrue(paths.contains("mainAddress.city.state"));
+        assertTrue(paths.contains("address"));
+        assertTrue(paths.contains("cityState"));
+        assertFalse(paths.contains("email"));
+    }
+
+    @Test
+    void resolve_declaredPath() {
+        ProjectionPathTable paths = ProjectionMetadataCache.get(CustomerNameAndCityJoinWithAlias.class).paths();
+
+        ResolvedPath resolved = paths.resolve("cityState");
+
+        assertEquals("mainAddress.city.state", resolved.path());
+        assertArrayEquals(new String[]{"mainAddress", "city", "state"}, resolved.segments());
+        assertSame(resolved, paths.resolve("cityState"));
+    }
+
+    @Test
+    void resolve_unknownPath() {
+        ProjectionPathTable paths = ProjectionMetadataCache.get(CustomerNameAndCityJoinWithAlias.class).paths();
+
+        ResolvedPath resolved = paths.resolve("cityState.country.name");
+
+        assertEquals("mainAddress.city.state.country.name", resolved.path());
+        assertArrayEquals(new String[]{"mainAddress", "city", "state", "country", "name"}, resolved.segments());
+        assertFalse(paths.contains("cityState.country.name"));
+    }
+
+    @Test
+    void resolve_joinTypes() {
+        ProjectionPathTable paths = ProjectionMetadataCache.get(CustomerNameAndCityAttributes.class).paths();
+
+        assertEquals(JoinType.LEFT, paths.resolve("secondaryAddress.city.name").joinType());
+        assertEquals(JoinType.INNER, paths.resolve("mainAddress.city.name").joinType());
+        assertEquals(JoinType.INNER, paths.resolve("name").joinType());
+    }
+
+    @Test
+    void resolvedPath_lastJoinDeclared() {
+        Map<String, JoinType> joinTypes = Map.of("address", JoinType.LEFT, "address.city", JoinType.INNER);
+
+        ResolvedPath cityId = ResolvedPath.of("address.city.id", joinTypes);
+        ResolvedPath stateId = ResolvedPath.of("address.city.state.id", joinTypes);
+        ResolvedPath name = ResolvedPath.of("name", joinTypes);
+
+        assertTrue(cityId.lastJoinDeclared());
+        assertEquals(JoinType.INNER, cityId.joinType());
+        assertFalse(stateId.lastJoinDeclared());
+        assertEquals(JoinType.INNER, stateId.joinType());
+        assertFalse(name.lastJoinDeclared());
+        assertTrue(name.isSimple());
+    }
+
+    @Test
+    void of_withoutJoins() {
+        ProjectionPathTable paths = ProjectionPathTable.of(
+                List.of(),
+                List.of(new FieldMetadata("name", "name", null)),
+                Map.of()
+        );
+
+        assertTrue(paths.joinTypes().isEmpty());
+        assertArrayEquals(new String[]{"name"}, paths.resolve("name").segments());
+    }
+
+    @Test
+    void joinPlan_sharesJoinsBetweenPaths() {
+        ProjectionPathTable paths = ProjectionMetadataCache.get(CustomerNameAndCityAttributes.class).paths();
+        JoinPlan plan = paths.joinPlan();
+
+        int mainAddress = plan.child(JoinPlan.ROOT, "mainAddress");
+        int mainCity = plan.child(mainAddress, "city");
+        int mainState = plan.child(mainCity, "state");
+        int secondaryAddress = plan.child(JoinPlan.ROOT, "secondaryAddress");
+
+        assertArrayEquals(new int[]{mainAddress, mainCity}, paths.resolve("mainAddress.city.name").joinNodes());
+        assertArrayEquals(new int[]{mainAddress, mainCity, mainState}, paths.resolve("mainAddress.city.state.name").joinNodes());
+        assertEquals(JoinPlan.ROOT, plan.parent(mainAddress));
+        assertEquals(mainCity, plan.parent(mainState));
+        assertEquals("state", plan.attribute(mainState));
+        assertNotEquals(mainCity, plan.child(secondaryAddress, "city"));
+        assertEquals(6, plan.size());
+    }
+
+    @Test
+    void joinPlan_unknownJoin() {
+        JoinPlan plan = ProjectionMetadataCache.get(CustomerNameAndCityAttributes.class).paths().joinPlan();
+
+        assertEquals(-1, plan.child(JoinPlan.ROOT, "unknown"));
+        assertEquals(-1, plan.child(plan.size(), "city"));
+        assertFalse(ProjectionMetadataCache.get(CustomerNameAndCityAttributes.class).paths().resolve("mainAddress.street").isPlanned());
+        assertTrue(ProjectionMetadataCache.get(CustomerNameAndCityAttributes.class).paths().resolve("name").isPlanned());
+    }
+}
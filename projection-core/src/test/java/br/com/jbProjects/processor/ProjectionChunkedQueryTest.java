@@ -0,0 +1,174 @@
+package br.com.jbProjects.processor;
+
+import br.com.jbProjects.config.helper.JPAHelper;
+import br.com.jbProjects.config.testModel.customer.domain.Customer;
+import br.com.jbProjects.config.testModel.customer.projections.CustomerAutoCompleteClass;
+import br.com.jbProjects.config.testModel.customer.projections.CustomerAvgAge;
+import br.com.jbProjects.processor.filter.ProjectionFilter;
+import br.com.jbProjects.processor.filter.ProjectionFilters;
+import br.com.jbProjects.processor.order.OrderDirection;
+import br.com.jbProjects.processor.query.ProjectionQuery;
+import jakarta.persistence.metamodel.Metamodel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+class ProjectionChunkedQueryTest {
+
+    private final ProjectionInListChunking chunking = ProjectionInListChunking.of(2);
+    private final Metamodel metamodel = JPAHelper.entityManagerFactory().getMetamodel();
+
+    @Test
+    void of() {
+        ProjectionQuery<Customer, CustomerAutoCompleteClass> query = ProjectionQuery
+                .fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                .filter(ProjectionFilters.equal("name", "John"))
+                .filter(ProjectionFilters.in("id", List.of(1L, 2L, 3L, 3L, 4L, 5L)))
+                .order("id", OrderDirection.DESC)
+                .paging(10, 5);
+
+        ProjectionChunkedQuery<Customer, CustomerAutoCompleteClass> chunkedQuery = ProjectionChunkedQuery.of(query, chunking, metamodel);
+
+        Assertions.assertNotNull(chunkedQuery);
+        Assertions.assertEquals(
+                List.of(List.of(1L, 2L), List.of(3L, 4L), List.of(5L)),
+                chunkedQuery.chunkQueries().stream().map(chunkQuery -> ((ProjectionFilter) chunkQuery.getFilters().get(1)).value()).toList()
+        );
+        chunkedQuery.chunkQueries().forEach(chunkQuery -> {
+            Assertions.assertEquals(ProjectionFilters.equal("name", "John"), chunkQuery.getFilters().get(0));
+            Assertions.assertEquals(0, chunkQuery.getPaging().first());
+            Assertions.assertEquals(15, chunkQuery.getPaging().size());
+        });
+        Assertions.assertArrayEquals(new int[]{0}, chunkedQuery.orderPositions());
+    }
+
+    @Test
+    void of_withParameter() {
+        ProjectionQuery<Customer, CustomerAutoCompleteClass> query = ProjectionQuery
+                .fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                .filter(ProjectionFilters.in("id", ProjectionFilters.param("ids")))
+                .parameter("ids", List.of(1L, 2L, 3L));
+
+        ProjectionChunkedQuery<Customer, CustomerAutoCompleteClass> chunkedQuery = ProjectionChunkedQuery.of(query, chunking, metamodel);
+
+        Assertions.assertNotNull(chunkedQuery);
+        Assertions.assertEquals(
+                List.of(List.of(1L, 2L), List.of(3L)),
+                chunkedQuery.chunkQueries().stream().map(chunkQuery -> chunkQuery.getParameters().get("ids")).toList()
+        );
+        chunkedQuery.chunkQueries().forEach(chunkQuery -> Assertions.assertEquals(query.getFilters(), chunkQuery.getFilters()));
+
+        Assertions.assertNull(ProjectionChunkedQuery.of(
+                query.copy().filter(ProjectionFilters.or(ProjectionFilters.in("id", ProjectionFilters.param("ids")), ProjectionFilters.in("id", ProjectionFilters.param("ids")))),
+                chunking,
+                metamodel
+        ));
+    }
+
+    @Test
+    void of_notPagedWithoutOrders() {
+        ProjectionChunkedQuery<Customer, CustomerAutoCompleteClass> chunkedQuery = ProjectionChunkedQuery.of(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteClass.class).filter(ProjectionFilters.in("id", List.of(1L, 2L, 3L))),
+                chunking,
+                metamodel
+        );
+
+        Assertions.assertNotNull(chunkedQuery);
+        Assertions.assertEquals(2, chunkedQuery.chunkQueries().size());
+        Assertions.assertEquals(0, chunkedQuery.orderPositions().length);
+    }
+
+    @Test
+    void of_orderNotProvablyTheDatabaseOrder() {
+        Assertions.assertNull(ProjectionChunkedQuery.of(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                        .filter(ProjectionFilters.in("id", List.of(1L, 2L, 3L)))
+                        .order("name", OrderDirection.ASC),
+                chunking,
+                metamodel
+        ));
+
+        Assertions.assertNull(ProjectionChunkedQuery.of(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                        .filter(ProjectionFilters.in("id", List.of(1L, 2L, 3L)))
+                        .paging(0, 2),
+                chunking,
+                metamodel
+        ));
+    }
+
+    @Test
+    void ofCount() {
+        ProjectionQuery<Customer, CustomerAutoCompleteClass> query = ProjectionQuery
+                .fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                .filter(ProjectionFilters.in("id", List.of(1L, 2L, 3L)))
+                .order("name", OrderDirection.ASC)
+                .paging(10, 5);
+
+        ProjectionChunkedQuery<Customer, CustomerAutoCompleteClass> chunkedQuery = ProjectionChunkedQuery.ofCount(query, chunking, metamodel);
+
+        Assertions.assertNotNull(chunkedQuery);
+        Assertions.assertEquals(2, chunkedQuery.chunkQueries().size());
+        Assertions.assertNull(chunkedQuery.paging());
+
+        Assertions.assertNull(ProjectionChunkedQuery.ofCount(query.copy().distinct(), chunking, metamodel));
+        Assertions.assertNull(ProjectionChunkedQuery.ofCount(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteClass.class).filter(ProjectionFilters.in("profiles.id", List.of(1L, 2L, 3L))),
+                chunking,
+                metamodel
+        ));
+    }
+
+    @Test
+    void of_notSplit() {
+        Assertions.assertNull(ProjectionChunkedQuery.of(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteClass.class).filter(ProjectionFilters.in("id", List.of(1L, 2L))),
+                chunking,
+                metamodel
+        ));
+
+        Assertions.assertNull(ProjectionChunkedQuery.of(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                        .filter(ProjectionFilters.or(ProjectionFilters.in("id", List.of(1L, 2L, 3L)))),
+                chunking,
+                metamodel
+        ));
+
+        Assertions.assertNull(ProjectionChunkedQuery.of(
+                ProjectionQuery.fromTo(Customer.class, CustomerAvgAge.class).filter(ProjectionFilters.in("id", List.of(1L, 2L, 3L))),
+                chunking,
+                metamodel
+        ));
+
+        Assertions.assertNull(ProjectionChunkedQuery.of(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                        .filter(ProjectionFilters.in("id", List.of(1L, 2L, 3L)))
+                        .order("age", OrderDirection.ASC),
+                chunking,
+                metamodel
+        ));
+    }
+
+    @Test
+    void merge() {
+        ProjectionQuery<Customer, CustomerAutoCompleteClass> query = ProjectionQuery
+                .fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                .filter(ProjectionFilters.in("id", LongStream.range(0, 10).boxed().toList()))
+                .order("id", OrderDirection.DESC)
+                .distinct()
+                .paging(1, 3);
+
+        List<Object[]> rows = ProjectionChunkedQuery.of(query, chunking, metamodel).merge(List.of(
+                List.of(new Object[]{1L, "b", "b@mail"}, new Object[]{2L, "a", "a@mail"}),
+                List.of(new Object[]{3L, "a", "a@mail"}, new Object[]{4L, null, null}),
+                List.of(new Object[]{3L, "a", "a@mail"}, new Object[]{5L, "c", "c@mail"})
+        ));
+
+        Assertions.assertEquals(List.of(4L, 3L, 2L), rows.stream().map(row -> row[0]).toList());
+    }
+}
@@ -0,0 +1,164 @@
+package br.com.jbProjects.processor;
+
+import br.com.jbProjects.config.helper.BaseJpaTest;
+import br.com.jbProjects.config.helper.JPAHelper;
+import br.com.jbProjects.config.testModel.customer.domain.Customer;
+import br.com.jbProjects.config.testModel.customer.domain.CustomerProfile;
+import br.com.jbProjects.config.testModel.customer.domain.CustomerProfileType;
+import br.com.jbProjects.config.testModel.customer.projections.CustomerAutoCompleteClass;
+import br.com.jbProjects.config.testModel.customer.projections.CustomerAvgAge;
+import br.com.jbProjects.config.testModel.customer.projections.CustomerProfileTypeRecord;
+import br.com.jbProjects.processor.filter.ProjectionFilters;
+import br.com.jbProjects.processor.joinResolver.MetamodelIdentifierResolver;
+import br.com.jbProjects.processor.order.OrderDirection;
+import br.com.jbProjects.processor.order.ProjectionOrder;
+import br.com.jbProjects.processor.pageable.ProjectionCursor;
+import br.com.jbProjects.processor.query.ProjectionQuery;
+import jakarta.persistence.metamodel.Metamodel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+class ProjectionKeysetQueryTest extends BaseJpaTest {
+
+    private final MetamodelIdentifierResolver identifierResolver = MetamodelIdentifierResolver.of(JPAHelper.entityManagerFactory());
+    private final Metamodel metamodel = JPAHelper.entityManagerFactory().getMetamodel();
+
+    @Test
+    void of_firstPage() {
+        ProjectionQuery<Customer, CustomerAutoCompleteClass> query = ProjectionQuery
+                .fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                .order("name", OrderDirection.DESC)
+                .paging(0, 10);
+
+        ProjectionKeysetQuery<Customer, CustomerAutoCompleteClass> keysetQuery = ProjectionKeysetQuery.of(query, null, identifierResolver, metamodel);
+
+        Assertions.assertEquals(
+                List.of(new ProjectionOrder("name", OrderDirection.DESC), new ProjectionOrder("id", OrderDirection.ASC)),
+                keysetQuery.seekQuery().getOrders()
+        );
+        Assertions.assertTrue(keysetQuery.seekQuery().getFilters().isEmpty());
+        Assertions.assertEquals(11, keysetQuery.seekQuery().getPaging().size());
+        Assertions.assertArrayEquals(new int[]{1, 0}, keysetQuery.keyPositions());
+
+        Assertions.assertEquals(1, query.getOrders().size(), "The original query must not be changed");
+    }
+
+    @Test
+    void of_afterCursor() {
+        ProjectionQuery<Customer, CustomerAutoCompleteClass> query = ProjectionQuery
+                .fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                .filter(ProjectionFilters.equal("age", 30))
+                .order("name", OrderDirection.DESC)
+                .paging(0, 10);
+
+        ProjectionKeysetQuery<Customer, CustomerAutoCompleteClass> keysetQuery = ProjectionKeysetQuery.of(query, ProjectionCursor.of("Maria", 42L), identifierResolver, metamodel);
+
+        Assertions.assertEquals(
+                List.of(
+                        ProjectionFilters.equal("age", 30),
+                        ProjectionFilters.and(
+                                ProjectionFilters.lessThanOrEqual("name", "Maria"),
+                                ProjectionFilters.or(
+                                        ProjectionFilters.lessThan("name", "Maria"),
+                                        ProjectionFilters.and(
+                                                ProjectionFilters.equal("name", "Maria"),
+                                                ProjectionFilters.greaterThan("id", 42L)
+                                        )
+                                )
+                        )
+                ),
+                keysetQuery.seekQuery().getFilters()
+        );
+    }
+
+    @Test
+    void of_orderedByIdentifier() {
+        ProjectionQuery<Customer, CustomerAutoCompleteClass> query = ProjectionQuery
+                .fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                .order("id", OrderDirection.DESC)
+                .paging(0, 10);
+
+        ProjectionKeysetQuery<Customer, CustomerAutoCompleteClass> keysetQuery = ProjectionKeysetQuery.of(query, ProjectionCursor.of(42L), identifierResolver, metamodel);
+
+        Assertions.assertEquals(List.of(new ProjectionOrder("id", OrderDirection.DESC)), keysetQuery.seekQuery().getOrders());
+        Assertions.assertEquals(List.of(ProjectionFilters.lessThan("id", 42L)), keysetQuery.seekQuery().getFilters());
+    }
+
+    @Test
+    void of_withCursorOfOtherOrders() {
+        ProjectionQuery<Customer, CustomerAutoCompleteClass> ascending = ProjectionQuery
+                .fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                .order("name", OrderDirection.ASC)
+                .paging(0, 10);
+        ProjectionQuery<Customer, CustomerAutoCompleteClass> descending = ProjectionQuery
+                .fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                .order("name", OrderDirection.DESC)
+                .paging(0, 10);
+
+        ProjectionCursor cursor = ProjectionKeysetQuery.of(ascending, null, identifierResolver, metamodel).cursor(new Object[]{42L, "Maria", "maria@email.com"});
+        ProjectionCursor decoded = ProjectionCursor.decode(cursor.encode());
+
+        Assertions.assertEquals(cursor, decoded);
+        Assertions.assertDoesNotThrow(() -> ProjectionKeysetQuery.of(ascending, decoded, identifierResolver, metamodel));
+        IllegalArgumentException exception = Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> ProjectionKeysetQuery.of(descending, decoded, identifierResolver, metamodel));
+        Assertions.assertEquals("ProjectionCursor was created by a query with different orders", exception.getMessage());
+    }
+
+    @Test
+    void of_withAggregate() {
+        ProjectionQuery<Customer, CustomerAvgAge> query = ProjectionQuery
+                .fromTo(Customer.class, CustomerAvgAge.class)
+                .paging(0, 10);
+
+        IllegalStateException exception = Assertions.assertThrowsExactly(IllegalStateException.class, () -> ProjectionKeysetQuery.of(query, null, identifierResolver, metamodel));
+        Assertions.assertEquals("Keyset pagination does not support projections with aggregate fields: CustomerAvgAge", exception.getMessage());
+    }
+
+    @Test
+    void of_afterCursorWithEnum() {
+        ProjectionQuery<CustomerProfile, CustomerProfileTypeRecord> query = ProjectionQuery
+                .fromTo(CustomerProfile.class, CustomerProfileTypeRecord.class)
+                .order("type", OrderDirection.ASC)
+                .paging(0, 10);
+        ProjectionCursor cursor = ProjectionCursor.decode(ProjectionCursor.of(CustomerProfileType.BUSINESS, 42L).encode());
+
+        ProjectionKeysetQuery<CustomerProfile, CustomerProfileTypeRecord> keysetQuery = ProjectionKeysetQuery.of(query, cursor, identifierResolver, metamodel);
+
+        Assertions.assertEquals(
+                List.of(ProjectionFilters.and(
+                        ProjectionFilters.greaterThanOrEqual("type", CustomerProfileType.BUSINESS),
+                        ProjectionFilters.or(
+                                ProjectionFilters.greaterThan("type", CustomerProfileType.BUSINESS),
+                                ProjectionFilters.and(ProjectionFilters.equal("type", CustomerProfileType.BUSINESS), ProjectionFilters.greaterThan("id", 42L))
+                        )
+                )),
+                keysetQuery.seekQuery().getFilters()
+        );
+
+        IllegalArgumentException exception = Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> ProjectionKeysetQuery.of(query, ProjectionCursor.of("UNKNOWN", 42L), identifierResolver, metamodel));
+        Assertions.assertEquals("ProjectionCursor value UNKNOWN is not a constant of CustomerProfileType", exception.getMessage());
+    }
+
+    @Test
+    void cursor() {
+        ProjectionKeysetQuery<Customer, CustomerAutoCompleteClass> keysetQuery = ProjectionKeysetQuery.of(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteClass.class).order("name", OrderDirection.ASC).paging(0, 10),
+                null,
+                identifierResolver,
+                metamodel
+        );
+
+        ProjectionCursor cursor = keysetQuery.cursor(new Object[]{42L, "Maria", "maria@email.com"});
+        Assertions.assertEquals(List.of("Maria", 42L), cursor.values());
+        Assertions.assertEquals(keysetQuery.fingerprint(), cursor.fingerprint());
+        Assertions.assertNotEquals(ProjectionCursor.UNBOUND, cursor.fingerprint());
+
+        IllegalStateException exception = Assertions.assertThrowsExactly(IllegalStateException.class, () -> keysetQuery.cursor(new Object[]{42L, null, null}));
+        Assertions.assertEquals("Keyset pagination requires non-null order values, but order path name is null", exception.getMessage());
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.jbProjects.processor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+class ProjectionParallelMappingTest {
+
+    @Test
+    void of() {
+        ProjectionParallelMapping parallelMapping = ProjectionParallelMapping.of(100);
+
+        Assertions.assertEquals(100, parallelMapping.threshold());
+        Assertions.assertSame(ForkJoinPool.commonPool(), parallelMapping.pool());
+        Assertions.assertFalse(parallelMapping.appliesTo(99));
+        Assertions.assertTrue(parallelMapping.appliesTo(100));
+    }
+
+    @Test
+    void invalidConfiguration() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ProjectionParallelMapping.of(0));
+        Assertions.assertThrows(NullPointerException.class, () -> new ProjectionParallelMapping(10, null));
+    }
+
+    @Test
+    void map_preservesOrder() {
+        List<Object[]> rows = IntStream.range(0, 10_000)
+                .mapToObj(i -> new Object[]{i})
+                .toList();
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try{
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            List<Integer> results = new ProjectionParallelMapping(1, pool).map(rows, row -> {
+                threads.add(Thread.currentThread().getName());
+                return (Integer) row[0] * 2;
+            });
+
+            Assertions.assertEquals(IntStream.range(0, 10_000).map(i -> i * 2).boxed().toList(), results);
+            Assertions.assertTrue(threads.stream().noneMatch(thread -> thread.equals(Thread.currentThread().getName())));
+        }finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void map_rethrowsMapperException() {
+        List<Object[]> rows = List.of(new Object[]{1}, new Object[]{2});
+
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, () -> ProjectionParallelMapping.of(1).map(rows, row -> {
+            throw new IllegalStateException("mapping failed");
+        }));
+        Assertions.assertTrue(exception.getMessage().contains("mapping failed"));
+    }
+}
@@ -7,20 +7,33 @@ import br.com.jbProjects.config.testModel.customer.domain.Customer;
 import br.com.jbProjects.config.testModel.customer.domain.CustomerProfile;
 import br.com.jbProjects.config.testModel.customer.projections.*;
 import br.com.jbProjects.config.testModel.state.domain.State;
+import br.com.jbProjects.mapper.ProjectionStringDictionary;
+import br.com.jbProjects.processor.columnar.ProjectionColumns;
 import br.com.jbProjects.processor.filter.BetweenValues;
 import br.com.jbProjects.processor.filter.CompoundOperator;
 import br.com.jbProjects.processor.filter.ProjectionFilter;
 import br.com.jbProjects.processor.filter.ProjectionFilterOperator;
+import br.com.jbProjects.processor.filter.ProjectionFilters;
 import br.com.jbProjects.processor.order.OrderDirection;
+import br.com.jbProjects.processor.pageable.ProjectionCursor;
+import br.com.jbProjects.processor.pageable.ProjectionKeysetPage;
 import br.com.jbProjects.processor.pageable.ProjectionPage;
+import br.com.jbProjects.processor.pageable.ProjectionSlice;
+import br.com.jbProjects.processor.query.PreparedProjectionQuery;
 import br.com.jbProjects.processor.query.ProjectionQuery;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockito.Mockito;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Created by julio.bueno on 21/11/2025.
@@ -405,6 +418,374 @@ class ProjectionProcessorTest extends BaseJpaTest {
         }
     }
 
+    @Test
+    void executeLazy() {
+        List<CustomerAutoCompleteRecord> customers = processor.executeLazy(
+                ProjectionQuery.fromTo(Customer.class, CustomerAutoCompleteRecord.class),
+                true
+        );
+
+        Assertions.assertEquals(1, customers.size());
+        Assertions.assertSame(customers.get(0), customers.get(0));
+        Assertions.assertEquals(customer.getId(), customers.get(0).id());
+        Assertions.assertEquals(customer.getEmail(), customers.get(0).customerEmail());
+    }
+
+    @Test
+    void executeColumnar() {
+        Customer customer_1 = new Customer();
+        customer_1.setName("columnar");
+        customer_1.setAge(10);
+        persist(customer_1);
+
+        Customer customer_2 = new Customer();
+        customer_2.setName("columnar");
+        customer_2.setAge(10);
+        persist(customer_2);
+
+        Customer customer_3 = new Customer();
+        customer_3.setName("columnar");
+        customer_3.setAge(20);
+        persist(customer_3);
+
+        try{
+            ProjectionColumns<CustomerCountByAge> columns = processor.executeColumnar(
+                    ProjectionQuery
+                            .fromTo(Customer.class, CustomerCountByAge.class)
+                            .filter("name", ProjectionFilterOperator.EQUAL, "columnar")
+                            .order("age", OrderDirection.ASC)
+            );
+
+            Assertions.assertEquals(2, columns.size());
+            Assertions.assertEquals(List.of("quantity", "age"), columns.fieldNames());
+            Assertions.assertArrayEquals(new long[]{2, 1}, columns.longs("quantity"));
+            Assertions.assertArrayEquals(new int[]{10, 20}, columns.ints("age"));
+        }finally {
+            remove(customer_3);
+            remove(customer_2);
+            remove(customer_1);
+        }
+    }
+
+    @Test
+    void execute_deduplicateStrings() {
+        Customer customer_1 = new Customer();
+        customer_1.setName(new String("deduplicated"));
+        persist(customer_1);
+
+        Customer customer_2 = new Customer();
+        customer_2.setName(new String("deduplicated"));
+        persist(customer_2);
+
+        try{
+            ProjectionProcessor statsProcessor = new ProjectionProcessor(entityManager);
+            List<CustomerName> results = statsProcessor.execute(
+                    ProjectionQuery
+                            .fromTo(Customer.class, CustomerName.class)
+                            .filter("name", ProjectionFilterOperator.EQUAL, "deduplicated")
+                            .deduplicateStrings()
+            );
+
+            Assertions.assertEquals(2, results.size());
+            Assertions.assertEquals("deduplicated", results.get(0).name());
+            Assertions.assertSame(results.get(0).name(), results.get(1).name());
+
+            ProjectionProcessorStats stats = statsProcessor.getStats();
+            Assertions.assertEquals(1, stats.getExecutions());
+            Assertions.assertEquals(2, stats.getRows());
+            Assertions.assertEquals(2, stats.getDictionaryLookups());
+            Assertions.assertEquals(1, stats.getDeduplicatedValues());
+            Assertions.assertEquals(1, stats.getDictionaryEntries());
+        }finally {
+            remove(customer_2);
+            remove(customer_1);
+        }
+    }
+
+    @Test
+    void executeLazy_deduplicateStrings() {
+        Customer customer_1 = new Customer();
+        customer_1.setName("deduplicated");
+        customer_1.setMainAddress(mainAddressGoiania);
+        persist(customer_1);
+
+        Customer customer_2 = new Customer();
+        customer_2.setName("deduplicated");
+        customer_2.setMainAddress(mainAddressGoiania);
+        persist(customer_2);
+
+        try(MockedConstruction<ProjectionStringDictionary> dictionaries = Mockito.mockConstruction(
+                ProjectionStringDictionary.class,
+                Mockito.withSettings().defaultAnswer(Mockito.CALLS_REAL_METHODS),
+                (dictionary, context) -> Mockito.doAnswer(invocation -> invocation.getArgument(0)).when(dictionary).canonicalize(Mockito.anyString())
+        )){
+            List<CustomerName> names = processor.executeLazy(
+                    ProjectionQuery
+                            .fromTo(Customer.class, CustomerName.class)
+                            .filter("name", ProjectionFilterOperator.EQUAL, "deduplicated")
+                            .deduplicateStrings(),
+                    false
+            );
+            List<CustomerStateName> states = processor.executeLazy(
+                    ProjectionQuery
+                            .fromTo(Customer.class, CustomerStateName.class)
+                            .filter("name", ProjectionFilterOperator.EQUAL, "deduplicated"),
+                    true
+            );
+
+            Mockito.verify(dictionaries.constructed().get(0), Mockito.never()).canonicalize(Mockito.anyString());
+            Assertions.assertEquals("deduplicated", names.get(0).name());
+            Assertions.assertEquals("deduplicated", names.get(1).name());
+            Mockito.verify(dictionaries.constructed().get(0), Mockito.times(2)).canonicalize("deduplicated");
+
+            Assertions.assertEquals(state.getName(), states.get(0).state());
+            Assertions.assertEquals(state.getName(), states.get(1).state());
+            Mockito.verify(dictionaries.constructed().get(1), Mockito.times(2)).canonicalize(state.getName());
+        }finally {
+            remove(customer_2);
+            remove(customer_1);
+        }
+    }
+
+    @Test
+    void execute_deduplicatedField() {
+        Customer customer_1 = new Customer();
+        customer_1.setName("deduplicated");
+        customer_1.setMainAddress(mainAddressGoiania);
+        persist(customer_1);
+
+        Customer customer_2 = new Customer();
+        customer_2.setName("deduplicated");
+        customer_2.setMainAddress(mainAddressGoiania);
+        persist(customer_2);
+
+        try{
+            ProjectionProcessor statsProcessor = new ProjectionProcessor(entityManager);
+            List<CustomerStateName> results = statsProcessor.execute(
+                    ProjectionQuery
+                            .fromTo(Customer.class, CustomerStateName.class)
+                            .filter("name", ProjectionFilterOperator.EQUAL, "deduplicated")
+            );
+
+            Assertions.assertEquals(2, results.size());
+            Assertions.assertEquals(state.getName(), results.get(0).state());
+            Assertions.assertSame(results.get(0).state(), results.get(1).state());
+            Assertions.assertEquals(2, statsProcessor.getStats().getDictionaryLookups());
+            Assertions.assertEquals(1, statsProcessor.getStats().getDeduplicatedValues());
+        }finally {
+            remove(customer_2);
+            remove(customer_1);
+        }
+    }
+
+    @Test
+    void execute_parallelMapping() {
+        Customer customer_1 = new Customer();
+        customer_1.setName("parallel");
+        customer_1.setEmail("parallel.1@example.com");
+        persist(customer_1);
+
+        Customer customer_2 = new Customer();
+        customer_2.setName("parallel");
+        customer_2.setEmail("parallel.2@example.com");
+        persist(customer_2);
+
+        try{
+            ProjectionQuery<Customer, CustomerAutoCompleteClass> query = ProjectionQuery
+                    .fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                    .filter("name", ProjectionFilterOperator.EQUAL, "parallel")
+                    .order("email", OrderDirection.DESC);
+            ProjectionQuery<Customer, CustomerAutoCompleteClass> pagedQuery = query.copy().paging(0, 2);
+
+            ProjectionProcessor parallelProcessor = new ProjectionProcessor(entityManager, ProjectionParallelMapping.of(2));
+            List<CustomerAutoCompleteClass> results = parallelProcessor.execute(pagedQuery);
+
+            Assertions.assertEquals(List.of(customer_2.getId(), customer_1.getId()), results.stream().map(CustomerAutoCompleteClass::getId).toList());
+            Assertions.assertEquals(List.of(customer_2.getEmail(), customer_1.getEmail()), results.stream().map(CustomerAutoCompleteClass::getCustomerEmail).toList());
+            Assertions.assertEquals(1, parallelProcessor.getStats().getParallelMappings());
+
+            ProjectionProcessor belowThresholdProcessor = new ProjectionProcessor(entityManager, ProjectionParallelMapping.of(3));
+            List<CustomerAutoCompleteClass> sequentialResults = belowThresholdProcessor.execute(pagedQuery);
+
+            Assertions.assertEquals(results.stream().map(CustomerAutoCompleteClass::getId).toList(), sequentialResults.stream().map(CustomerAutoCompleteClass::getId).toList());
+            Assertions.assertEquals(0, belowThresholdProcessor.getStats().getParallelMappings());
+            Assertions.assertEquals(2, belowThresholdProcessor.getStats().getRows());
+
+            List<CustomerAutoCompleteClass> unpagedResults = parallelProcessor.execute(query);
+
+            Assertions.assertEquals(results.stream().map(CustomerAutoCompleteClass::getId).toList(), unpagedResults.stream().map(CustomerAutoCompleteClass::getId).toList());
+            Assertions.assertEquals(2, parallelProcessor.getStats().getParallelMappings());
+
+            belowThresholdProcessor.execute(query);
+            Assertions.assertEquals(0, belowThresholdProcessor.getStats().getParallelMappings());
+            Assertions.assertEquals(4, belowThresholdProcessor.getStats().getRows());
+        }finally {
+            remove(customer_2);
+            remove(customer_1);
+        }
+    }
+
+    @Test
+    void execute_preparedQuery() {
+        PreparedProjectionQuery<Customer, CustomerAutoCompleteClass> prepared = PreparedProjectionQuery.of(
+                ProjectionQuery
+                        .fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                        .filter(ProjectionFilters.or(
+                                ProjectionFilters.equal("name", ProjectionFilters.param("name")),
+                                ProjectionFilters.in("email", ProjectionFilters.param("emails"))
+                        ))
+                        .order("id", OrderDirection.ASC)
+        );
+
+        ProjectionProcessor preparedProcessor = new ProjectionProcessor(entityManager);
+
+        List<CustomerAutoCompleteClass> byName = preparedProcessor.execute(prepared, Map.of("name", "John Doe", "emails", List.of("none@example.com")));
+        List<CustomerAutoCompleteClass> byEmail = preparedProcessor.execute(prepared, Map.of("name", "none", "emails", List.of("other@example.com", "john.doe@example.com")));
+        List<CustomerAutoCompleteClass> none = preparedProcessor.execute(prepared, Map.of("name", "none", "emails", List.of("none@example.com")));
+
+        Assertions.assertEquals(List.of(customer.getId()), byName.stream().map(CustomerAutoCompleteClass::getId).toList());
+        Assertions.assertEquals(List.of(customer.getId()), byEmail.stream().map(CustomerAutoCompleteClass::getId).toList());
+        Assertions.assertTrue(none.isEmpty());
+        Assertions.assertEquals(1, preparedProcessor.getPlanCache().getMisses());
+        Assertions.assertEquals(2, preparedProcessor.getPlanCache().getHits());
+    }
+
+    @Test
+    void executePageable_preparedQuery() {
+        PreparedProjectionQuery<Customer, CustomerAutoCompleteClass> prepared = PreparedProjectionQuery.of(
+                ProjectionQuery
+                        .fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                        .filter(ProjectionFilters.like("email", ProjectionFilters.param("email")))
+                        .filter(ProjectionFilters.notEqual("name", "none"))
+        );
+
+        ProjectionPage<CustomerAutoCompleteClass> page = processor.executePageable(prepared.bind(Map.of("email", "john%")).paging(0, 10));
+
+        Assertions.assertEquals(1, page.totalElements());
+        Assertions.assertEquals(customer.getId(), page.content().get(0).getId());
+    }
+
+    @Test
+    void execute_inListChunking() {
+        List<Customer> customers = new ArrayList<>();
+        for (String name : List.of("chunk c", "chunk a", "chunk d", "chunk b")) {
+            Customer chunkCustomer = new Customer();
+            chunkCustomer.setName(name);
+            persist(chunkCustomer);
+            customers.add(chunkCustomer);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try{
+            List<Long> ids = new ArrayList<>(customers.stream().map(Customer::getId).toList());
+            ids.addAll(List.of(-1L, -2L, -3L));
+
+            ProjectionQuery<Customer, CustomerAutoCompleteClass> query = ProjectionQuery
+                    .fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                    .filter(ProjectionFilters.in("id", ids))
+                    .filter(ProjectionFilters.like("name", "chunk%"))
+                    .order("id", OrderDirection.DESC)
+                    .paging(1, 2);
+
+            List<String> expected = processor.execute(query).stream().map(CustomerAutoCompleteClass::getName).toList();
+            Assertions.assertEquals(List.of("chunk d", "chunk a"), expected);
+
+            for (ProjectionInListChunking chunking : List.of(ProjectionInListChunking.of(2), ProjectionInListChunking.concurrent(2, executor))) {
+                ProjectionProcessor chunkingProcessor = new ProjectionProcessor(
+                        entityManager,
+                        ProjectionProcessorOptions.defaults().withInListChunking(chunking)
+                );
+
+                ProjectionPage<CustomerAutoCompleteClass> page = chunkingProcessor.executePageable(query);
+
+                Assertions.assertEquals(expected, page.content().stream().map(CustomerAutoCompleteClass::getName).toList());
+                Assertions.assertEquals(4, page.totalElements());
+                Assertions.assertEquals(8, chunkingProcessor.getPlanCache().getHits() + chunkingProcessor.getPlanCache().getMisses());
+            }
+
+            ProjectionQuery<Customer, CustomerAutoCompleteClass> nameQuery = ProjectionQuery
+                    .fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                    .filter(ProjectionFilters.in("id", ids))
+                    .filter(ProjectionFilters.like("name", "chunk%"))
+                    .order("name", OrderDirection.DESC)
+                    .distinct()
+                    .paging(1, 2);
+
+            ProjectionProcessor chunkingProcessor = new ProjectionProcessor(
+                    entityManager,
+                    ProjectionProcessorOptions.defaults().withInListChunking(ProjectionInListChunking.of(2))
+            );
+            ProjectionPage<CustomerAutoCompleteClass> page = chunkingProcessor.executePageable(nameQuery);
+
+            Assertions.assertEquals(List.of("chunk c", "chunk b"), page.content().stream().map(CustomerAutoCompleteClass::getName).toList());
+            Assertions.assertEquals(4, page.totalElements());
+            Assertions.assertEquals(2, chunkingProcessor.getPlanCache().getHits() + chunkingProcessor.getPlanCache().getMisses());
+        }finally {
+            executor.shutdown();
+            customers.forEach(this::remove);
+        }
+    }
+
+    @Test
+    void execute_inListChunking_otherExecutions() {
+        List<Customer> customers = new ArrayList<>();
+        for (String name : List.of("chunk c", "chunk a", "chunk d", "chunk b")) {
+            Customer chunkCustomer = new Customer();
+            chunkCustomer.setName(name);
+            persist(chunkCustomer);
+            customers.add(chunkCustomer);
+        }
+
+        try{
+            List<Long> ids = new ArrayList<>(customers.stream().map(Customer::getId).toList());
+            ids.addAll(List.of(-1L, -2L, -3L));
+            List<Long> expectedIds = customers.stream().map(Customer::getId).sorted(Comparator.reverseOrder()).toList();
+
+            ProjectionQuery<Customer, CustomerAutoCompleteClass> query = ProjectionQuery
+                    .fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                    .filter(ProjectionFilters.in("id", ids))
+                    .order("id", OrderDirection.DESC);
+
+            ProjectionProcessor lazyProcessor = chunkingProcessor();
+            Assertions.assertEquals(expectedIds, lazyProcessor.executeLazy(query, false).stream().map(CustomerAutoCompleteClass::getId).toList());
+            Assertions.assertEquals(4, queryCount(lazyProcessor));
+
+            ProjectionProcessor columnarProcessor = chunkingProcessor();
+            ProjectionColumns<CustomerAutoCompleteClass> columns = columnarProcessor.executeColumnar(query);
+            Assertions.assertEquals(expectedIds, Arrays.stream(columns.longs("id")).boxed().toList());
+            Assertions.assertEquals(4, queryCount(columnarProcessor));
+
+            ProjectionProcessor keysetProcessor = chunkingProcessor();
+            ProjectionQuery<Customer, CustomerAutoCompleteClass> keysetQuery = query.copy().paging(0, 3);
+            ProjectionKeysetPage<CustomerAutoCompleteClass> page = keysetProcessor.executeKeyset(keysetQuery);
+            Assertions.assertEquals(expectedIds.subList(0, 3), page.content().stream().map(CustomerAutoCompleteClass::getId).toList());
+            Assertions.assertEquals(4, queryCount(keysetProcessor));
+            page = keysetProcessor.executeKeyset(keysetQuery, page.nextCursor());
+            Assertions.assertEquals(expectedIds.subList(3, 4), page.content().stream().map(CustomerAutoCompleteClass::getId).toList());
+            Assertions.assertEquals(8, queryCount(keysetProcessor));
+
+            ProjectionProcessor preparedProcessor = chunkingProcessor();
+            PreparedProjectionQuery<Customer, CustomerAutoCompleteClass> prepared = PreparedProjectionQuery.of(
+                    ProjectionQuery
+                            .fromTo(Customer.class, CustomerAutoCompleteClass.class)
+                            .filter(ProjectionFilters.in("id", ProjectionFilters.param("ids")))
+                            .order("id", OrderDirection.DESC)
+            );
+            Assertions.assertEquals(expectedIds, preparedProcessor.execute(prepared, Map.of("ids", ids)).stream().map(CustomerAutoCompleteClass::getId).toList());
+            Assertions.assertEquals(4, queryCount(preparedProcessor));
+        }finally {
+            customers.forEach(this::remove);
+        }
+    }
+
+    private ProjectionProcessor chunkingProcessor() {
+        return new ProjectionProcessor(entityManager, ProjectionProcessorOptions.defaults().withInListChunking(ProjectionInListChunking.of(2)));
+    }
+
+    private static long queryCount(ProjectionProcessor processor) {
+        return processor.getPlanCache().getHits() + processor.getPlanCache().getMisses();
+    }
+
     @Test
     void execute_withProjectionQuery_nextEntityAttributes() {
         List<CustomerNameAndCityAttributes> results = processor
@@ -899,6 +1280,64 @@ class ProjectionProcessorTest extends BaseJpaTest {
         }
     }
 
+    @Test
+    public void executePageable_skipsCountForPartialPage() {
+        Customer customer1 = new Customer();
+        customer1.setName("Customer skipsCount - 1");
+        customer1.setAge(5);
+        persist(customer1);
+
+        Customer customer2 = new Customer();
+        customer2.setName("Customer skipsCount - 2");
+        customer2.setAge(15);
+        persist(customer2);
+
+        Customer customer3 = new Customer();
+        customer3.setName("Customer skipsCount - 3");
+        customer3.setAge(18);
+        persist(customer3);
+
+        try{
+            ProjectionProcessor statsProcessor = new ProjectionProcessor(entityManager);
+
+            // full page, the count is executed
+            ProjectionPage<CustomerName> page = statsProcessor.executePageable(
+                    ProjectionQuery
+                            .fromTo(Customer.class, CustomerName.class)
+                            .filter("name", "like", "Customer skipsCount%")
+                            .order("age", OrderDirection.ASC)
+                            .paging(0, 2)
+            );
+
+            Assertions.assertEquals(2, page.content().size());
+            Assertions.assertEquals(3, page.totalElements());
+            Assertions.assertTrue(page.hasNext());
+            Assertions.assertEquals(1, statsProcessor.getStats().getCounts());
+            Assertions.assertEquals(0, statsProcessor.getStats().getSkippedCounts());
+
+            // partial last page, the total is known without counting
+            page = statsProcessor.executePageable(
+                    ProjectionQuery
+                            .fromTo(Customer.class, CustomerName.class)
+                            .filter("name", "like", "Customer skipsCount%")
+                            .order("age", OrderDirection.ASC)
+                            .paging(2, 2)
+            );
+
+            Assertions.assertEquals(1, page.content().size());
+            Assertions.assertEquals(3, page.totalElements());
+            Assertions.assertFalse(page.hasNext());
+            Assertions.assertEquals(customer3.getName(), page.content().get(0).name());
+            Assertions.assertEquals(1, statsProcessor.getStats().getCounts());
+            Assertions.assertEquals(1, statsProcessor.getStats().getSkippedCounts());
+
+        }finally {
+            remove(customer3);
+            remove(customer2);
+            remove(customer1);
+        }
+    }
+
     @Test
     public void executePageable_withoutPaging() {
         IllegalStateException exception = Assertions.assertThrowsExactly(IllegalStateException.class, () -> processor.executePageable(
@@ -928,6 +1367,293 @@ class ProjectionProcessorTest extends BaseJpaTest {
         Assertions.assertFalse(page.hasPrevious());
     }
 
+    @Test
+    public void executePageable_withWindowCount() {
+        Customer customer1 = new Customer();
+        customer1.setName("Customer windowCount - 1");
+        customer1.setAge(5);
+        persist(customer1);
+
+        Customer customer2 = new Customer();
+        customer2.setName("Customer windowCount - 2");
+        customer2.setAge(15);
+        persist(customer2);
+
+        Customer customer3 = new Customer();
+        customer3.setName("Customer windowCount - 3");
+        customer3.setAge(18);
+        persist(customer3);
+
+        try{
+            ProjectionProcessor windowProcessor = new ProjectionProcessor(
+                    entityManager,
+                    ProjectionProcessorOptions.defaults().withCountStrategy(ProjectionCountStrategy.WINDOW_FUNCTION)
+            );
+
+            ProjectionPage<CustomerName> page = windowProcessor.executePageable(
+                    ProjectionQuery
+                            .fromTo(Customer.class, CustomerName.class)
+                            .filter("name", "like", "Customer windowCount%")
+                            .order("age", OrderDirection.ASC)
+                            .paging(0, 2)
+            );
+
+            Assertions.assertEquals(2, page.content().size());
+            Assertions.assertEquals(customer1.getName(), page.content().get(0).name());
+            Assertions.assertEquals(3, page.totalElements());
+            Assertions.assertTrue(page.hasNext());
+            Assertions.assertEquals(1, windowProcessor.getStats().getWindowCounts());
+            Assertions.assertEquals(0, windowProcessor.getStats().getCounts());
+
+            // page past the last element, counted by a separate query
+            page = windowProcessor.executePageable(
+                    ProjectionQuery
+                            .fromTo(Customer.class, CustomerName.class)
+                            .filter("name", "like", "Customer windowCount%")
+                            .paging(10, 2)
+            );
+
+            Assertions.assertTrue(page.isEmpty());
+            Assertions.assertEquals(3, page.totalElements());
+            Assertions.assertEquals(1, windowProcessor.getStats().getCounts());
+
+            // distinct queries fall back to the count query
+            page = windowProcessor.executePageable(
+                    ProjectionQuery
+                            .fromTo(Customer.class, CustomerName.class)
+                            .filter("name", "like", "Customer windowCount%")
+                            .paging(0, 2)
+                            .distinct()
+            );
+
+            Assertions.assertEquals(3, page.totalElements());
+            Assertions.assertEquals(1, windowProcessor.getStats().getWindowCounts());
+            Assertions.assertEquals(2, windowProcessor.getStats().getCounts());
+
+        }finally {
+            remove(customer3);
+            remove(customer2);
+            remove(customer1);
+        }
+    }
+
+    @Test
+    public void executePageable_withCountExecutor() {
+        Customer customer1 = new Customer();
+        customer1.setName("Customer countExecutor - 1");
+        customer1.setAge(5);
+        persist(customer1);
+
+        Customer customer2 = new Customer();
+        customer2.setName("Customer countExecutor - 2");
+        customer2.setAge(15);
+        persist(customer2);
+
+        Customer customer3 = new Customer();
+        customer3.setName("Customer countExecutor - 3");
+        customer3.setAge(18);
+        persist(customer3);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try{
+            ProjectionProcessor concurrentProcessor = new ProjectionProcessor(
+                    entityManager,
+                    ProjectionProcessorOptions.defaults().withCountExecutor(executor)
+            );
+
+            ProjectionPage<CustomerName> page = concurrentProcessor.executePageable(
+                    ProjectionQuery
+                            .fromTo(Customer.class, CustomerName.class)
+                            .filter("name", "like", "Customer countExecutor%")
+                            .order("age", OrderDirection.ASC)
+                            .paging(0, 2)
+            );
+
+            Assertions.assertEquals(2, page.content().size());
+            Assertions.assertEquals(customer1.getName(), page.content().get(0).name());
+            Assertions.assertEquals(3, page.totalElements());
+            Assertions.assertEquals(1, concurrentProcessor.getStats().getConcurrentCounts());
+            Assertions.assertEquals(1, concurrentProcessor.getStats().getCounts());
+
+            // partial page, the concurrent count is not awaited
+            page = concurrentProcessor.executePageable(
+                    ProjectionQuery
+                            .fromTo(Customer.class, CustomerName.class)
+                            .filter("name", "like", "Customer countExecutor%")
+                            .order("age", OrderDirection.ASC)
+                            .paging(2, 2)
+            );
+
+            Assertions.assertEquals(1, page.content().size());
+            Assertions.assertEquals(3, page.totalElements());
+            Assertions.assertEquals(1, concurrentProcessor.getStats().getConcurrentCounts());
+            Assertions.assertEquals(1, concurrentProcessor.getStats().getCounts());
+            Assertions.assertEquals(1, concurrentProcessor.getStats().getSkippedCounts());
+
+        }finally {
+            executor.shutdown();
+            remove(customer3);
+            remove(customer2);
+            remove(customer1);
+        }
+    }
+
+    @Test
+    public void executeSlice() {
+        Customer customer1 = new Customer();
+        customer1.setName("Customer executeSlice - 1");
+        customer1.setAge(5);
+        persist(customer1);
+
+        Customer customer2 = new Customer();
+        customer2.setName("Customer executeSlice - 2");
+        customer2.setAge(15);
+        persist(customer2);
+
+        Customer customer3 = new Customer();
+        customer3.setName("Customer executeSlice - 3");
+        customer3.setAge(18);
+        persist(customer3);
+
+        try{
+            ProjectionProcessor statsProcessor = new ProjectionProcessor(entityManager);
+
+            // first slice
+            ProjectionSlice<CustomerName> slice = statsProcessor.executeSlice(
+                    ProjectionQuery
+                            .fromTo(Customer.class, CustomerName.class)
+                            .filter("name", "like", "Customer executeSlice%")
+                            .order("age", OrderDirection.ASC)
+                            .paging(0, 2)
+            );
+
+            Assertions.assertEquals(2, slice.content().size());
+            Assertions.assertEquals(customer1.getName(), slice.content().get(0).name());
+            Assertions.assertEquals(customer2.getName(), slice.content().get(1).name());
+            Assertions.assertEquals(0, slice.pageNumber());
+            Assertions.assertEquals(2, slice.pageSize());
+            Assertions.assertTrue(slice.hasNext());
+            Assertions.assertFalse(slice.hasPrevious());
+
+            // last slice
+            slice = statsProcessor.executeSlice(
+                    ProjectionQuery
+                            .fromTo(Customer.class, CustomerName.class)
+                            .filter("name", "like", "Customer executeSlice%")
+                            .order("age", OrderDirection.ASC)
+                            .paging(2, 2)
+            );
+
+            Assertions.assertEquals(1, slice.content().size());
+            Assertions.assertEquals(customer3.getName(), slice.content().get(0).name());
+            Assertions.assertEquals(1, slice.pageNumber());
+            Assertions.assertFalse(slice.hasNext());
+            Assertions.assertTrue(slice.hasPrevious());
+
+            Assertions.assertEquals(0, statsProcessor.getStats().getCounts());
+
+        }finally {
+            remove(customer3);
+            remove(customer2);
+            remove(customer1);
+        }
+    }
+
+    @Test
+    public void executeKeyset() {
+        List<Customer> customers = new ArrayList<>();
+        for (String name : List.of("B", "A", "B", "C", "A")) {
+            Customer customer = new Customer();
+            customer.setName("Customer executeKeyset - " + name);
+            persist(customer);
+            customers.add(customer);
+        }
+
+        try{
+            ProjectionQuery<Customer, CustomerAutoCompleteRecord> query = ProjectionQuery
+                    .fromTo(Customer.class, CustomerAutoCompleteRecord.class)
+                    .filter("name", "like", "Customer executeKeyset%")
+                    .order("name", OrderDirection.DESC)
+                    .paging(0, 2);
+
+            List<Long> expectedIds = customers.stream()
+                    .sorted(Comparator.comparing(Customer::getName).reversed().thenComparing(Customer::getId))
+                    .map(Customer::getId)
+                    .toList();
+
+            ProjectionQuery<Customer, CustomerAutoCompleteRecord> specificationQuery = query.copy()
+                    .specification((criteriaBuilder, criteriaQuery, root, pathResolver) -> criteriaBuilder.isNotNull(root.get("id")));
+
+            for (ProjectionQuery<Customer, CustomerAutoCompleteRecord> pageQuery : List.of(query, specificationQuery)) {
+                List<Long> ids = new ArrayList<>();
+                ProjectionKeysetPage<CustomerAutoCompleteRecord> page = processor.executeKeyset(pageQuery);
+                int pages = 1;
+                page.content().forEach(customer -> ids.add(customer.id()));
+                while(page.hasNext()){
+                    Assertions.assertEquals(2, page.content().size());
+                    page = processor.executeKeyset(pageQuery, page.nextCursor());
+                    page.content().forEach(customer -> ids.add(customer.id()));
+                    pages++;
+                }
+
+                Assertions.assertEquals(3, pages);
+                Assertions.assertEquals(1, page.content().size());
+                Assertions.assertNull(page.nextCursor());
+                Assertions.assertEquals(expectedIds, ids);
+            }
+        }finally {
+            customers.forEach(this::remove);
+        }
+    }
+
+    @Test
+    public void executeKeyset_withOrderNotProjected() {
+        IllegalStateException exception = Assertions.assertThrowsExactly(IllegalStateException.class, () -> processor.executeKeyset(
+                ProjectionQuery
+                        .fromTo(Customer.class, CustomerName.class)
+                        .order("name", OrderDirection.ASC)
+                        .paging(0, 10)
+        ));
+
+        Assertions.assertEquals("Keyset pagination requires order path id to be projected by a plain field of CustomerName", exception.getMessage());
+    }
+
+    @Test
+    public void executeKeyset_withOffset() {
+        IllegalStateException exception = Assertions.assertThrowsExactly(IllegalStateException.class, () -> processor.executeKeyset(
+                ProjectionQuery
+                        .fromTo(Customer.class, CustomerAutoCompleteRecord.class)
+                        .paging(10, 10)
+        ));
+
+        Assertions.assertEquals("ProjectionQuery keyset paging must start at the first row with a positive size, use paging(0, size).", exception.getMessage());
+    }
+
+    @Test
+    public void executeKeyset_withCursorNotMatchingOrders() {
+        String cursor = ProjectionCursor.of("Customer", 1L).encode();
+
+        IllegalArgumentException exception = Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> processor.executeKeyset(
+                ProjectionQuery
+                        .fromTo(Customer.class, CustomerAutoCompleteRecord.class)
+                        .paging(0, 10),
+                cursor
+        ));
+
+        Assertions.assertEquals("ProjectionCursor has 2 values, expected 1", exception.getMessage());
+    }
+
+    @Test
+    public void executeSlice_withoutPaging() {
+        IllegalStateException exception = Assertions.assertThrowsExactly(IllegalStateException.class, () -> processor.executeSlice(
+                ProjectionQuery
+                        .fromTo(Customer.class, CustomerName.class)
+                        .filter("id", ProjectionFilterOperator.EQUAL, customer.getId())
+        ));
+
+        Assertions.assertEquals("ProjectionQuery must have paging to execute slice.", exception.getMessage());
+    }
+
     @Test
     public void executePageable_withDistinct() {
         Customer customer = new Customer();
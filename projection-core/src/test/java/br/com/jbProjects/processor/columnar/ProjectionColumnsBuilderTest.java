@@ -0,0 +1,81 @@
+package br.com.jbProjects.processor.columnar;
+
+import br.com.jbProjects.annotations.Projection;
+import br.com.jbProjects.annotations.ProjectionField;
+import br.com.jbProjects.config.testModel.customer.domain.Customer;
+import br.com.jbProjects.metadata.cache.ProjectionMetadataCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+class ProjectionColumnsBuilderTest {
+
+    @Test
+    void build() {
+        ProjectionColumnsBuilder<CustomerColumns> builder = builder(0);
+        for (int i = 0; i < 40; i++) {
+            builder.add(new Object[]{(long) i, i, i / 2.0, "name " + i});
+        }
+
+        ProjectionColumns<CustomerColumns> columns = builder.build();
+
+        Assertions.assertEquals(40, columns.size());
+        Assertions.assertEquals(CustomerColumns.class, columns.projectionClass());
+        Assertions.assertEquals(List.of("id", "age", "score", "name"), columns.fieldNames());
+        Assertions.assertEquals(40, columns.longs("id").length);
+        Assertions.assertEquals(39L, columns.longs("id")[39]);
+        Assertions.assertEquals(39, columns.ints("age")[39]);
+        Assertions.assertEquals(19.5, columns.doubles("score")[39]);
+        Assertions.assertEquals("name 39", columns.objects("name")[39]);
+    }
+
+    @Test
+    void build_withConvertedAndNullValues() {
+        ProjectionColumnsBuilder<CustomerColumns> builder = builder(2);
+        builder.add(new Object[]{1, 10L, 1.5f, null});
+        builder.add(new Object[]{null, null, null, "name"});
+
+        ProjectionColumns<CustomerColumns> columns = builder.build();
+
+        Assertions.assertArrayEquals(new long[]{1, 0}, columns.longs("id"));
+        Assertions.assertArrayEquals(new int[]{10, 0}, columns.ints("age"));
+        Assertions.assertArrayEquals(new double[]{1.5, 0}, columns.doubles("score"));
+        Assertions.assertArrayEquals(new Object[]{null, "name"}, columns.objects("name"));
+
+        Assertions.assertFalse(columns.isNull("id", 0));
+        Assertions.assertTrue(columns.isNull("id", 1));
+        Assertions.assertTrue(columns.isNull("name", 0));
+    }
+
+    @Test
+    void build_withoutRows() {
+        ProjectionColumns<CustomerColumns> columns = builder(0).build();
+
+        Assertions.assertTrue(columns.isEmpty());
+        Assertions.assertEquals(0, columns.longs("id").length);
+    }
+
+    @Test
+    void columns_withWrongType() {
+        ProjectionColumns<CustomerColumns> columns = builder(0).build();
+
+        Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> columns.ints("id"));
+        Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> columns.column("unknown"));
+    }
+
+    private ProjectionColumnsBuilder<CustomerColumns> builder(int expectedRows) {
+        return new ProjectionColumnsBuilder<>(CustomerColumns.class, ProjectionMetadataCache.get(CustomerColumns.class), expectedRows);
+    }
+
+    @Projection(of = Customer.class)
+    record CustomerColumns(
+            @ProjectionField long id,
+            @ProjectionField Integer age,
+            @ProjectionField("age") Double score,
+            @ProjectionField String name
+    ) {}
+}
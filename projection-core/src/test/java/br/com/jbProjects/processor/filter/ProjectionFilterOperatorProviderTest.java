@@ -90,4 +90,39 @@ class ProjectionFilterOperatorProviderTest {
         assertTrue(operators.contains("BETWEEN"), "Available operators should contain BETWEEN");
     }
 
+    @Test
+    public void register_duplicateOperator_ignoringCase(){
+        ProjectionFilterOperatorProvider provider = ProjectionFilterOperatorProvider.getInstance();
+        ProjectionFilterOperatorHandler dummyHandler = (cb, path, value) -> null;
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                provider.register("equal", dummyHandler)
+        );
+
+        assertEquals("Operator already registered: equal", exception.getMessage());
+    }
+
+    @Test
+    public void register_customOperator(){
+        ProjectionFilterOperatorProvider provider = ProjectionFilterOperatorProvider.getInstance();
+        ProjectionFilterOperatorHandler customHandler = (cb, path, value) -> null;
+        var operatorsBefore = provider.availableOperators();
+
+        provider.register("provider_test_custom", customHandler);
+
+        assertSame(customHandler, provider.get("PROVIDER_TEST_CUSTOM"));
+        assertSame(customHandler, provider.get("Provider_Test_Custom"));
+        assertTrue(provider.availableOperators().contains("PROVIDER_TEST_CUSTOM"));
+        assertFalse(operatorsBefore.contains("PROVIDER_TEST_CUSTOM"), "Snapshots should not change after a registration");
+    }
+
+    @Test
+    public void get_withOperator_matchesString(){
+        ProjectionFilterOperatorProvider provider = ProjectionFilterOperatorProvider.getInstance();
+
+        for (ProjectionFilterOperator operator : ProjectionFilterOperator.values()) {
+            assertSame(provider.get(operator.name()), provider.get(operator));
+            assertSame(provider.get(operator.name().toLowerCase()), provider.get(operator));
+        }
+    }
 }
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Created by julio.bueno on 19/01/2026.
@@ -32,6 +33,40 @@ class ProjectionFilterTest {
         assertEquals(filterPredicate, predicate);
     }
 
+    @Test
+    public void toPredicate_withParameter(){
+        CriteriaBuilder cb = Mockito.mock(CriteriaBuilder.class);
+        CriteriaQuery<?> query = Mockito.mock(CriteriaQuery.class);
+        Root<?> root = Mockito.mock(Root.class);
+        Path<?> path = Mockito.mock(Path.class);
+        Predicate predicate = Mockito.mock(Predicate.class);
+        ParameterExpression<?> parameter = Mockito.mock(ParameterExpression.class);
+        PathResolver pathResolver = Mockito.mock(PathResolver.class);
+
+        Mockito.doReturn(path).when(pathResolver).resolve(root, "age");
+        Mockito.doReturn(Integer.class).when(path).getJavaType();
+        Mockito.doReturn(parameter).when(cb).parameter(Integer.class, "age");
+        Mockito.doReturn(predicate).when(cb).equal(path, parameter);
+
+        ProjectionFilter filter = new ProjectionFilter("age", "EQUAL", new ProjectionParameter("age"));
+        assertEquals(predicate, filter.toPredicate(cb, query, root, pathResolver));
+    }
+
+    @Test
+    public void toPredicate_withParameter_unsupportedOperator(){
+        CriteriaBuilder cb = Mockito.mock(CriteriaBuilder.class);
+        CriteriaQuery<?> query = Mockito.mock(CriteriaQuery.class);
+        Root<?> root = Mockito.mock(Root.class);
+        Path<?> path = Mockito.mock(Path.class);
+        PathResolver pathResolver = Mockito.mock(PathResolver.class);
+
+        Mockito.doReturn(path).when(pathResolver).resolve(root, "age");
+
+        ProjectionFilter filter = new ProjectionFilter("age", "BETWEEN", new ProjectionParameter("age"));
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> filter.toPredicate(cb, query, root, pathResolver));
+        assertEquals("Operator BETWEEN does not support parameters: age", exception.getMessage());
+    }
+
     @Test
     public void of_withEnumOperator(){
         ProjectionFilter filter = ProjectionFilter.of("field", ProjectionFilterOperator.EQUAL, 5);
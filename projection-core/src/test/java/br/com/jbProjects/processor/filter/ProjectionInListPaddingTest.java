@@ -0,0 +1,58 @@
+package br.com.jbProjects.processor.filter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+class ProjectionInListPaddingTest {
+
+    @Test
+    void paddedSize() {
+        ProjectionInListPadding padding = ProjectionInListPadding.of();
+
+        Assertions.assertEquals(0, padding.paddedSize(0));
+        Assertions.assertEquals(1, padding.paddedSize(1));
+        Assertions.assertEquals(2, padding.paddedSize(2));
+        Assertions.assertEquals(4, padding.paddedSize(3));
+        Assertions.assertEquals(4, padding.paddedSize(4));
+        Assertions.assertEquals(8, padding.paddedSize(5));
+        Assertions.assertEquals(1024, padding.paddedSize(513));
+    }
+
+    @Test
+    void paddedSize_upToMaxSize() {
+        ProjectionInListPadding padding = ProjectionInListPadding.upTo(1000);
+
+        Assertions.assertEquals(512, padding.paddedSize(300));
+        Assertions.assertEquals(1000, padding.paddedSize(600));
+        Assertions.assertEquals(1000, padding.paddedSize(1000));
+        Assertions.assertEquals(1500, padding.paddedSize(1500));
+    }
+
+    @Test
+    void pad() {
+        ProjectionInListPadding padding = ProjectionInListPadding.of();
+
+        Assertions.assertEquals(List.of(1, 2, 3, 3), padding.pad(List.of(1, 2, 3)));
+        Assertions.assertEquals(List.of(1, 2, 3, 4, 5, 5, 5, 5), padding.pad(List.of(1, 2, 3, 4, 5)));
+
+        List<Integer> powerOfTwo = List.of(1, 2, 3, 4);
+        Assertions.assertSame(powerOfTwo, padding.pad(powerOfTwo));
+    }
+
+    @Test
+    void appliesTo() {
+        Assertions.assertTrue(ProjectionInListPadding.appliesTo("IN"));
+        Assertions.assertTrue(ProjectionInListPadding.appliesTo("not_in"));
+        Assertions.assertFalse(ProjectionInListPadding.appliesTo("EQUAL"));
+    }
+
+    @Test
+    void invalidConfiguration() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ProjectionInListPadding.upTo(0));
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.jbProjects.processor.filter.handler;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+@SuppressWarnings("unchecked")
+class AnyHandlerTest {
+
+    private final AnyHandler handler = new AnyHandler();
+
+    @Test
+    public void toPredicate_withoutArraySupport_fallsBackToIn(){
+        CriteriaBuilder criteriaBuilder = Mockito.mock(CriteriaBuilder.class);
+        Path<?> path = Mockito.mock(Path.class);
+
+        CriteriaBuilder.In<Object> in = Mockito.mock(CriteriaBuilder.In.class);
+        Mockito.doReturn(in).when(criteriaBuilder).in(path);
+
+        Predicate predicate = handler.toPredicate(criteriaBuilder, path, List.of(1,2));
+
+        assertEquals(in, predicate);
+        Mockito.verify(in, Mockito.times(1)).value(1);
+        Mockito.verify(in, Mockito.times(1)).value(2);
+    }
+
+    @Test
+    public void supportsParameters(){
+        assertTrue(handler.supportsParameters());
+    }
+
+    @Test
+    public void toArray(){
+        Object array = AnyHandler.toArray(List.of(1, 2, 3), Long.class);
+
+        assertArrayEquals(new Long[]{1L, 2L, 3L}, (Long[]) array);
+    }
+
+    @Test
+    public void toArray_convertsNumbers(){
+        assertArrayEquals(new Integer[]{1, 2}, (Integer[]) AnyHandler.toArray(List.of(1L, 2L), Integer.class));
+        assertArrayEquals(new BigDecimal[]{new BigDecimal("1.5")}, (BigDecimal[]) AnyHandler.toArray(List.of(1.5d), BigDecimal.class));
+    }
+
+    @Test
+    public void toArray_keepsOtherValues(){
+        Object array = AnyHandler.toArray(List.of("a", "b"), String.class);
+
+        assertArrayEquals(new String[]{"a", "b"}, (String[]) array);
+    }
+
+    @Test
+    public void toArray_invalidValue(){
+        assertThrows(IllegalArgumentException.class, () -> AnyHandler.toArray(List.of("a"), Long.class));
+    }
+}
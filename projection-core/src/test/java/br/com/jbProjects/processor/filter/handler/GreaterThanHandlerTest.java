@@ -24,7 +24,7 @@ class GreaterThanHandlerTest {
         Mockito
                 .doReturn(expected)
                 .when(criteriaBuilder)
-                .gt((Path<? extends Number>) path, 1);
+                .greaterThan((Path<Comparable<Object>>) path, (Comparable<Object>) (Object) 1);
 
         Predicate predicate = handler.toPredicate(criteriaBuilder, path, 1);
 
@@ -24,7 +24,7 @@ class GreaterThanOrEqualHandlerTest {
         Mockito
                 .doReturn(expected)
                 .when(criteriaBuilder)
-                .ge((Path<? extends Number>) path, 1);
+                .greaterThanOrEqualTo((Path<Comparable<Object>>) path, (Comparable<Object>) (Object) 1);
 
         Predicate predicate = handler.toPredicate(criteriaBuilder, path, 1);
 
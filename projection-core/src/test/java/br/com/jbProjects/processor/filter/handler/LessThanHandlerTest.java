@@ -24,7 +24,7 @@ class LessThanHandlerTest {
         Mockito
                 .doReturn(expected)
                 .when(criteriaBuilder)
-                .lt((Path<? extends Number>) path, 1);
+                .lessThan((Path<Comparable<Object>>) path, (Comparable<Object>) (Object) 1);
 
         Predicate predicate = handler.toPredicate(criteriaBuilder, path, 1);
 
@@ -24,7 +24,7 @@ class LessThanOrEqualHandlerTest {
         Mockito
                 .doReturn(expected)
                 .when(criteriaBuilder)
-                .le((Path<? extends Number>) path, 1);
+                .lessThanOrEqualTo((Path<Comparable<Object>>) path, (Comparable<Object>) (Object) 1);
 
         Predicate predicate = handler.toPredicate(criteriaBuilder, path, 1);
 
@@ -1,6 +1,7 @@
 package br.com.jbProjects.processor.joinResolver;
 
 import br.com.jbProjects.config.helper.ReflectionTestUtils;
+import br.com.jbProjects.config.testModel.address.domain.Address;
 import br.com.jbProjects.config.testModel.city.domain.City;
 import br.com.jbProjects.config.testModel.customer.projections.CustomerNameAndCityAttributes;
 import br.com.jbProjects.config.testModel.customer.projections.CustomerNameAndCityJoinWithAlias;
@@ -11,10 +12,12 @@ import jakarta.persistence.criteria.*;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Created by julio.bueno on 25/11/2025.
@@ -220,4 +223,60 @@ class DefaultPathResolverTest {
         resolve = resolver.resolve(root, "secondaryAddress.city.id");
         assertEquals(pathId, resolve);
     }
+
+    @Test
+    public void resolve_reusesPlannedJoins(){
+        ProjectionMetadata metadata = ProjectionMetadataCache.get(CustomerNameAndCityAttributes.class);
+        DefaultPathResolver resolver = new DefaultPathResolver(metadata);
+
+        Root<?> root = Mockito.mock(Root.class);
+        Path<?> mainAddressPath = Mockito.mock(Path.class);
+        Join<?, ?> joinMainAddress = Mockito.mock(Join.class);
+        Join<?, ?> joinCity = Mockito.mock(Join.class);
+        Path<?> pathName = Mockito.mock(Path.class);
+        Path<?> pathStreet = Mockito.mock(Path.class);
+
+        Mockito.doReturn(joinMainAddress).when(root).join("mainAddress", JoinType.INNER);
+        Mockito.doReturn(mainAddressPath).when(root).get("mainAddress");
+        Mockito.doReturn(Address.class).when(mainAddressPath).getJavaType();
+        Mockito.doReturn(joinCity).when(joinMainAddress).join("city", JoinType.INNER);
+        Mockito.doReturn(joinCity).when(joinMainAddress).get("city");
+        Mockito.doReturn(pathStreet).when(joinMainAddress).get("street");
+        Mockito.doReturn(City.class).when(joinCity).getJavaType();
+        Mockito.doReturn(pathName).when(joinCity).get("name");
+
+        // declared path, joins taken from the plan
+        assertEquals(pathName, resolver.resolve(root, "mainAddress.city.name"));
+        // undeclared path, sharing the planned mainAddress join
+        assertEquals(pathStreet, resolver.resolve(root, "mainAddress.street"));
+
+        Mockito.verify(root, Mockito.times(1)).join("mainAddress", JoinType.INNER);
+        Mockito.verify(joinMainAddress, Mockito.times(1)).join("city", JoinType.INNER);
+
+        Map<String, Join<?,?>> joinCache = (Map<String, Join<?, ?>>) ReflectionTestUtils.getField(resolver, "joinCache");
+        assertTrue(joinCache.isEmpty(), "Planned joins should not be cached by key");
+    }
+
+    @Test
+    public void resolve_plannedJoinsPerRoot(){
+        ProjectionMetadata metadata = ProjectionMetadataCache.get(CustomerNameAndCityAttributes.class);
+        DefaultPathResolver resolver = new DefaultPathResolver(metadata);
+
+        Root<?> firstRoot = Mockito.mock(Root.class);
+        Root<?> secondRoot = Mockito.mock(Root.class);
+        for (Root<?> root : List.of(firstRoot, secondRoot)) {
+            Join<?, ?> joinSecondaryAddress = Mockito.mock(Join.class);
+            Join<?, ?> joinCity = Mockito.mock(Join.class);
+            Mockito.doReturn(joinSecondaryAddress).when(root).join("secondaryAddress", JoinType.LEFT);
+            Mockito.doReturn(joinCity).when(joinSecondaryAddress).get("city");
+            Mockito.doReturn(joinCity).when(joinSecondaryAddress).join("city", JoinType.LEFT);
+            Mockito.doReturn(City.class).when(joinCity).getJavaType();
+        }
+
+        resolver.resolve(firstRoot, "secondaryAddress.city.name");
+        resolver.resolve(secondRoot, "secondaryAddress.city.name");
+
+        Mockito.verify(firstRoot, Mockito.times(1)).join("secondaryAddress", JoinType.LEFT);
+        Mockito.verify(secondRoot, Mockito.times(1)).join("secondaryAddress", JoinType.LEFT);
+    }
 }
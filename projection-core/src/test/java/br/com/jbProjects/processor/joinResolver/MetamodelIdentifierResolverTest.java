@@ -0,0 +1,147 @@
+package br.com.jbProjects.processor.joinResolver;
+
+import br.com.jbProjects.annotations.Projection;
+import br.com.jbProjects.annotations.ProjectionField;
+import br.com.jbProjects.config.helper.BaseJpaTest;
+import br.com.jbProjects.config.helper.JPAHelper;
+import br.com.jbProjects.config.testModel.customer.domain.Customer;
+import br.com.jbProjects.config.testModel.customer.domain.CustomerWithCodeId;
+import br.com.jbProjects.config.testModel.product.domain.Category;
+import br.com.jbProjects.config.testModel.product.domain.Product;
+import br.com.jbProjects.metadata.cache.ProjectionMetadataCache;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Metamodel;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+class MetamodelIdentifierResolverTest extends BaseJpaTest {
+
+    @Test
+    void of_cachedPerFactory() {
+        MetamodelIdentifierResolver resolver = MetamodelIdentifierResolver.of(JPAHelper.entityManagerFactory());
+
+        assertSame(resolver, MetamodelIdentifierResolver.of(JPAHelper.entityManagerFactory()));
+    }
+
+    @Test
+    void of_withNullFactory() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> MetamodelIdentifierResolver.of(null));
+        assertEquals("EntityManagerFactory cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void isIdentifier() {
+        MetamodelIdentifierResolver resolver = MetamodelIdentifierResolver.of(JPAHelper.entityManagerFactory());
+
+        assertTrue(resolver.isIdentifier(Customer.class, "id"));
+        assertFalse(resolver.isIdentifier(Customer.class, "name"));
+    }
+
+    @Test
+    void isIdentifier_inheritedFromMappedSuperclass() {
+        MetamodelIdentifierResolver resolver = MetamodelIdentifierResolver.of(JPAHelper.entityManagerFactory());
+
+        assertTrue(resolver.isIdentifier(Category.class, "code"));
+        assertFalse(resolver.isIdentifier(Category.class, "id"));
+        assertFalse(DefaultIdentifierResolver.getInstance().isIdentifier(Category.class, "code"));
+    }
+
+    @Test
+    void isIdentifier_unmanagedType() {
+        MetamodelIdentifierResolver resolver = MetamodelIdentifierResolver.of(JPAHelper.entityManagerFactory());
+
+        assertTrue(resolver.isIdentifier(CustomerWithCodeId.class, "code"));
+        assertFalse(resolver.isIdentifier(CustomerWithCodeId.class, "email"));
+    }
+
+    @Test
+    void identifiers() {
+        MetamodelIdentifierResolver resolver = MetamodelIdentifierResolver.of(JPAHelper.entityManagerFactory());
+
+        assertEquals(Set.of("id"), resolver.identifiers(Customer.class));
+        assertEquals(Set.of("code"), resolver.identifiers(Category.class));
+        assertTrue(resolver.identifiers(String.class).isEmpty());
+    }
+
+    @Test
+    void of_doesNotRetainFactory() throws InterruptedException {
+        EntityManagerFactory factory = delegatingFactory(true);
+        MetamodelIdentifierResolver resolver = MetamodelIdentifierResolver.of(factory);
+        assertEquals(Set.of("id"), resolver.identifiers(Customer.class));
+
+        WeakReference<EntityManagerFactory> reference = new WeakReference<>(factory);
+        factory = null;
+        for (int i = 0; i < 20 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(reference.get(), "The resolver should not keep its factory reachable");
+        assertEquals(Set.of("id"), resolver.identifiers(Customer.class));
+    }
+
+    @Test
+    void identifiers_withClosedFactory() {
+        MetamodelIdentifierResolver resolver = MetamodelIdentifierResolver.of(delegatingFactory(false));
+
+        assertTrue(resolver.identifiers(Customer.class).isEmpty());
+        assertTrue(resolver.isIdentifier(Customer.class, "id"));
+    }
+
+    /**
+     * Factory whose metamodel references the factory back, as Hibernate's does.
+     */
+    private static EntityManagerFactory delegatingFactory(boolean open) {
+        EntityManagerFactory delegate = JPAHelper.entityManagerFactory();
+        return (EntityManagerFactory) Proxy.newProxyInstance(
+                EntityManagerFactory.class.getClassLoader(),
+                new Class<?>[]{EntityManagerFactory.class},
+                (factory, method, args) -> switch (method.getName()) {
+                    case "isOpen" -> open;
+                    case "hashCode" -> System.identityHashCode(factory);
+                    case "equals" -> factory == args[0];
+                    case "getMetamodel" -> Proxy.newProxyInstance(
+                            Metamodel.class.getClassLoader(),
+                            new Class<?>[]{Metamodel.class},
+                            (metamodel, metamodelMethod, metamodelArgs) -> metamodelMethod.getName().equals("toString")
+                                    ? "Metamodel of " + System.identityHashCode(factory)
+                                    : metamodelMethod.invoke(delegate.getMetamodel(), metamodelArgs)
+                    );
+                    default -> method.invoke(delegate, args);
+                }
+        );
+    }
+
+    @Test
+    void resolve_inheritedIdentifierWithoutJoin() {
+        DefaultPathResolver pathResolver = new DefaultPathResolver(ProjectionMetadataCache.get(ProductCategoryCode.class));
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = criteriaBuilder.createQuery(Object[].class);
+        Root<Product> root = query.from(Product.class);
+
+        Path<?> path = pathResolver.resolve(root, "category.code");
+        query.multiselect(root.get("name"), path);
+
+        assertTrue(root.getJoins().isEmpty(), "The category code should be read from the foreign key");
+        assertTrue(entityManager.createQuery(query).getResultList().isEmpty());
+    }
+
+    @Projection(of = Product.class)
+    record ProductCategoryCode(
+            @ProjectionField String name,
+            @ProjectionField("category.code") Long categoryCode
+    ) {}
+}
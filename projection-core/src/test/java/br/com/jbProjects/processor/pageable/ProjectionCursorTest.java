@@ -0,0 +1,109 @@
+package br.com.jbProjects.processor.pageable;
+
+import br.com.jbProjects.processor.order.OrderDirection;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+class ProjectionCursorTest {
+
+    @Test
+    public void encodeAndDecode(){
+        Timestamp timestamp = Timestamp.valueOf("2026-10-18 10:15:30.123456789");
+        ProjectionCursor cursor = ProjectionCursor.of(
+                "Maria", 42L, 7, 1.5d, true, new BigDecimal("10.50"), UUID.randomUUID(),
+                OrderDirection.DESC, LocalDate.of(2026, 10, 18), LocalDateTime.of(2026, 10, 18, 10, 15),
+                Instant.parse("2026-10-18T10:15:30Z"), timestamp
+        );
+
+        String encoded = cursor.encode();
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+
+        ProjectionCursor decoded = ProjectionCursor.decode(encoded);
+        assertEquals(cursor.values().subList(0, 7), decoded.values().subList(0, 7));
+        assertEquals("DESC", decoded.values().get(7));
+        assertEquals(cursor.values().subList(8, 12), decoded.values().subList(8, 12));
+        assertEquals(Long.class, decoded.values().get(1).getClass());
+        assertEquals(Integer.class, decoded.values().get(2).getClass());
+        assertEquals(timestamp.getNanos(), ((Timestamp) decoded.values().get(11)).getNanos());
+        assertEquals(ProjectionCursor.UNBOUND, decoded.fingerprint());
+    }
+
+    @Test
+    public void encodeAndDecode_withFingerprint(){
+        ProjectionCursor cursor = new ProjectionCursor(List.of("Maria", 42L), -123456);
+
+        assertEquals(cursor, ProjectionCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    public void create_withoutValues(){
+        IllegalArgumentException exception = assertThrowsExactly(IllegalArgumentException.class, () -> new ProjectionCursor(List.of()));
+        assertEquals("ProjectionCursor requires at least one value", exception.getMessage());
+    }
+
+    @Test
+    public void create_withNullValue(){
+        IllegalArgumentException exception = assertThrowsExactly(IllegalArgumentException.class, () -> ProjectionCursor.of("Maria", null));
+        assertEquals("ProjectionCursor values cannot be null", exception.getMessage());
+    }
+
+    @Test
+    public void encode_withUnsupportedValue(){
+        ProjectionCursor cursor = ProjectionCursor.of(new Object());
+        IllegalArgumentException exception = assertThrowsExactly(IllegalArgumentException.class, cursor::encode);
+        assertEquals("Unsupported ProjectionCursor value type: java.lang.Object", exception.getMessage());
+    }
+
+    @Test
+    public void decode_invalid(){
+        assertThrowsExactly(IllegalArgumentException.class, () -> ProjectionCursor.decode("not a cursor"));
+        assertThrowsExactly(IllegalArgumentException.class, () -> ProjectionCursor.decode("AQAB"));
+        assertThrowsExactly(IllegalArgumentException.class, () -> ProjectionCursor.decode(""));
+
+        String encoded = ProjectionCursor.of(1L).encode();
+        assertThrowsExactly(IllegalArgumentException.class, () -> ProjectionCursor.decode(encoded + "AA"));
+    }
+
+    @Test
+    public void encode_enumByName(){
+        String encoded = ProjectionCursor.of(OrderDirection.DESC).encode();
+
+        String bytes = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        assertFalse(bytes.contains(OrderDirection.class.getName()));
+        assertEquals(List.of("DESC"), ProjectionCursor.decode(encoded).values());
+    }
+
+    @Test
+    public void decode_doesNotReadClassNames() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(DataOutputStream out = new DataOutputStream(bytes)){
+            out.writeByte(2);
+            out.writeInt(ProjectionCursor.UNBOUND);
+            out.writeShort(1);
+            out.writeByte('E');
+            out.writeUTF(String.class.getName());
+            out.writeUTF("ASC");
+        }
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+
+        IllegalArgumentException exception = assertThrowsExactly(IllegalArgumentException.class, () -> ProjectionCursor.decode(forged));
+        assertEquals("Unsupported ProjectionCursor version", exception.getCause().getMessage());
+    }
+}
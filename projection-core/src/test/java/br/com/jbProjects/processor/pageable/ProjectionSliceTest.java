@@ -0,0 +1,49 @@
+package br.com.jbProjects.processor.pageable;
+
+import br.com.jbProjects.processor.query.ProjectionPaging;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+class ProjectionSliceTest {
+
+    @Test
+    public void createWithNullContent(){
+        ProjectionSlice<String> slice = new ProjectionSlice<>(null, 0, 10, false);
+        assertNotNull(slice.content());
+        assertTrue(slice.isEmpty());
+    }
+
+    @Test
+    public void of_withExtraRow(){
+        ProjectionSlice<String> slice = ProjectionSlice.of(List.of("a", "b", "c"), new ProjectionPaging(2, 2));
+        assertEquals(List.of("a", "b"), slice.content());
+        assertEquals(1, slice.pageNumber());
+        assertEquals(2, slice.pageSize());
+        assertTrue(slice.hasNext());
+        assertTrue(slice.hasPrevious());
+    }
+
+    @Test
+    public void of_withoutExtraRow(){
+        ProjectionSlice<String> slice = ProjectionSlice.of(List.of("a", "b"), new ProjectionPaging(0, 2));
+        assertEquals(List.of("a", "b"), slice.content());
+        assertEquals(0, slice.pageNumber());
+        assertFalse(slice.hasNext());
+        assertFalse(slice.hasPrevious());
+    }
+
+    @Test
+    public void empty(){
+        ProjectionSlice<String> slice = ProjectionSlice.empty(new ProjectionPaging(20, 10));
+        assertTrue(slice.isEmpty());
+        assertEquals(2, slice.pageNumber());
+        assertEquals(10, slice.pageSize());
+        assertFalse(slice.hasNext());
+    }
+}
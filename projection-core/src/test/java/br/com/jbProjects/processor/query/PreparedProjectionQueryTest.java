@@ -0,0 +1,86 @@
+package br.com.jbProjects.processor.query;
+
+import br.com.jbProjects.config.testModel.customer.domain.Customer;
+import br.com.jbProjects.config.testModel.customer.projections.CustomerName;
+import br.com.jbProjects.processor.filter.ProjectionFilters;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+class PreparedProjectionQueryTest {
+
+    private final PreparedProjectionQuery<Customer, CustomerName> prepared = PreparedProjectionQuery.of(
+            ProjectionQuery
+                    .fromTo(Customer.class, CustomerName.class)
+                    .filter(ProjectionFilters.equal("name", ProjectionFilters.param("name")))
+                    .filter(ProjectionFilters.or(
+                            ProjectionFilters.greaterThan("age", ProjectionFilters.param("minAge")),
+                            ProjectionFilters.in("id", ProjectionFilters.param("ids"))
+                    ))
+                    .filter(ProjectionFilters.notEqual("email", "none"))
+    );
+
+    @Test
+    public void of(){
+        assertEquals(Customer.class, prepared.fromClass());
+        assertEquals(CustomerName.class, prepared.toClass());
+        assertEquals(List.of("name", "minAge", "ids"), List.copyOf(prepared.parameterNames()));
+    }
+
+    @Test
+    public void of_doesNotShareTemplate(){
+        ProjectionQuery<Customer, CustomerName> template = ProjectionQuery
+                .fromTo(Customer.class, CustomerName.class)
+                .filter(ProjectionFilters.equal("name", ProjectionFilters.param("name")))
+                .parameter("name", "John");
+
+        PreparedProjectionQuery<Customer, CustomerName> preparedQuery = PreparedProjectionQuery.of(template);
+        template.filter(ProjectionFilters.equal("email", ProjectionFilters.param("email")));
+
+        assertEquals(Set.of("name"), preparedQuery.parameterNames());
+        assertThrows(IllegalArgumentException.class, () -> preparedQuery.bind(Map.of()));
+    }
+
+    @Test
+    public void of_unsupportedOperator(){
+        ProjectionQuery<Customer, CustomerName> template = ProjectionQuery
+                .fromTo(Customer.class, CustomerName.class)
+                .filter("age", "BETWEEN", ProjectionFilters.param("range"));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> PreparedProjectionQuery.of(template));
+        assertEquals("Operator BETWEEN does not support parameters: age", exception.getMessage());
+    }
+
+    @Test
+    public void bind(){
+        ProjectionQuery<Customer, CustomerName> query = prepared.bind(Map.of("name", "John", "minAge", 18, "ids", List.of(1L, 2L)));
+        ProjectionQuery<Customer, CustomerName> other = prepared.bind(Map.of("name", "Mary", "minAge", 30, "ids", List.of(3L)));
+
+        assertEquals(Map.of("name", "John", "minAge", 18, "ids", List.of(1L, 2L)), query.getParameters());
+        assertEquals(Map.of("name", "Mary", "minAge", 30, "ids", List.of(3L)), other.getParameters());
+        assertEquals(query.getFilters(), other.getFilters());
+        assertNotSame(query, other);
+    }
+
+    @Test
+    public void bind_missingParameter(){
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> prepared.bind(Map.of("name", "John", "minAge", 18)));
+        assertEquals("Missing value for parameter: ids", exception.getMessage());
+    }
+
+    @Test
+    public void bind_unknownParameter(){
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> prepared.bind(Map.of("name", "John", "minAge", 18, "ids", List.of(1L), "status", "ACTIVE"))
+        );
+        assertEquals("Unknown parameter: status. Available parameters: [name, minAge, ids]", exception.getMessage());
+    }
+}
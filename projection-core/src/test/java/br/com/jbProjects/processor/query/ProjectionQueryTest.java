@@ -177,10 +177,12 @@ class ProjectionQueryTest {
                 .paging(5, 10)
                 .order("name", OrderDirection.DESC)
                 .filter("age", ProjectionFilterOperator.GREATER_THAN, 21)
+                .parameter("status", "ACTIVE")
                 .specification((criteriaBuilder, query, root, pathResolver) ->
                         criteriaBuilder.equal(pathResolver.resolve(root, "id"), 1));
 
         ProjectionQuery<Customer, CustomerName> copy = projectionQuery.copy();
+        assertEquals(projectionQuery.getParameters(), copy.getParameters());
 
         assertEquals(projectionQuery.fromClass(), copy.fromClass());
         assertEquals(projectionQuery.toClass(), copy.toClass());
@@ -0,0 +1,61 @@
+package br.com.jbProjects.apt;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Compile-time model of a projection class, extracted from its annotation mirrors.</p>
+ *
+ * <p>This is the annotation processing counterpart of
+ * {@link br.com.jbProjects.metadata.model.ProjectionStructure}: all paths are already
+ * resolved against the declared aliases, and all type names are canonical names that
+ * can be written directly into generated sources.
+ *
+ * @param packageName      Package of the projection class
+ * @param generatedName    Simple name of the generated metadata class
+ * @param projectionType   Canonical name of the projection class
+ * @param entityType       Canonical name of the entity declared in {@code @Projection(of = ...)}
+ * @param joins            Resolved joins
+ * @param fields           Resolved projection fields, in mapping order
+ * @param aliasMap         Declared aliases and their paths
+ * @param mapper           Row mapper source model, or {@code null} when it cannot be generated
+ */
+record ProjectionElement(
+        String packageName,
+        String generatedName,
+        String projectionType,
+        String entityType,
+        List<Join> joins,
+        List<Field> fields,
+        Map<String, String> aliasMap,
+        Mapper mapper
+) {
+
+    /**
+     * A resolved join.
+     *
+     * @param path     Resolved join path
+     * @param joinType Name of the {@link jakarta.persistence.criteria.JoinType} constant
+     */
+    record Join(String path, String joinType) {}
+
+    /**
+     * A resolved projection field.
+     *
+     * @param name          Field name in the projection class
+     * @param path          Resolved entity path
+     * @param selectHandler Canonical name of the select handler class
+     * @param deduplicate   Whether repeated string values are deduplicated
+     */
+    record Field(String name, String path, String selectHandler, boolean deduplicate) {}
+
+    /**
+     * Source model of the generated row mapper.
+     *
+     * @param record    {@code true} to instantiate through the canonical constructor
+     * @param arguments For records, the cast expression of each constructor argument in
+     *                  component order; for classes, one assignment statement per field
+     */
+    record Mapper(boolean record, List<String> arguments) {}
+}
@@ -0,0 +1,452 @@
+package br.com.jbProjects.apt;
+
+import br.com.jbProjects.annotations.Projection;
+import br.com.jbProjects.annotations.ProjectionField;
+import br.com.jbProjects.metadata.factory.GeneratedProjectionMetadata;
+import br.com.jbProjects.metadata.resolver.ProjectionAliasResolver;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Annotation processor that generates projection metadata and row mappers at compile time.</p>
+ *
+ * <p>For each class annotated with {@link Projection}, this processor reads the
+ * {@link Projection}, {@link ProjectionField} and {@link br.com.jbProjects.annotations.ProjectionJoin}
+ * declarations and emits a {@link GeneratedProjectionMetadata} implementation in the same package.
+ * At runtime, {@link br.com.jbProjects.metadata.factory.ProjectionMetadataFactory} picks the generated
+ * class up instead of reflecting over the projection, and the generated plain-Java mapper replaces
+ * the runtime-compiled one.
+ *
+ * <p>Invalid projections are reported as compilation errors instead of failing on the first query:
+ * <ul>
+ *     <li>{@code of} attribute that is not a JPA entity</li>
+ *     <li>Duplicate aliases, or aliases equal to a join path</li>
+ *     <li>Field or join paths that cannot be resolved on the entity</li>
+ * </ul>
+ *
+ * <p>A mapper is only generated when the projection can be instantiated from generated code
+ * (accessible constructor, and accessible fields or setters for classes). Otherwise only the
+ * structure is generated and the mapper keeps being compiled at runtime.
+ *
+ * <p><b>Setup:</b>
+ * <pre>{@code
+ * <dependency>
+ *     <groupId>io.github.juliocmbueno</groupId>
+ *     <artifactId>projection-processor</artifactId>
+ *     <version>${projection.version}</version>
+ *     <scope>provided</scope>
+ * </dependency>
+ * }</pre>
+ */
+@SupportedAnnotationTypes("br.com.jbProjects.annotations.Projection")
+public class ProjectionMetadataProcessor extends AbstractProcessor {
+
+    private static final String ENTITY_ANNOTATION = "jakarta.persistence.Entity";
+
+    /**
+     * Default constructor, used by the compiler through service loading.
+     */
+    public ProjectionMetadataProcessor() {}
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(Projection.class)) {
+            if (element instanceof TypeElement typeElement) {
+                ProjectionElement projection = read(typeElement);
+                if (projection != null) {
+                    write(projection, typeElement);
+                }
+            }
+        }
+        return false;
+    }
+
+    private ProjectionElement read(TypeElement typeElement) {
+        if (!isReferenceable(typeElement)) {
+            note("Projection metadata not generated: class is not accessible from its package", typeElement);
+            return null;
+        }
+
+        AnnotationMirror projectionMirror = mirror(typeElement, Projection.class.getName());
+        Map<String, AnnotationValue> projectionValues = values(projectionMirror);
+
+        // Unresolved types are reported by the compiler itself
+        if (!(projectionValues.get("of").getValue() instanceof DeclaredType entityType)) {
+            return null;
+        }
+
+        TypeElement entity = (TypeElement) entityType.asElement();
+        if (mirror(entity, ENTITY_ANNOTATION) == null) {
+            error("Projection 'of' attribute must be an entity class", typeElement, projectionMirror);
+            return null;
+        }
+
+        Map<String, String> aliasMap = readAliases(typeElement, projectionMirror, projectionValues);
+        if (aliasMap == null) {
+            return null;
+        }
+
+        ProjectionAliasResolver aliasResolver;
+        try {
+            aliasResolver = ProjectionAliasResolver.of(aliasMap);
+        } catch (IllegalArgumentException e) {
+            error(e.getMessage(), typeElement, projectionMirror);
+            return null;
+        }
+
+        boolean valid = true;
+
+        List<ProjectionElement.Join> joins = new ArrayList<>();
+        for (AnnotationMirror joinMirror : joinMirrors(projectionValues)) {
+            Map<String, AnnotationValue> joinValues = values(joinMirror);
+            String path = aliasResolver.resolve((String) joinValues.get("path").getValue());
+            String joinType = ((VariableElement) joinValues.get("type").getValue()).getSimpleName().toString();
+
+            valid &= validatePath(entity, path, typeElement, joinMirror);
+            joins.add(new ProjectionElement.Join(path, joinType));
+        }
+
+        List<VariableElement> fieldElements = projectionFields(typeElement);
+        List<ProjectionElement.Field> fields = new ArrayList<>();
+        for (VariableElement fieldElement : fieldElements) {
+            AnnotationMirror fieldMirror = mirror(fieldElement, ProjectionField.class.getName());
+            Map<String, AnnotationValue> fieldValues = values(fieldMirror);
+
+            String declaredPath = (String) fieldValues.get("value").getValue();
+            String name = fieldElement.getSimpleName().toString();
+            String path = aliasResolver.resolve(declaredPath.isEmpty() ? name : declaredPath);
+            if (!(fieldValues.get("selectHandler").getValue() instanceof TypeMirror selectHandlerType)) {
+                return null;
+            }
+
+            String selectHandler = canonicalName(selectHandlerType);
+            boolean deduplicate = Boolean.TRUE.equals(fieldValues.get("deduplicate").getValue());
+
+            valid &= validatePath(entity, path, fieldElement, fieldMirror);
+            fields.add(new ProjectionElement.Field(name, path, selectHandler, deduplicate));
+        }
+
+        if (!valid) {
+            return null;
+        }
+
+        String binaryName = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+        String generatedName = GeneratedProjectionMetadata.generatedClassName(binaryName);
+        String packageName = processingEnv.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+
+        return new ProjectionElement(
+                packageName,
+                generatedName.substring(generatedName.lastIndexOf('.') + 1),
+                typeElement.getQualifiedName().toString(),
+                entity.getQualifiedName().toString(),
+                joins,
+                fields,
+                aliasMap,
+                mapper(typeElement, fieldElements, packageName)
+        );
+    }
+
+    private Map<String, String> readAliases(TypeElement typeElement, AnnotationMirror projectionMirror, Map<String, AnnotationValue> projectionValues) {
+        List<AnnotationMirror> joinMirrors = joinMirrors(projectionValues);
+
+        Set<String> allPaths = new HashSet<>();
+        for (AnnotationMirror joinMirror : joinMirrors) {
+            allPaths.add((String) values(joinMirror).get("path").getValue());
+        }
+
+        Map<String, String> aliasMap = new LinkedHashMap<>();
+        for (AnnotationMirror joinMirror : joinMirrors) {
+            Map<String, AnnotationValue> joinValues = values(joinMirror);
+            String alias = (String) joinValues.get("alias").getValue();
+            String path = (String) joinValues.get("path").getValue();
+
+            if (alias.isBlank()) {
+                continue;
+            }
+
+            if (allPaths.contains(alias)) {
+                error("Alias '" + alias + "' cannot be equal a path", typeElement, projectionMirror);
+                return null;
+            }
+
+            if (aliasMap.containsKey(alias)) {
+                error("Duplicate alias detected: '" + alias + "'", typeElement, projectionMirror);
+                return null;
+            }
+
+            aliasMap.put(alias, path);
+        }
+
+        return aliasMap;
+    }
+
+    /**
+     * Collects the projection fields in the same order used at runtime: declared fields of the
+     * class first, followed by the fields of each superclass.
+     */
+    private List<VariableElement> projectionFields(TypeElement typeElement) {
+        List<VariableElement> fields = new ArrayList<>();
+        for (TypeElement current = typeElement; current != null; current = superclass(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (mirror(field, ProjectionField.class.getName()) != null) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private boolean validatePath(TypeElement entity, String path, Element element, AnnotationMirror mirror) {
+        TypeMirror current = entity.asType();
+
+        for (String attribute : path.split("\\.")) {
+            if (!(current instanceof DeclaredType declaredType)) {
+                return true;
+            }
+
+            TypeMirror attributeType = attributeType((TypeElement) declaredType.asElement(), attribute);
+            if (attributeType == null) {
+                error(
+                        "Path '" + path + "' cannot be resolved on entity " + entity.getSimpleName() + ": attribute '" + attribute + "' not found",
+                        element,
+                        mirror
+                );
+                return false;
+            }
+
+            current = elementType(attributeType);
+        }
+
+        return true;
+    }
+
+    private TypeMirror attributeType(TypeElement type, String attribute) {
+        String capitalized = Character.toUpperCase(attribute.charAt(0)) + attribute.substring(1);
+
+        for (TypeElement current = type; current != null; current = superclass(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC) && field.getSimpleName().contentEquals(attribute)) {
+                    return field.asType();
+                }
+            }
+
+            for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                String name = method.getSimpleName().toString();
+                if (method.getParameters().isEmpty() && (name.equals("get" + capitalized) || name.equals("is" + capitalized))) {
+                    return method.getReturnType();
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the element type of collection and map attributes, so that paths can navigate
+     * through plural associations.
+     */
+    private TypeMirror elementType(TypeMirror attributeType) {
+        if (!(attributeType instanceof DeclaredType declaredType) || declaredType.getTypeArguments().isEmpty()) {
+            return attributeType;
+        }
+
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(attributeType);
+        for (String plural : List.of("java.util.Collection", "java.util.Map")) {
+            TypeElement pluralElement = processingEnv.getElementUtils().getTypeElement(plural);
+            if (pluralElement != null && processingEnv.getTypeUtils().isAssignable(erasure, processingEnv.getTypeUtils().erasure(pluralElement.asType()))) {
+                List<? extends TypeMirror> arguments = declaredType.getTypeArguments();
+                return arguments.get(arguments.size() - 1);
+            }
+        }
+
+        return attributeType;
+    }
+
+    private ProjectionElement.Mapper mapper(TypeElement typeElement, List<VariableElement> fieldElements, String packageName) {
+        List<String> names = fieldElements.stream().map(field -> field.getSimpleName().toString()).toList();
+
+        if (typeElement.getKind() == ElementKind.RECORD) {
+            return recordMapper(typeElement, names);
+        }
+
+        return classMapper(typeElement, fieldElements, packageName);
+    }
+
+    private ProjectionElement.Mapper recordMapper(TypeElement typeElement, List<String> names) {
+        List<String> arguments = new ArrayList<>();
+
+        for (RecordComponentElement component : typeElement.getRecordComponents()) {
+            int position = names.indexOf(component.getSimpleName().toString());
+            TypeMirror type = component.asType();
+
+            if (position < 0) {
+                if (type.getKind().isPrimitive()) {
+                    return null;
+                }
+                arguments.add("null");
+            } else {
+                arguments.add("(" + castType(type) + ") row[" + position + "]");
+            }
+        }
+
+        return new ProjectionElement.Mapper(true, arguments);
+    }
+
+    private ProjectionElement.Mapper classMapper(TypeElement typeElement, List<VariableElement> fieldElements, String packageName) {
+        boolean innerClass = typeElement.getNestingKind() == NestingKind.MEMBER && !typeElement.getModifiers().contains(Modifier.STATIC);
+        if (innerClass || typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            return null;
+        }
+
+        boolean hasNoArgsConstructor = ElementFilter.constructorsIn(typeElement.getEnclosedElements())
+                .stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty() && isAccessible(constructor, packageName));
+        if (!hasNoArgsConstructor) {
+            return null;
+        }
+
+        List<ExecutableElement> methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(typeElement));
+        List<String> statements = new ArrayList<>();
+
+        for (int i = 0; i < fieldElements.size(); i++) {
+            VariableElement field = fieldElements.get(i);
+            String name = field.getSimpleName().toString();
+            String value = "(" + castType(field.asType()) + ") row[" + i + "]";
+
+            if (isAccessible(field, packageName) && !field.getModifiers().contains(Modifier.FINAL)) {
+                statements.add("projection." + name + " = " + value + ";");
+                continue;
+            }
+
+            String setterName = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            boolean hasSetter = methods
+                    .stream()
+                    .anyMatch(method -> method.getSimpleName().contentEquals(setterName)
+                            && method.getParameters().size() == 1
+                            && isAccessible(method, packageName));
+            if (!hasSetter) {
+                return null;
+            }
+
+            statements.add("projection." + setterName + "(" + value + ");");
+        }
+
+        return new ProjectionElement.Mapper(false, statements);
+    }
+
+    private void write(ProjectionElement projection, TypeElement typeElement) {
+        String qualifiedName = projection.packageName().isEmpty()
+                ? projection.generatedName()
+                : projection.packageName() + "." + projection.generatedName();
+
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedName, typeElement);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(ProjectionSourceWriter.write(projection, getClass().getName()));
+            }
+        } catch (IOException e) {
+            error("Unable to write projection metadata " + qualifiedName + ": " + e.getMessage(), typeElement, null);
+        }
+    }
+
+    private boolean isReferenceable(TypeElement typeElement) {
+        for (Element current = typeElement; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isAccessible(Element member, String packageName) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+
+        String memberPackage = processingEnv.getElementUtils().getPackageOf(member).getQualifiedName().toString();
+        return memberPackage.equals(packageName);
+    }
+
+    private String castType(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((javax.lang.model.type.PrimitiveType) type).getQualifiedName().toString();
+        }
+        return canonicalName(type);
+    }
+
+    private String canonicalName(TypeMirror type) {
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        if (erasure.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) ((DeclaredType) erasure).asElement()).getQualifiedName().toString();
+        }
+        return erasure.toString();
+    }
+
+    private TypeElement superclass(TypeElement typeElement) {
+        TypeMirror superclass = typeElement.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        TypeElement superElement = (TypeElement) ((DeclaredType) superclass).asElement();
+        return superElement.getQualifiedName().contentEquals("java.lang.Object") ? null : superElement;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<AnnotationMirror> joinMirrors(Map<String, AnnotationValue> projectionValues) {
+        return ((List<? extends AnnotationValue>) projectionValues.get("joins").getValue())
+                .stream()
+                .map(value -> (AnnotationMirror) value.getValue())
+                .toList();
+    }
+
+    private AnnotationMirror mirror(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotation.getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private Map<String, AnnotationValue> values(AnnotationMirror mirror) {
+        Map<String, AnnotationValue> values = new HashMap<>();
+        processingEnv.getElementUtils()
+                .getElementValuesWithDefaults(mirror)
+                .forEach((key, value) -> values.put(key.getSimpleName().toString(), value));
+        return values;
+    }
+
+    private void error(String message, Element element, AnnotationMirror mirror) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element, mirror);
+    }
+
+    private void note(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, element);
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.jbProjects.apt;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ * <p>Renders the source code of the {@link br.com.jbProjects.metadata.factory.GeneratedProjectionMetadata}
+ * implementation of a {@link ProjectionElement}.</p>
+ *
+ * <p>All type references are written with their canonical names, so the generated
+ * source needs no imports and cannot clash with names declared in the projection package.
+ */
+class ProjectionSourceWriter {
+
+    private ProjectionSourceWriter() {}
+
+    /**
+     * Renders the generated metadata class.
+     *
+     * @param projection     The projection model
+     * @param generatorName  Name written into the {@code @Generated} annotation
+     * @return The Java source of the generated class
+     */
+    static String write(ProjectionElement projection, String generatorName) {
+        StringBuilder source = new StringBuilder();
+
+        if (!projection.packageName().isEmpty()) {
+            source.append("package ").append(projection.packageName()).append(";\n\n");
+        }
+
+        source.append("@javax.annotation.processing.Generated(").append(literal(generatorName)).append(")\n")
+                .append("public final class ").append(projection.generatedName())
+                .append(" implements br.com.jbProjects.metadata.factory.GeneratedProjectionMetadata {\n\n");
+
+        source.append("    @Override\n")
+                .append("    public java.lang.Class<?> entityClass() {\n")
+                .append("        return ").append(projection.entityType()).append(".class;\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public br.com.jbProjects.metadata.model.ProjectionStructure structure() {\n")
+                .append("        return new br.com.jbProjects.metadata.model.ProjectionStructure(\n")
+                .append("                ").append(joins(projection.joins())).append(",\n")
+                .append("                ").append(fields(projection.fields())).append(",\n")
+                .append("                ").append(aliasMap(projection.aliasMap())).append("\n")
+                .append("        );\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public br.com.jbProjects.mapper.ProjectionRowMapper<").append(projection.projectionType()).append("> rowMapper() {\n")
+                .append(rowMapper(projection))
+                .append("    }\n")
+                .append("}\n");
+
+        return source.toString();
+    }
+
+    private static String joins(List<ProjectionElement.Join> joins) {
+        return joins.stream()
+                .map(join -> "\n                        new br.com.jbProjects.metadata.model.JoinMetadata("
+                        + literal(join.path()) + ", jakarta.persistence.criteria.JoinType." + join.joinType() + ")")
+                .collect(Collectors.joining(",", "java.util.List.of(", joins.isEmpty() ? ")" : "\n                )"));
+    }
+
+    private static String fields(List<ProjectionElement.Field> fields) {
+        return fields.stream()
+                .map(field -> "\n                        new br.com.jbProjects.metadata.model.FieldMetadata("
+                        + literal(field.name()) + ", " + literal(field.path()) + ", " + field.selectHandler() + ".class, " + field.deduplicate() + ")")
+                .collect(Collectors.joining(",", "java.util.List.of(", fields.isEmpty() ? ")" : "\n                )"));
+    }
+
+    private static String aliasMap(Map<String, String> aliasMap) {
+        return aliasMap.entrySet()
+                .stream()
+                .map(entry -> "\n                        java.util.Map.entry(" + literal(entry.getKey()) + ", " + literal(entry.getValue()) + ")")
+                .collect(Collectors.joining(",", "java.util.Map.ofEntries(", aliasMap.isEmpty() ? ")" : "\n                )"));
+    }
+
+    private static String rowMapper(ProjectionElement projection) {
+        ProjectionElement.Mapper mapper = projection.mapper();
+        if (mapper == null) {
+            return "        return null;\n";
+        }
+
+        if (mapper.record()) {
+            return mapper.arguments()
+                    .stream()
+                    .map(argument -> "\n                " + argument)
+                    .collect(Collectors.joining(
+                            ",",
+                            "        return row -> new " + projection.projectionType() + "(",
+                            mapper.arguments().isEmpty() ? ");\n" : "\n        );\n"
+                    ));
+        }
+
+        StringBuilder body = new StringBuilder();
+        body.append("        return row -> {\n")
+                .append("            ").append(projection.projectionType()).append(" projection = new ")
+                .append(projection.projectionType()).append("();\n");
+        mapper.arguments().forEach(statement -> body.append("            ").append(statement).append("\n"));
+        body.append("            return projection;\n")
+                .append("        };\n");
+        return body.toString();
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char character : value.toCharArray()) {
+            switch (character) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> literal.append(character);
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
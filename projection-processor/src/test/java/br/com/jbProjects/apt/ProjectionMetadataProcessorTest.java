@@ -0,0 +1,334 @@
+package br.com.jbProjects.apt;
+
+import br.com.jbProjects.mapper.ProjectionRowMapper;
+import br.com.jbProjects.metadata.factory.GeneratedProjectionMetadata;
+import br.com.jbProjects.metadata.factory.ProjectionMetadataFactory;
+import br.com.jbProjects.metadata.model.FieldMetadata;
+import br.com.jbProjects.metadata.model.JoinMetadata;
+import br.com.jbProjects.metadata.model.ProjectionMetadata;
+import br.com.jbProjects.processor.selectOperator.handler.DefaultSelectOperatorHandler;
+import br.com.jbProjects.processor.selectOperator.handler.ProjectionSelectOperatorHandler;
+import jakarta.persistence.criteria.JoinType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by julio.bueno on 18/10/2026.
+ */
+class ProjectionMetadataProcessorTest {
+
+    private static final String CUSTOMER = """
+            package sample;
+
+            @jakarta.persistence.Entity
+            public class Customer {
+                @jakarta.persistence.Id
+                private Long id;
+                private String name;
+                private int age;
+                @jakarta.persistence.ManyToOne
+                private Address address;
+                @jakarta.persistence.OneToMany
+                private java.util.List<Address> addresses;
+            }
+            """;
+
+    private static final String ADDRESS = """
+            package sample;
+
+            @jakarta.persistence.Entity
+            public class Address {
+                @jakarta.persistence.Id
+                private Long id;
+                private String city;
+            }
+            """;
+
+    @TempDir
+    Path output;
+
+    @Test
+    void process_withRecord() throws Exception {
+        String projection = """
+                package sample;
+
+                import br.com.jbProjects.annotations.*;
+
+                @Projection(of = Customer.class, joins = @ProjectionJoin(path = "address", alias = "addr", type = jakarta.persistence.criteria.JoinType.LEFT))
+                public record CustomerRecord(
+                        @ProjectionField Long id,
+                        @ProjectionField("addr.city") String city,
+                        @ProjectionField int age,
+                        String notProjected
+                ) {}
+                """;
+
+        ClassLoader classLoader = compile(Map.of("sample.CustomerRecord", projection));
+        Class<?> projectionClass = classLoader.loadClass("sample.CustomerRecord");
+        GeneratedProjectionMetadata generated = generated(classLoader, "sample.CustomerRecord_ProjectionMetadata");
+
+        Assertions.assertEquals(classLoader.loadClass("sample.Customer"), generated.entityClass());
+        Assertions.assertEquals(List.of(new JoinMetadata("address", JoinType.LEFT)), generated.structure().joins());
+        Assertions.assertEquals(
+                List.of(
+                        new FieldMetadata("id", "id", DefaultSelectOperatorHandler.class),
+                        new FieldMetadata("city", "address.city", DefaultSelectOperatorHandler.class),
+                        new FieldMetadata("age", "age", DefaultSelectOperatorHandler.class)
+                ),
+                generated.structure().fields()
+        );
+        Assertions.assertEquals(Map.of("addr", "address"), generated.structure().aliasMap());
+
+        Object result = generated.rowMapper().map(new Object[]{1L, "Lisbon", 30});
+        Assertions.assertEquals(
+                projectionClass.getDeclaredConstructors()[0].newInstance(1L, "Lisbon", 30, null),
+                result
+        );
+    }
+
+    @Test
+    void process_withClass() throws Exception {
+        String projection = """
+                package sample;
+
+                import br.com.jbProjects.annotations.*;
+
+                @Projection(of = Customer.class)
+                public class CustomerClass {
+                    @ProjectionField
+                    Long id;
+
+                    @ProjectionField
+                    private String name;
+
+                    public String getName() { return name; }
+                    public void setName(String name) { this.name = name; }
+                    public Long getId() { return id; }
+                }
+                """;
+
+        ClassLoader classLoader = compile(Map.of("sample.CustomerClass", projection));
+        GeneratedProjectionMetadata generated = generated(classLoader, "sample.CustomerClass_ProjectionMetadata");
+
+        Object result = generated.rowMapper().map(new Object[]{1L, "John"});
+        Assertions.assertEquals(1L, result.getClass().getMethod("getId").invoke(result));
+        Assertions.assertEquals("John", result.getClass().getMethod("getName").invoke(result));
+    }
+
+    @Test
+    void process_withInaccessibleMembers_generatesStructureOnly() throws Exception {
+        String projection = """
+                package sample;
+
+                import br.com.jbProjects.annotations.*;
+
+                @Projection(of = Customer.class)
+                public class CustomerWithoutSetter {
+                    @ProjectionField
+                    private String name;
+
+                    public String getName() { return name; }
+                }
+                """;
+
+        ClassLoader classLoader = compile(Map.of("sample.CustomerWithoutSetter", projection));
+        GeneratedProjectionMetadata generated = generated(classLoader, "sample.CustomerWithoutSetter_ProjectionMetadata");
+
+        Assertions.assertNull(generated.rowMapper());
+        Assertions.assertEquals(1, generated.structure().fields().size());
+
+        Class<?> projectionClass = classLoader.loadClass("sample.CustomerWithoutSetter");
+        ProjectionMetadata metadata = ProjectionMetadataFactory.of(projectionClass);
+        Object result = metadata.rowMapper().map(new Object[]{"John"});
+        Assertions.assertEquals("John", projectionClass.getMethod("getName").invoke(result));
+    }
+
+    @Test
+    void process_factoryUsesGeneratedMetadata() throws Exception {
+        String projection = """
+                package sample;
+
+                import br.com.jbProjects.annotations.*;
+
+                @Projection(of = Customer.class)
+                public record CustomerName(@ProjectionField String name) {}
+                """;
+
+        ClassLoader classLoader = compile(Map.of("sample.CustomerName", projection));
+        Class<?> projectionClass = classLoader.loadClass("sample.CustomerName");
+        GeneratedProjectionMetadata generated = generated(classLoader, "sample.CustomerName_ProjectionMetadata");
+
+        ProjectionMetadata metadata = ProjectionMetadataFactory.of(projectionClass);
+        Assertions.assertEquals(generated.structure().fields(), metadata.fields());
+        Assertions.assertEquals(generated.entityClass(), metadata.entityClass());
+
+        ProjectionRowMapper<?> rowMapper = metadata.rowMapper();
+        Assertions.assertEquals(generated.rowMapper().getClass(), rowMapper.getClass());
+    }
+
+    @Test
+    void process_withPluralPath() throws Exception {
+        String projection = """
+                package sample;
+
+                import br.com.jbProjects.annotations.*;
+
+                @Projection(of = Customer.class, joins = @ProjectionJoin(path = "addresses"))
+                public record CustomerCities(@ProjectionField("addresses.city") String city) {}
+                """;
+
+        ClassLoader classLoader = compile(Map.of("sample.CustomerCities", projection));
+        GeneratedProjectionMetadata generated = generated(classLoader, "sample.CustomerCities_ProjectionMetadata");
+
+        Assertions.assertEquals("addresses.city", generated.structure().fields().get(0).value());
+    }
+
+    @Test
+    void process_withCustomSelectHandler() throws Exception {
+        String projection = """
+                package sample;
+
+                import br.com.jbProjects.annotations.*;
+
+                @Projection(of = Customer.class)
+                public record CustomerCount(
+                        @ProjectionField(value = "id", selectHandler = br.com.jbProjects.processor.selectOperator.handler.CountHandler.class) Long total
+                ) {}
+                """;
+
+        ClassLoader classLoader = compile(Map.of("sample.CustomerCount", projection));
+        GeneratedProjectionMetadata generated = generated(classLoader, "sample.CustomerCount_ProjectionMetadata");
+
+        Class<? extends ProjectionSelectOperatorHandler> selectHandler = generated.structure().fields().get(0).selectHandler();
+        Assertions.assertEquals("CountHandler", selectHandler.getSimpleName());
+    }
+
+    @Test
+    void process_withInvalidPath() {
+        String projection = """
+                package sample;
+
+                import br.com.jbProjects.annotations.*;
+
+                @Projection(of = Customer.class)
+                public record InvalidPath(@ProjectionField("address.street") String street) {}
+                """;
+
+        String errors = compileWithErrors(Map.of("sample.InvalidPath", projection));
+        Assertions.assertTrue(errors.contains("Path 'address.street' cannot be resolved on entity Customer: attribute 'street' not found"), errors);
+    }
+
+    @Test
+    void process_withNonEntity() {
+        String projection = """
+                package sample;
+
+                import br.com.jbProjects.annotations.*;
+
+                @Projection(of = String.class)
+                public record NonEntity(@ProjectionField String name) {}
+                """;
+
+        String errors = compileWithErrors(Map.of("sample.NonEntity", projection));
+        Assertions.assertTrue(errors.contains("Projection 'of' attribute must be an entity class"), errors);
+    }
+
+    @Test
+    void process_withDuplicateAlias() {
+        String projection = """
+                package sample;
+
+                import br.com.jbProjects.annotations.*;
+
+                @Projection(of = Customer.class, joins = {
+                        @ProjectionJoin(path = "address", alias = "a"),
+                        @ProjectionJoin(path = "addresses", alias = "a")
+                })
+                public record DuplicateAlias(@ProjectionField String name) {}
+                """;
+
+        String errors = compileWithErrors(Map.of("sample.DuplicateAlias", projection));
+        Assertions.assertTrue(errors.contains("Duplicate alias detected: 'a'"), errors);
+    }
+
+    @Test
+    void process_withAliasEqualPath() {
+        String projection = """
+                package sample;
+
+                import br.com.jbProjects.annotations.*;
+
+                @Projection(of = Customer.class, joins = {
+                        @ProjectionJoin(path = "address", alias = "addresses"),
+                        @ProjectionJoin(path = "addresses")
+                })
+                public record AliasEqualPath(@ProjectionField String name) {}
+                """;
+
+        String errors = compileWithErrors(Map.of("sample.AliasEqualPath", projection));
+        Assertions.assertTrue(errors.contains("Alias 'addresses' cannot be equal a path"), errors);
+    }
+
+    @Test
+    void generatedClassName() {
+        Assertions.assertEquals("com.acme.CustomerDTO_ProjectionMetadata", GeneratedProjectionMetadata.generatedClassName("com.acme.CustomerDTO"));
+        Assertions.assertEquals("com.acme.Reports_CustomerRow_ProjectionMetadata", GeneratedProjectionMetadata.generatedClassName("com.acme.Reports$CustomerRow"));
+        Assertions.assertEquals("CustomerDTO_ProjectionMetadata", GeneratedProjectionMetadata.generatedClassName("CustomerDTO"));
+    }
+
+    private GeneratedProjectionMetadata generated(ClassLoader classLoader, String className) throws ReflectiveOperationException {
+        return (GeneratedProjectionMetadata) classLoader.loadClass(className).getDeclaredConstructor().newInstance();
+    }
+
+    private ClassLoader compile(Map<String, String> sources) throws IOException {
+        StringWriter diagnostics = new StringWriter();
+        boolean success = runCompiler(sources, diagnostics);
+        Assertions.assertTrue(success, diagnostics.toString());
+        return new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private String compileWithErrors(Map<String, String> sources) {
+        StringWriter diagnostics = new StringWriter();
+        boolean success = runCompiler(sources, diagnostics);
+        Assertions.assertFalse(success, "Compilation should have failed");
+        return diagnostics.toString();
+    }
+
+    private boolean runCompiler(Map<String, String> sources, StringWriter diagnostics) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+
+        List<JavaFileObject> compilationUnits = new ArrayList<>();
+        compilationUnits.add(source("sample.Customer", CUSTOMER));
+        compilationUnits.add(source("sample.Address", ADDRESS));
+        sources.forEach((name, content) -> compilationUnits.add(source(name, content)));
+
+        String classPath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+        List<String> options = List.of("-classpath", classPath, "-d", output.toString());
+
+        JavaCompiler.CompilationTask task = compiler.getTask(diagnostics, fileManager, null, options, null, compilationUnits);
+        task.setProcessors(List.of(new ProjectionMetadataProcessor()));
+        return task.call();
+    }
+
+    private JavaFileObject source(String name, String content) {
+        return new SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+}